@@ -0,0 +1,125 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.benchmark;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.batch.Batch;
+import com.github.fabriciofx.dict.batch.Format;
+import com.github.fabriciofx.dict.batch.JsonArray;
+import com.github.fabriciofx.dict.batch.Ndjson;
+import com.github.fabriciofx.dict.batch.XmlDocument;
+import com.github.fabriciofx.dict.xml.DictAsXml;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * BatchBenchmark.
+ *
+ * <p>Throughput of the batch encoder from one worker thread up to many,
+ * against encoding the dicts one by one, on the benchmark thread, with
+ * {@link Dict#asString()} and {@link DictAsXml}. Only the batch is run for
+ * each amount of workers, so the scores of {@code batch} over
+ * {@code threads} give its scaling from one core to many; amounts over the
+ * cores of the machine measure contention instead. JMH subclasses this
+ * class, so it can not be final.
+ *
+ * @since 0.0.42
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchBenchmark {
+    /**
+     * Amount of dicts.
+     */
+    @Param({"100000"})
+    public int size;
+
+    /**
+     * Output format: ndjson, array or xml.
+     */
+    @Param({"ndjson", "array", "xml"})
+    public String format;
+
+    /**
+     * Dicts.
+     */
+    private List<Dict> dicts;
+
+    /**
+     * Build the dicts.
+     */
+    @Setup
+    public void setup() {
+        this.dicts = new ArrayList<>(this.size);
+        for (int idx = 0; idx < this.size; ++idx) {
+            this.dicts.add(new Sample(10, 1, "date").dict());
+        }
+    }
+
+    @Benchmark
+    public void batch(final Workers workers) throws Exception {
+        final Format output;
+        if ("xml".equals(this.format)) {
+            output = new XmlDocument();
+        } else if ("array".equals(this.format)) {
+            output = new JsonArray();
+        } else {
+            output = new Ndjson();
+        }
+        new Batch(this.dicts, output, workers.threads)
+            .write(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void oneByOne() throws Exception {
+        final OutputStream output = OutputStream.nullOutputStream();
+        for (final Dict dict : this.dicts) {
+            final String text;
+            if ("xml".equals(this.format)) {
+                text = new DictAsXml(dict).asString();
+            } else {
+                text = dict.asString();
+            }
+            output.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Workers.
+     *
+     * <p>Amount of threads of the batch encoder, a state of its own so the
+     * benchmarks that don't use it are not run once for each amount.
+     *
+     * @since 0.0.42
+     */
+    @State(Scope.Benchmark)
+    public static class Workers {
+        /**
+         * Amount of threads.
+         */
+        @Param({"1", "2", "4", "8"})
+        public int threads;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.PrintStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compare.
+ *
+ * <p>Compare two JMH JSON reports, a baseline run and a new
+ * run, printing the change of each benchmark and failing if any of them
+ * regressed more than a threshold.
+ *
+ * <p>Usage: {@code Compare baseline.json current.json [threshold %]}.
+ *
+ * @since 0.0.42
+ */
+public final class Compare {
+    /**
+     * Default regression threshold, in percent.
+     */
+    private static final double THRESHOLD = 10.0;
+
+    /**
+     * Baseline report.
+     */
+    private final File baseline;
+
+    /**
+     * Current report.
+     */
+    private final File current;
+
+    /**
+     * Regression threshold, in percent.
+     */
+    private final double threshold;
+
+    /**
+     * Ctor.
+     * @param baseline Baseline report
+     * @param current Current report
+     * @param threshold Regression threshold, in percent
+     */
+    public Compare(
+        final File baseline,
+        final File current,
+        final double threshold
+    ) {
+        this.baseline = baseline;
+        this.current = current;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Entry point.
+     * @param args Baseline report, current report and optional threshold
+     * @throws Exception If fails
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static void main(final String... args) throws Exception {
+        if (args.length < 2) {
+            throw new IllegalArgumentException(
+                "Usage: Compare baseline.json current.json [threshold %]"
+            );
+        }
+        double threshold = Compare.THRESHOLD;
+        if (args.length > 2) {
+            threshold = Double.parseDouble(args[2]);
+        }
+        final int regressions = new Compare(
+            new File(args[0]),
+            new File(args[1]),
+            threshold
+        ).print(System.out);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Print the changes.
+     * @param out Where to print
+     * @return Amount of regressions beyond the threshold
+     * @throws Exception If fails
+     */
+    public int print(final PrintStream out) throws Exception {
+        final Map<String, JsonNode> before = Compare.scores(this.baseline);
+        final Map<String, JsonNode> after = Compare.scores(this.current);
+        int regressions = 0;
+        for (final Map.Entry<String, JsonNode> entry : after.entrySet()) {
+            final JsonNode old = before.get(entry.getKey());
+            if (old == null) {
+                out.printf("%-80s new%n", entry.getKey());
+                continue;
+            }
+            final double was = old.path("primaryMetric").path("score")
+                .asDouble();
+            final double now = entry.getValue().path("primaryMetric")
+                .path("score").asDouble();
+            double change = (now - was) / was * 100.0;
+            if ("thrpt".equals(entry.getValue().path("mode").asText())) {
+                change = -change;
+            }
+            String verdict = "";
+            if (change > this.threshold) {
+                verdict = " REGRESSION";
+                ++regressions;
+            }
+            out.printf(
+                "%-80s %12.3f -> %12.3f %s (%+.1f%% slower)%s%n",
+                entry.getKey(),
+                was,
+                now,
+                entry.getValue().path("primaryMetric").path("scoreUnit")
+                    .asText(),
+                change,
+                verdict
+            );
+        }
+        return regressions;
+    }
+
+    /**
+     * Read the scores of a report, by benchmark and parameters.
+     * @param report JMH JSON report
+     * @return The results
+     * @throws Exception If fails
+     */
+    private static Map<String, JsonNode> scores(final File report)
+        throws Exception {
+        final Map<String, JsonNode> scores = new HashMap<>();
+        for (final JsonNode result : new ObjectMapper().readTree(report)) {
+            scores.put(
+                String.format(
+                    "%s %s",
+                    result.path("benchmark").asText(),
+                    result.path("params")
+                ),
+                result
+            );
+        }
+        return scores;
+    }
+}
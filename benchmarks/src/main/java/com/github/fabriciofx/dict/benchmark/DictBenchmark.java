@@ -0,0 +1,133 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.benchmark;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import com.github.fabriciofx.dict.set.Contains;
+import com.github.fabriciofx.dict.xml.DictAsXml;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * DictBenchmark.
+ *
+ * <p>Every {@link Dict} operation and codec over dicts of several sizes,
+ * nesting depths and value types. JMH subclasses this class, so it can not
+ * be final.
+ *
+ * @since 0.0.42
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@SuppressWarnings("PMD.TooManyMethods")
+public class DictBenchmark {
+    /**
+     * Amount of top level keys.
+     */
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    /**
+     * Nesting depth of each value.
+     */
+    @Param({"0", "3"})
+    public int depth;
+
+    /**
+     * Value type.
+     */
+    @Param({"string", "number", "date"})
+    public String type;
+
+    /**
+     * Dict.
+     */
+    private Dict dict;
+
+    /**
+     * Equal dict, built apart.
+     */
+    private Dict copy;
+
+    /**
+     * Dict as JSON.
+     */
+    private String json;
+
+    /**
+     * A key in the middle of the dict.
+     */
+    private String key;
+
+    /**
+     * Build the dicts.
+     * @throws Exception If fails
+     */
+    @Setup
+    public void setup() throws Exception {
+        final Sample sample = new Sample(this.size, this.depth, this.type);
+        this.dict = sample.dict();
+        this.copy = sample.dict();
+        this.json = this.dict.asString();
+        this.key = Sample.key(this.size / 2);
+    }
+
+    @Benchmark
+    public Dict with() {
+        return this.dict.with("extra", "value");
+    }
+
+    @Benchmark
+    public Object value() {
+        return this.dict.value(this.key, Object.class);
+    }
+
+    @Benchmark
+    public boolean equality() {
+        return this.dict.equals(this.copy);
+    }
+
+    @Benchmark
+    public int hash() {
+        return this.dict.hashCode();
+    }
+
+    @Benchmark
+    public String asString() throws Exception {
+        return this.dict.asString();
+    }
+
+    @Benchmark
+    public int parse() {
+        return new DictOf(this.json).count();
+    }
+
+    @Benchmark
+    public String xml() throws Exception {
+        return new DictAsXml(this.dict).asString();
+    }
+
+    @Benchmark
+    public boolean contains() throws Exception {
+        return new Contains(this.dict, this.copy).value();
+    }
+}
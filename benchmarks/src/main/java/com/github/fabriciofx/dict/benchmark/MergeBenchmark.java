@@ -0,0 +1,104 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.benchmark;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.merge.Merged;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * MergeBenchmark.
+ *
+ * <p>Deep merge of a layer of overrides, touching a tenth of the keys at
+ * the deepest level, into a deep config, against the manual recursion that
+ * rebuilds every level with {@link Dict#with(String, Object)}. JMH
+ * subclasses this class, so it can not be final.
+ *
+ * @since 0.0.42
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MergeBenchmark {
+    /**
+     * Amount of top level keys of the config.
+     */
+    @Param({"10", "100"})
+    public int size;
+
+    /**
+     * Nesting depth of the config.
+     */
+    @Param({"2", "8"})
+    public int depth;
+
+    /**
+     * Config.
+     */
+    private Dict config;
+
+    /**
+     * Overrides.
+     */
+    private Dict overrides;
+
+    /**
+     * Build the config and the overrides.
+     */
+    @Setup
+    public void setup() {
+        this.config = new Sample(this.size, this.depth, "string").dict();
+        this.overrides = new Sample(
+            Math.max(1, this.size / 10),
+            this.depth,
+            "number"
+        ).dict();
+    }
+
+    @Benchmark
+    public int merged() {
+        return new Merged(this.config, this.overrides).count();
+    }
+
+    @Benchmark
+    public int manual() {
+        return MergeBenchmark.manual(this.config, this.overrides).count();
+    }
+
+    /**
+     * Merge by hand, rebuilding every level with {@link Dict#with}.
+     * @param current Dict merged into
+     * @param incoming Dict being merged
+     * @return The merged dict
+     */
+    private static Dict manual(final Dict current, final Dict incoming) {
+        Dict merged = current;
+        for (final String key : incoming.keys()) {
+            Object value = incoming.value(key, Object.class);
+            final Object old = current.value(key, Object.class);
+            if (old instanceof Dict && value instanceof Dict) {
+                value = MergeBenchmark.manual((Dict) old, (Dict) value);
+            }
+            merged = merged.with(key, value);
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.benchmark;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import com.github.fabriciofx.dict.offheap.OffHeapDict;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * OffHeapBenchmark.
+ *
+ * <p>Garbage collection pauses while a large dict is alive, kept on the heap
+ * by {@link DictOf} or out of it by {@link OffHeapDict}. "collect" times a
+ * full collection, which must walk every live object; "churn" allocates
+ * garbage while reading the dict, so run it with "-prof gc" to compare the
+ * time spent collecting. JMH subclasses this class, so it can not be final.
+ *
+ * @since 0.0.42
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class OffHeapBenchmark {
+    /**
+     * Amount of keys.
+     */
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    /**
+     * Where the dict is kept: heap or offheap.
+     */
+    @Param({"heap", "offheap"})
+    public String store;
+
+    /**
+     * Dict.
+     */
+    private Dict dict;
+
+    /**
+     * Build the dict.
+     */
+    @Setup
+    public void setup() {
+        final Dict heap = new Sample(this.size, 0, "string").dict();
+        if ("offheap".equals(this.store)) {
+            this.dict = new OffHeapDict(heap);
+        } else {
+            this.dict = heap;
+        }
+        this.dict.count();
+        System.gc();
+    }
+
+    /**
+     * Release the off-heap memory.
+     */
+    @TearDown
+    public void close() {
+        if (this.dict instanceof OffHeapDict) {
+            ((OffHeapDict) this.dict).close();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Measurement(iterations = 10)
+    public void collect() {
+        System.gc();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public Object churn() {
+        final String key = Sample.key(
+            ThreadLocalRandom.current().nextInt(this.size)
+        );
+        return new DictOf()
+            .with(key, this.dict.value(key, Object.class))
+            .with("copy", key);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.benchmark;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import com.github.fabriciofx.dict.json.JsonDicts;
+import com.github.fabriciofx.dict.xml.DictAsXml;
+import com.github.fabriciofx.dict.xml.XmlAsDict;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.io.InputOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * ReaderBenchmark.
+ *
+ * <p>Readers of many dicts from NDJSON and of a large XML document. Run
+ * with "-prof gc" to compare the memory allocated by each one. JMH
+ * subclasses this class, so it can not be final.
+ *
+ * @since 0.0.42
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReaderBenchmark {
+    /**
+     * Amount of lines or XML elements.
+     */
+    @Param({"1000", "100000"})
+    public int size;
+
+    /**
+     * NDJSON content.
+     */
+    private String lines;
+
+    /**
+     * XML content.
+     */
+    private String xml;
+
+    /**
+     * Build the documents.
+     * @throws Exception If fails
+     */
+    @Setup
+    public void setup() throws Exception {
+        final StringBuilder ndjson = new StringBuilder();
+        for (int idx = 0; idx < this.size; ++idx) {
+            ndjson.append(
+                new DictOf()
+                    .with("id", idx)
+                    .with("name", Sample.key(idx))
+                    .with("price", idx / 100.0)
+                    .asString()
+            ).append('\n');
+        }
+        this.lines = ndjson.toString();
+        this.xml = String.format(
+            "<dict>%s</dict>",
+            new DictAsXml(new Sample(this.size, 2, "string").dict()).asString()
+        );
+    }
+
+    @Benchmark
+    public void linesOneByOne(final Blackhole hole) {
+        for (final String line : this.lines.split("\n")) {
+            hole.consume(new DictOf(line).count());
+        }
+    }
+
+    @Benchmark
+    public void linesStreamed(final Blackhole hole) {
+        for (final Dict dict : new JsonDicts(new InputOf(this.lines))) {
+            hole.consume(dict.count());
+        }
+    }
+
+    @Benchmark
+    public int xmlAsDict() {
+        return new XmlAsDict(this.xml).count();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.benchmark;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sample.
+ *
+ * <p>Dict used by the benchmarks: "size" keys at the top level, each one
+ * holding a value of the given type nested "depth" dicts deep.
+ *
+ * @since 0.0.42
+ */
+public final class Sample {
+    /**
+     * Amount of top level keys.
+     */
+    private final int size;
+
+    /**
+     * Nesting depth of each value.
+     */
+    private final int depth;
+
+    /**
+     * Value type: string, number, decimal or date.
+     */
+    private final String type;
+
+    /**
+     * Ctor.
+     * @param size Amount of top level keys
+     * @param depth Nesting depth of each value
+     * @param type Value type: string, number, decimal or date
+     */
+    public Sample(final int size, final int depth, final String type) {
+        this.size = size;
+        this.depth = depth;
+        this.type = type;
+    }
+
+    /**
+     * Build the dict.
+     * @return A new dict
+     */
+    public Dict dict() {
+        final Map<String, Object> map = new HashMap<>(this.size * 2);
+        for (int idx = 0; idx < this.size; ++idx) {
+            Object value = this.value(idx);
+            for (int level = 0; level < this.depth; ++level) {
+                value = new DictOf().with(Sample.key(level), value);
+            }
+            map.put(Sample.key(idx), value);
+        }
+        return new DictOf(map);
+    }
+
+    /**
+     * Key of an index.
+     * @param idx Index
+     * @return The key
+     */
+    public static String key(final int idx) {
+        return String.format("key-%d", idx);
+    }
+
+    /**
+     * Build a value.
+     * @param idx Index of the value
+     * @return The value
+     */
+    private Object value(final int idx) {
+        final Object value;
+        switch (this.type) {
+            case "string":
+                value = String.format("value number %d", idx);
+                break;
+            case "number":
+                value = idx;
+                break;
+            case "decimal":
+                value = BigDecimal.valueOf(idx, 2);
+                break;
+            case "date":
+                value = LocalDate.of(2025, 1, 1).plusDays(idx % 3650);
+                break;
+            default:
+                throw new IllegalArgumentException(
+                    String.format("Unknown value type '%s'", this.type)
+                );
+        }
+        return value;
+    }
+}
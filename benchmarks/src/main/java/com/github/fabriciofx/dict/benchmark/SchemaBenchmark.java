@@ -0,0 +1,96 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.benchmark;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.schema.Schema;
+import com.github.fabriciofx.dict.schema.SchemaDict;
+import com.github.fabriciofx.dict.schema.Slot;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * SchemaBenchmark.
+ *
+ * <p>Reads by key and by slot of a {@link SchemaDict}, against the same
+ * read on a plain dict. JMH subclasses this class, so it can not be final.
+ *
+ * @since 0.0.42
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchemaBenchmark {
+    /**
+     * Amount of keys.
+     */
+    @Param({"8", "64"})
+    public int size;
+
+    /**
+     * Plain dict.
+     */
+    private Dict plain;
+
+    /**
+     * Schema dict.
+     */
+    private SchemaDict typed;
+
+    /**
+     * Slot of the last key.
+     */
+    private Slot<Integer> slot;
+
+    /**
+     * Last key.
+     */
+    private String key;
+
+    /**
+     * Build the dicts.
+     */
+    @Setup
+    public void setup() {
+        this.plain = new Sample(this.size, 0, "number").dict();
+        Schema schema = new Schema();
+        for (int idx = 0; idx < this.size; ++idx) {
+            schema = schema.with(Sample.key(idx), Integer.class);
+        }
+        this.typed = new SchemaDict(schema, this.plain);
+        this.key = Sample.key(this.size - 1);
+        this.slot = schema.slot(this.key, Integer.class);
+    }
+
+    @Benchmark
+    public Integer plainByKey() {
+        return this.plain.value(this.key, Integer.class);
+    }
+
+    @Benchmark
+    public Integer typedByKey() {
+        return this.typed.value(this.key, Integer.class);
+    }
+
+    @Benchmark
+    public Integer typedBySlot() {
+        return this.typed.value(this.slot);
+    }
+}
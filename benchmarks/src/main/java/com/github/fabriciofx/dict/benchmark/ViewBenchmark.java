@@ -0,0 +1,108 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.benchmark;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import com.github.fabriciofx.dict.view.Mapped;
+import com.github.fabriciofx.dict.view.Materialized;
+import com.github.fabriciofx.dict.view.Projected;
+import com.github.fabriciofx.dict.view.Renamed;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ViewBenchmark.
+ *
+ * <p>A project, rename and map pipeline done with lazy views against the
+ * same pipeline done copying the dict at each step. JMH subclasses this
+ * class, so it can not be final.
+ *
+ * @since 0.0.42
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ViewBenchmark {
+    /**
+     * Amount of keys.
+     */
+    @Param({"100", "10000"})
+    public int size;
+
+    /**
+     * Dict.
+     */
+    private Dict dict;
+
+    /**
+     * Half of the keys.
+     */
+    private Set<String> half;
+
+    /**
+     * Build the dict.
+     */
+    @Setup
+    public void setup() {
+        this.dict = new Sample(this.size, 0, "number").dict();
+        this.half = IntStream.range(0, this.size / 2)
+            .mapToObj(Sample::key)
+            .collect(Collectors.toSet());
+    }
+
+    @Benchmark
+    public int views() {
+        return new Materialized(
+            new Mapped(
+                new Renamed(
+                    new Projected(this.dict, this.half),
+                    Sample.key(0),
+                    "first"
+                ),
+                value -> (Integer) value + 1
+            )
+        ).count();
+    }
+
+    @Benchmark
+    public int copies() {
+        Dict projected = new DictOf();
+        for (final String key : this.half) {
+            projected = projected.with(key, this.dict.value(key, Object.class));
+        }
+        Dict renamed = new DictOf();
+        for (final String key : projected.keys()) {
+            String name = key;
+            if (key.equals(Sample.key(0))) {
+                name = "first";
+            }
+            renamed = renamed.with(name, projected.value(key, Object.class));
+        }
+        Dict mapped = new DictOf();
+        for (final String key : renamed.keys()) {
+            mapped = mapped.with(key, renamed.value(key, Integer.class) + 1);
+        }
+        return mapped.count();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.json.CanonicalJson;
+import com.github.fabriciofx.dict.json.DictMapper;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * WriterBenchmark.
+ *
+ * <p>Throughput of writing a dict as JSON with {@code DictToJson}, against
+ * Jackson writing the same entries as a plain map, and of writing it as
+ * {@link CanonicalJson}. JMH subclasses this class, so it can not be final.
+ *
+ * @since 0.0.42
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WriterBenchmark {
+    /**
+     * Amount of top level keys.
+     */
+    @Param({"10", "1000"})
+    public int size;
+
+    /**
+     * Value type: string, number, decimal or date.
+     */
+    @Param({"string", "number"})
+    public String type;
+
+    /**
+     * Mapper.
+     */
+    private ObjectMapper mapper;
+
+    /**
+     * Dict.
+     */
+    private Dict dict;
+
+    /**
+     * Entries of the dict as a map.
+     */
+    private Map<String, Object> map;
+
+    /**
+     * Build the dict and the map.
+     */
+    @Setup
+    public void setup() {
+        this.mapper = new DictMapper();
+        this.dict = new Sample(this.size, 0, this.type).dict();
+        this.map = new HashMap<>();
+        this.dict.forEach(this.map::put);
+    }
+
+    @Benchmark
+    public String dictToJson() throws Exception {
+        return this.mapper.writeValueAsString(this.dict);
+    }
+
+    @Benchmark
+    public String mapSerializer() throws Exception {
+        return this.mapper.writeValueAsString(this.map);
+    }
+
+    @Benchmark
+    public String canonical() throws Exception {
+        return new CanonicalJson(this.dict).asString();
+    }
+}
@@ -4,13 +4,21 @@
  */
 package com.github.fabriciofx.dict;
 
+import com.github.fabriciofx.dict.base.EntriesOf;
+import java.util.AbstractMap;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
 import org.cactoos.Text;
 
 /**
  * Dict.
  * <p> A Python-like dictionary for Java.
+ * <p> Two dicts are equal when they have the same entries, whatever their
+ * implementations, and the hash code of a dict is the one of its entries,
+ * as with {@link Map}.
  * @since 0.0.1
  */
 public interface Dict extends Text {
@@ -26,6 +34,48 @@ public interface Dict extends Text {
      */
     Collection<Object> values();
 
+    /**
+     * Dict entries.
+     * <p> By default, a view of the {@link #spliterator()} entries;
+     * implementations with their own entries should override it.
+     * @return A set of dict entries.
+     */
+    default Set<Map.Entry<String, Object>> entries() {
+        return new EntriesOf(this, this::spliterator);
+    }
+
+    /**
+     * Run an action with each key and value, in a single pass over the
+     * dict, without looking up or allocating entries.
+     * <p> By default, it looks up the value of each key; implementations
+     * should override it to walk their store once.
+     * @param action Action to run with each key and value.
+     */
+    default void forEach(final BiConsumer<String, Object> action) {
+        for (final String key : this.keys()) {
+            action.accept(key, this.value(key, Object.class));
+        }
+    }
+
+    /**
+     * Spliterator over the dict entries, that splits to stream them in
+     * parallel.
+     * <p> By default, it splits as the {@link #keys()} do and looks up the
+     * value of each key; implementations should override it to walk their
+     * store.
+     * @return A spliterator of dict entries.
+     */
+    default Spliterator<Map.Entry<String, Object>> spliterator() {
+        return this.keys().stream()
+            .<Map.Entry<String, Object>>map(
+                key -> new AbstractMap.SimpleImmutableEntry<>(
+                    key,
+                    this.value(key, Object.class)
+                )
+            )
+            .spliterator();
+    }
+
     /**
      * Count.
      * @return Amount of dict entries.
@@ -0,0 +1,36 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.aggregate;
+
+import com.github.fabriciofx.dict.Dict;
+
+/**
+ * Accumulator.
+ *
+ * <p>Partial result of an {@link Aggregate}, kept in primitive fields. It
+ * is not thread safe: each thread accumulates its own part and the parts
+ * are merged at the end.
+ *
+ * @since 0.0.42
+ */
+public interface Accumulator {
+    /**
+     * Add a dict.
+     * @param dict The dict
+     */
+    void add(Dict dict);
+
+    /**
+     * Merge the partial result of another accumulator of the same aggregate.
+     * @param other The other accumulator
+     */
+    void merge(Accumulator other);
+
+    /**
+     * Result.
+     * @return The result
+     */
+    Object value();
+}
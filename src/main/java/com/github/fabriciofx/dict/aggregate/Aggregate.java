@@ -0,0 +1,26 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.aggregate;
+
+/**
+ * Aggregate.
+ *
+ * <p>A value computed over a group of dicts, like a sum or a count.
+ *
+ * @since 0.0.42
+ */
+public interface Aggregate {
+    /**
+     * Key of the aggregate in the dict of each group.
+     * @return The key
+     */
+    String name();
+
+    /**
+     * Build an empty accumulator.
+     * @return The accumulator
+     */
+    Accumulator accumulator();
+}
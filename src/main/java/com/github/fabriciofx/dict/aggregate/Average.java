@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.aggregate;
+
+/**
+ * Average.
+ *
+ * <p>Arithmetic mean of a numeric field, as a {@link Double}, or null if the
+ * group has no value. Absent and null values are skipped.
+ *
+ * @since 0.0.42
+ */
+public final class Average implements Aggregate {
+    /**
+     * Key of the field.
+     */
+    private final String field;
+
+    /**
+     * Key of the aggregate.
+     */
+    private final String key;
+
+    /**
+     * Ctor.
+     * @param field Key of the field
+     */
+    public Average(final String field) {
+        this(field, String.format("average(%s)", field));
+    }
+
+    /**
+     * Ctor.
+     * @param field Key of the field
+     * @param name Key of the aggregate
+     */
+    public Average(final String field, final String name) {
+        this.field = field;
+        this.key = name;
+    }
+
+    @Override
+    public String name() {
+        return this.key;
+    }
+
+    @Override
+    public Accumulator accumulator() {
+        return new AverageAccumulator(new Field(this.field));
+    }
+}
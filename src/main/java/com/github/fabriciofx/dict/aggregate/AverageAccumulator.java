@@ -0,0 +1,62 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.aggregate;
+
+import com.github.fabriciofx.dict.Dict;
+
+/**
+ * AverageAccumulator.
+ *
+ * @since 0.0.42
+ */
+final class AverageAccumulator implements Accumulator {
+    /**
+     * Field.
+     */
+    private final Field field;
+
+    /**
+     * Sum of the values.
+     */
+    private double sum;
+
+    /**
+     * Amount of values.
+     */
+    private long count;
+
+    /**
+     * Ctor.
+     * @param field Field
+     */
+    AverageAccumulator(final Field field) {
+        this.field = field;
+    }
+
+    @Override
+    public void add(final Dict dict) {
+        final Number value = this.field.value(dict);
+        if (value != null) {
+            this.sum += value.doubleValue();
+            ++this.count;
+        }
+    }
+
+    @Override
+    public void merge(final Accumulator other) {
+        final AverageAccumulator average = (AverageAccumulator) other;
+        this.sum += average.sum;
+        this.count += average.count;
+    }
+
+    @Override
+    public Object value() {
+        Double value = null;
+        if (this.count > 0) {
+            value = this.sum / this.count;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.aggregate;
+
+/**
+ * Count.
+ *
+ * <p>Amount of dicts in the group, as a {@link Long}.
+ *
+ * @since 0.0.42
+ */
+public final class Count implements Aggregate {
+    /**
+     * Key of the aggregate.
+     */
+    private final String key;
+
+    /**
+     * Ctor.
+     */
+    public Count() {
+        this("count");
+    }
+
+    /**
+     * Ctor.
+     * @param name Key of the aggregate
+     */
+    public Count(final String name) {
+        this.key = name;
+    }
+
+    @Override
+    public String name() {
+        return this.key;
+    }
+
+    @Override
+    public Accumulator accumulator() {
+        return new CountAccumulator();
+    }
+}
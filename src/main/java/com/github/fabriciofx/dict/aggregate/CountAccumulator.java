@@ -0,0 +1,34 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.aggregate;
+
+import com.github.fabriciofx.dict.Dict;
+
+/**
+ * CountAccumulator.
+ *
+ * @since 0.0.42
+ */
+final class CountAccumulator implements Accumulator {
+    /**
+     * Amount of dicts.
+     */
+    private long count;
+
+    @Override
+    public void add(final Dict dict) {
+        ++this.count;
+    }
+
+    @Override
+    public void merge(final Accumulator other) {
+        this.count += ((CountAccumulator) other).count;
+    }
+
+    @Override
+    public Object value() {
+        return this.count;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.aggregate;
+
+import com.github.fabriciofx.dict.Dict;
+
+/**
+ * Field.
+ *
+ * <p>Numeric field of a dict.
+ *
+ * @since 0.0.42
+ */
+final class Field {
+    /**
+     * Key of the field.
+     */
+    private final String key;
+
+    /**
+     * Ctor.
+     * @param key Key of the field
+     */
+    Field(final String key) {
+        this.key = key;
+    }
+
+    /**
+     * Value of the field in a dict.
+     * @param dict The dict
+     * @return The number or null if the field is absent or null
+     */
+    Number value(final Dict dict) {
+        final Object value = dict.value(this.key, Object.class);
+        if (value != null && !(value instanceof Number)) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Value of '%s' is not a number: %s",
+                    this.key,
+                    value
+                )
+            );
+        }
+        return (Number) value;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.aggregate;
+
+import com.github.fabriciofx.dict.Dict;
+import java.util.Iterator;
+import java.util.stream.StreamSupport;
+
+/**
+ * Grouped.
+ *
+ * <p>Dicts grouped by a {@link Grouping}. The groups are computed again on
+ * each iteration, in parallel if asked, splitting the dicts by their
+ * {@link Iterable#spliterator()}.
+ *
+ * @since 0.0.42
+ */
+public final class Grouped implements Iterable<Dict> {
+    /**
+     * Dicts.
+     */
+    private final Iterable<Dict> dicts;
+
+    /**
+     * Grouping.
+     */
+    private final Grouping grouping;
+
+    /**
+     * Whether to group in parallel.
+     */
+    private final boolean parallel;
+
+    /**
+     * Ctor.
+     * @param dicts Dicts
+     * @param grouping Grouping
+     */
+    public Grouped(final Iterable<Dict> dicts, final Grouping grouping) {
+        this(dicts, grouping, false);
+    }
+
+    /**
+     * Ctor.
+     * @param dicts Dicts
+     * @param grouping Grouping
+     * @param parallel Whether to group in parallel
+     */
+    public Grouped(
+        final Iterable<Dict> dicts,
+        final Grouping grouping,
+        final boolean parallel
+    ) {
+        this.dicts = dicts;
+        this.grouping = grouping;
+        this.parallel = parallel;
+    }
+
+    @Override
+    public Iterator<Dict> iterator() {
+        return StreamSupport.stream(this.dicts.spliterator(), this.parallel)
+            .collect(this.grouping)
+            .iterator();
+    }
+}
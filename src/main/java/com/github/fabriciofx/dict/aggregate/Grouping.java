@@ -0,0 +1,98 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.aggregate;
+
+import com.github.fabriciofx.dict.Dict;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * Grouping.
+ *
+ * <p>A {@link Collector} that groups dicts by the values of one or more keys
+ * and computes the aggregates of each group, giving a dict per group with
+ * the keys and the aggregates. Each thread of a parallel stream accumulates
+ * its own groups and the partial results are merged, so it runs in the
+ * fork-join pool without locks:
+ * <pre>{@code
+ * final List<Dict> totals = sales.parallelStream().collect(
+ *     new Grouping(List.of("country"), new Sum("total"), new Count())
+ * );
+ * }</pre>
+ * The order of the groups is unspecified.
+ *
+ * @since 0.0.42
+ */
+public final class Grouping implements Collector<Dict, Groups, List<Dict>> {
+    /**
+     * Keys to group by.
+     */
+    private final List<String> keys;
+
+    /**
+     * Aggregates.
+     */
+    private final List<Aggregate> aggregates;
+
+    /**
+     * Ctor.
+     * @param key Key to group by
+     * @param aggregates Aggregates
+     */
+    public Grouping(final String key, final Aggregate... aggregates) {
+        this(List.of(key), aggregates);
+    }
+
+    /**
+     * Ctor.
+     * @param keys Keys to group by
+     * @param aggregates Aggregates
+     */
+    public Grouping(final List<String> keys, final Aggregate... aggregates) {
+        this(keys, Arrays.asList(aggregates));
+    }
+
+    /**
+     * Ctor.
+     * @param keys Keys to group by
+     * @param aggregates Aggregates
+     */
+    public Grouping(final List<String> keys, final List<Aggregate> aggregates) {
+        this.keys = keys;
+        this.aggregates = aggregates;
+    }
+
+    @Override
+    public Supplier<Groups> supplier() {
+        return () -> new Groups(this.keys, this.aggregates);
+    }
+
+    @Override
+    public BiConsumer<Groups, Dict> accumulator() {
+        return Groups::add;
+    }
+
+    @Override
+    public BinaryOperator<Groups> combiner() {
+        return Groups::merge;
+    }
+
+    @Override
+    public Function<Groups, List<Dict>> finisher() {
+        return Groups::dicts;
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return Collections.singleton(Characteristics.UNORDERED);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.aggregate;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Groups.
+ *
+ * <p>Partial result of a {@link Grouping}: the accumulators of each group
+ * seen so far. It is public only as the accumulation type of the
+ * collector; it is built and used by the collector alone. It is not thread
+ * safe.
+ *
+ * @since 0.0.42
+ */
+public final class Groups {
+    /**
+     * Keys to group by.
+     */
+    private final List<String> keys;
+
+    /**
+     * Aggregates.
+     */
+    private final List<Aggregate> aggregates;
+
+    /**
+     * Accumulators by the values of the keys.
+     */
+    private final Map<List<Object>, Accumulator[]> groups;
+
+    /**
+     * Ctor.
+     * @param keys Keys to group by
+     * @param aggregates Aggregates
+     */
+    Groups(final List<String> keys, final List<Aggregate> aggregates) {
+        this.keys = keys;
+        this.aggregates = aggregates;
+        this.groups = new HashMap<>();
+    }
+
+    /**
+     * Add a dict to its group.
+     * @param dict The dict
+     */
+    void add(final Dict dict) {
+        final Object[] values = new Object[this.keys.size()];
+        for (int idx = 0; idx < values.length; ++idx) {
+            values[idx] = dict.value(this.keys.get(idx), Object.class);
+        }
+        for (
+            final Accumulator accumulator : this.groups.computeIfAbsent(
+                Arrays.asList(values),
+                group -> this.accumulators()
+            )
+        ) {
+            accumulator.add(dict);
+        }
+    }
+
+    /**
+     * Merge other partial result into this one.
+     * @param other The other partial result
+     * @return This partial result
+     */
+    Groups merge(final Groups other) {
+        for (final Map.Entry<List<Object>, Accumulator[]> entry
+            : other.groups.entrySet()) {
+            final Accumulator[] mine = this.groups.putIfAbsent(
+                entry.getKey(),
+                entry.getValue()
+            );
+            if (mine != null) {
+                for (int idx = 0; idx < mine.length; ++idx) {
+                    mine[idx].merge(entry.getValue()[idx]);
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * A dict per group, with the values of the keys and the aggregates.
+     * @return The dicts
+     */
+    List<Dict> dicts() {
+        final List<Dict> dicts = new ArrayList<>(this.groups.size());
+        for (final Map.Entry<List<Object>, Accumulator[]> entry
+            : this.groups.entrySet()) {
+            final Map<String, Object> map = new LinkedHashMap<>();
+            for (int idx = 0; idx < this.keys.size(); ++idx) {
+                map.put(this.keys.get(idx), entry.getKey().get(idx));
+            }
+            for (int idx = 0; idx < this.aggregates.size(); ++idx) {
+                map.put(
+                    this.aggregates.get(idx).name(),
+                    entry.getValue()[idx].value()
+                );
+            }
+            dicts.add(new DictOf(map));
+        }
+        return dicts;
+    }
+
+    /**
+     * Build the empty accumulators of a new group.
+     * @return The accumulators
+     */
+    private Accumulator[] accumulators() {
+        final Accumulator[] accumulators =
+            new Accumulator[this.aggregates.size()];
+        for (int idx = 0; idx < accumulators.length; ++idx) {
+            accumulators[idx] = this.aggregates.get(idx).accumulator();
+        }
+        return accumulators;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.aggregate;
+
+/**
+ * Sum.
+ *
+ * <p>Sum of a numeric field, as a {@link Long} while all the values are
+ * integers and as a {@link Double} otherwise. Absent and null values are
+ * skipped.
+ *
+ * @since 0.0.42
+ */
+public final class Sum implements Aggregate {
+    /**
+     * Key of the field.
+     */
+    private final String field;
+
+    /**
+     * Key of the aggregate.
+     */
+    private final String key;
+
+    /**
+     * Ctor.
+     * @param field Key of the field
+     */
+    public Sum(final String field) {
+        this(field, String.format("sum(%s)", field));
+    }
+
+    /**
+     * Ctor.
+     * @param field Key of the field
+     * @param name Key of the aggregate
+     */
+    public Sum(final String field, final String name) {
+        this.field = field;
+        this.key = name;
+    }
+
+    @Override
+    public String name() {
+        return this.key;
+    }
+
+    @Override
+    public Accumulator accumulator() {
+        return new SumAccumulator(new Field(this.field));
+    }
+}
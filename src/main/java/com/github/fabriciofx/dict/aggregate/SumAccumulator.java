@@ -0,0 +1,114 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.aggregate;
+
+import com.github.fabriciofx.dict.Dict;
+import java.math.BigInteger;
+
+/**
+ * SumAccumulator.
+ *
+ * <p>Sums integers in a long, carrying into a big integer whenever the long
+ * would overflow, and adds big integers straight to the carry, so the sum
+ * of integers is exact: a long while it fits, a big integer otherwise.
+ *
+ * @since 0.0.42
+ */
+final class SumAccumulator implements Accumulator {
+    /**
+     * Field.
+     */
+    private final Field field;
+
+    /**
+     * Sum of the integer values, since the last carry.
+     */
+    private long integers;
+
+    /**
+     * Sum of the integer values carried when the long would overflow.
+     */
+    private BigInteger carried;
+
+    /**
+     * Sum of the other values.
+     */
+    private double reals;
+
+    /**
+     * Whether some value is not an integer.
+     */
+    private boolean real;
+
+    /**
+     * Ctor.
+     * @param field Field
+     */
+    SumAccumulator(final Field field) {
+        this.field = field;
+        this.carried = BigInteger.ZERO;
+    }
+
+    @Override
+    public void add(final Dict dict) {
+        final Number value = this.field.value(dict);
+        if (value instanceof Integer || value instanceof Long
+            || value instanceof Short || value instanceof Byte) {
+            this.integer(value.longValue());
+        } else if (value instanceof BigInteger) {
+            this.carried = this.carried.add((BigInteger) value);
+        } else if (value != null) {
+            this.reals += value.doubleValue();
+            this.real = true;
+        }
+    }
+
+    @Override
+    public void merge(final Accumulator other) {
+        final SumAccumulator sum = (SumAccumulator) other;
+        this.integer(sum.integers);
+        this.carried = this.carried.add(sum.carried);
+        this.reals += sum.reals;
+        this.real = this.real || sum.real;
+    }
+
+    @Override
+    public Object value() {
+        final Object value;
+        if (this.carried.signum() == 0) {
+            if (this.real) {
+                value = this.integers + this.reals;
+            } else {
+                value = this.integers;
+            }
+        } else {
+            final BigInteger total = this.carried.add(
+                BigInteger.valueOf(this.integers)
+            );
+            if (this.real) {
+                value = total.doubleValue() + this.reals;
+            } else if (total.bitLength() < Long.SIZE) {
+                value = total.longValue();
+            } else {
+                value = total;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Add an integer, carrying the sum so far if the long would overflow.
+     * @param value The integer
+     */
+    private void integer(final long value) {
+        final long sum = this.integers + value;
+        if (((this.integers ^ sum) & (value ^ sum)) < 0) {
+            this.carried = this.carried.add(BigInteger.valueOf(this.integers));
+            this.integers = value;
+        } else {
+            this.integers = sum;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.async;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.codec.Codecs;
+import com.github.fabriciofx.dict.json.Limits;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * AsyncDict.
+ *
+ * <p>Dict parsed incrementally from a publisher of JSON bytes, like a
+ * network body, with a {@link DictSubscriber}.
+ *
+ * @since 0.0.42
+ */
+public final class AsyncDict {
+    /**
+     * Default limits, shared by all async dicts, so the factory of their
+     * parsers is built once.
+     */
+    private static final Limits LIMITS = new Limits();
+
+    /**
+     * Publisher of the JSON bytes.
+     */
+    private final Flow.Publisher<ByteBuffer> publisher;
+
+    /**
+     * Codecs.
+     */
+    private final Codecs codecs;
+
+    /**
+     * Limits.
+     */
+    private final Limits limits;
+
+    /**
+     * Ctor.
+     * @param publisher Publisher of the JSON bytes
+     */
+    public AsyncDict(final Flow.Publisher<ByteBuffer> publisher) {
+        this(publisher, new Codecs());
+    }
+
+    /**
+     * Ctor.
+     * @param publisher Publisher of the JSON bytes
+     * @param codecs Codecs to restore the value types
+     */
+    public AsyncDict(
+        final Flow.Publisher<ByteBuffer> publisher,
+        final Codecs codecs
+    ) {
+        this(publisher, codecs, AsyncDict.LIMITS);
+    }
+
+    /**
+     * Ctor.
+     * @param publisher Publisher of the JSON bytes
+     * @param codecs Codecs to restore the value types
+     * @param limits Limits of the object
+     */
+    public AsyncDict(
+        final Flow.Publisher<ByteBuffer> publisher,
+        final Codecs codecs,
+        final Limits limits
+    ) {
+        this.publisher = publisher;
+        this.codecs = codecs;
+        this.limits = limits;
+    }
+
+    /**
+     * Subscribe to the publisher and parse its bytes.
+     * @return A future completed with the dict
+     */
+    public CompletableFuture<Dict> value() {
+        final DictSubscriber subscriber = new DictSubscriber(
+            this.codecs,
+            this.limits
+        );
+        this.publisher.subscribe(subscriber);
+        return subscriber.dict();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.Text;
+
+/**
+ * AsyncText.
+ *
+ * <p>Text, like a dict as JSON or a {@link
+ * com.github.fabriciofx.dict.xml.DictAsXml}, computed on an executor, so
+ * the caller is not blocked. By default the common pool is used; on JDKs
+ * with virtual threads, an executor of virtual threads fits as well.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings("PMD.AvoidCatchingGenericException")
+public final class AsyncText {
+    /**
+     * Text.
+     */
+    private final Text text;
+
+    /**
+     * Executor.
+     */
+    private final Executor executor;
+
+    /**
+     * Ctor.
+     * @param text Text
+     */
+    public AsyncText(final Text text) {
+        this(text, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Ctor.
+     * @param text Text
+     * @param executor Executor where the text is computed
+     */
+    public AsyncText(final Text text, final Executor executor) {
+        this.text = text;
+        this.executor = executor;
+    }
+
+    /**
+     * Compute the text.
+     * @return A future completed with the text
+     */
+    public CompletableFuture<String> value() {
+        return CompletableFuture.supplyAsync(
+            () -> {
+                try {
+                    return this.text.asString();
+                } catch (final Exception ex) {
+                    throw new CompletionException(ex);
+                }
+            },
+            this.executor
+        );
+    }
+}
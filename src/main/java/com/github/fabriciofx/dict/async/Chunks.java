@@ -0,0 +1,199 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.async;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Chunks.
+ *
+ * <p>Subscription that sends bytes, once they are ready, in chunks as they
+ * are requested. Signals are serialized by a work counter: whoever finds it
+ * at zero drains for everybody, so there are no locks and no recursion
+ * when the subscriber requests from inside {@code onNext}.
+ *
+ * @since 0.0.42
+ */
+final class Chunks implements Flow.Subscription {
+    /**
+     * Subscriber.
+     */
+    private final Flow.Subscriber<? super ByteBuffer> subscriber;
+
+    /**
+     * Bytes to send.
+     */
+    private final CompletableFuture<byte[]> bytes;
+
+    /**
+     * Size of the chunks, in bytes.
+     */
+    private final int size;
+
+    /**
+     * Chunks requested and not sent yet.
+     */
+    private final AtomicLong demand;
+
+    /**
+     * Pending drains.
+     */
+    private final AtomicInteger work;
+
+    /**
+     * Offset of the next chunk.
+     */
+    private final AtomicInteger offset;
+
+    /**
+     * Whether no more signals must be sent.
+     */
+    private final AtomicBoolean done;
+
+    /**
+     * Ctor.
+     * @param subscriber Subscriber
+     * @param bytes Bytes to send
+     * @param size Size of the chunks, in bytes
+     */
+    Chunks(
+        final Flow.Subscriber<? super ByteBuffer> subscriber,
+        final CompletableFuture<byte[]> bytes,
+        final int size
+    ) {
+        this(
+            subscriber,
+            bytes,
+            size,
+            new AtomicLong(),
+            new AtomicInteger(),
+            new AtomicInteger(),
+            new AtomicBoolean()
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param subscriber Subscriber
+     * @param bytes Bytes to send
+     * @param size Size of the chunks, in bytes
+     * @param demand Chunks requested and not sent yet
+     * @param work Pending drains
+     * @param offset Offset of the next chunk
+     * @param done Whether no more signals must be sent
+     * @checkstyle ParameterNumberCheck (20 lines)
+     */
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    private Chunks(
+        final Flow.Subscriber<? super ByteBuffer> subscriber,
+        final CompletableFuture<byte[]> bytes,
+        final int size,
+        final AtomicLong demand,
+        final AtomicInteger work,
+        final AtomicInteger offset,
+        final AtomicBoolean done
+    ) {
+        this.subscriber = subscriber;
+        this.bytes = bytes;
+        this.size = size;
+        this.demand = demand;
+        this.work = work;
+        this.offset = offset;
+        this.done = done;
+    }
+
+    /**
+     * Start sending when the bytes are ready.
+     */
+    void start() {
+        this.bytes.whenComplete((data, error) -> this.drain());
+    }
+
+    @Override
+    public void request(final long amount) {
+        if (amount <= 0) {
+            this.cancel();
+            this.subscriber.onError(
+                new IllegalArgumentException(
+                    String.format(
+                        "Requested %d chunks, must be positive",
+                        amount
+                    )
+                )
+            );
+        } else {
+            this.demand.accumulateAndGet(
+                amount,
+                (current, more) -> {
+                    final long sum = current + more;
+                    long total = sum;
+                    if (sum < 0) {
+                        total = Long.MAX_VALUE;
+                    }
+                    return total;
+                }
+            );
+            this.drain();
+        }
+    }
+
+    @Override
+    public void cancel() {
+        this.done.set(true);
+    }
+
+    /**
+     * Send what is ready and requested.
+     */
+    private void drain() {
+        if (this.work.getAndIncrement() == 0) {
+            do {
+                this.send();
+            } while (this.work.decrementAndGet() != 0);
+        }
+    }
+
+    /**
+     * Send the chunks requested, the error or the completion.
+     */
+    private void send() {
+        if (!this.done.get() && this.bytes.isDone()) {
+            if (this.bytes.isCompletedExceptionally()) {
+                this.done.set(true);
+                this.bytes.whenComplete(
+                    (data, error) -> {
+                        Throwable cause = error;
+                        if (error instanceof CompletionException) {
+                            cause = error.getCause();
+                        }
+                        this.subscriber.onError(cause);
+                    }
+                );
+            } else {
+                final byte[] data = this.bytes.join();
+                while (!this.done.get() && this.demand.get() > 0
+                    && this.offset.get() < data.length) {
+                    final int start = this.offset.get();
+                    final int end = Math.min(start + this.size, data.length);
+                    this.offset.set(end);
+                    this.demand.decrementAndGet();
+                    this.subscriber.onNext(
+                        ByteBuffer.wrap(data, start, end - start).slice()
+                    );
+                }
+                if (this.offset.get() >= data.length
+                    && this.done.compareAndSet(false, true)) {
+                    this.subscriber.onComplete();
+                }
+            }
+        }
+    }
+}
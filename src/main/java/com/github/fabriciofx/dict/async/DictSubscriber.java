@@ -0,0 +1,143 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.async;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import com.github.fabriciofx.dict.codec.Codecs;
+import com.github.fabriciofx.dict.json.Limits;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Sticky;
+
+/**
+ * DictSubscriber.
+ *
+ * <p>Subscriber that parses a JSON object from chunks of bytes as they
+ * arrive, with a Jackson non-blocking parser, completing {@link #dict()}
+ * when the publisher completes. It requests one chunk at a time and never
+ * blocks, so it can run on an event loop or on virtual threads. The object
+ * is checked against its {@link Limits} as it arrives and the dict fails
+ * as soon as a limit is crossed.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings("PMD.AvoidCatchingGenericException")
+public final class DictSubscriber implements Flow.Subscriber<ByteBuffer> {
+    /**
+     * Default limits, shared by all subscribers, so the factory of their
+     * parsers is built once.
+     */
+    private static final Limits LIMITS = new Limits();
+
+    /**
+     * Feed of the parser.
+     */
+    private final Scalar<JsonFeed> feed;
+
+    /**
+     * Dict, completed at the end of the input.
+     */
+    private final CompletableFuture<Dict> future;
+
+    /**
+     * Subscription.
+     */
+    private final AtomicReference<Flow.Subscription> subscription;
+
+    /**
+     * Ctor.
+     */
+    public DictSubscriber() {
+        this(new Codecs());
+    }
+
+    /**
+     * Ctor.
+     * @param codecs Codecs to restore the value types
+     */
+    public DictSubscriber(final Codecs codecs) {
+        this(codecs, DictSubscriber.LIMITS);
+    }
+
+    /**
+     * Ctor.
+     * @param codecs Codecs to restore the value types
+     * @param limits Limits of the object
+     */
+    public DictSubscriber(final Codecs codecs, final Limits limits) {
+        this(
+            new Sticky<>(() -> new JsonFeed(codecs, limits)),
+            new CompletableFuture<>(),
+            new AtomicReference<>()
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param feed Feed of the parser
+     * @param future Dict, completed at the end of the input
+     * @param subscription Subscription
+     */
+    private DictSubscriber(
+        final Scalar<JsonFeed> feed,
+        final CompletableFuture<Dict> future,
+        final AtomicReference<Flow.Subscription> subscription
+    ) {
+        this.feed = feed;
+        this.future = future;
+        this.subscription = subscription;
+    }
+
+    /**
+     * The dict parsed.
+     * @return A future completed with the dict, or exceptionally if the
+     *  JSON is invalid or the publisher fails
+     */
+    public CompletableFuture<Dict> dict() {
+        return this.future;
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription sub) {
+        if (this.subscription.compareAndSet(null, sub)) {
+            sub.request(1L);
+        } else {
+            sub.cancel();
+        }
+    }
+
+    @Override
+    public void onNext(final ByteBuffer chunk) {
+        if (!this.future.isDone()) {
+            try {
+                final byte[] bytes = new byte[chunk.remaining()];
+                chunk.get(bytes);
+                this.feed.value().feed(bytes);
+                this.subscription.get().request(1L);
+            } catch (final Exception ex) {
+                this.subscription.get().cancel();
+                this.future.completeExceptionally(ex);
+            }
+        }
+    }
+
+    @Override
+    public void onError(final Throwable error) {
+        this.future.completeExceptionally(error);
+    }
+
+    @Override
+    public void onComplete() {
+        try {
+            this.future.complete(new DictOf(this.feed.value().end()));
+        } catch (final Exception ex) {
+            this.future.completeExceptionally(ex);
+        }
+    }
+}
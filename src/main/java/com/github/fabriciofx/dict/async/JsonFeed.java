@@ -0,0 +1,205 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.async;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.github.fabriciofx.dict.codec.Codecs;
+import com.github.fabriciofx.dict.json.Limits;
+import com.github.fabriciofx.dict.json.Walk;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JsonFeed.
+ *
+ * <p>Build a map from a JSON object fed in chunks of bytes to a Jackson
+ * non-blocking parser. Each chunk is parsed as far as it goes and the
+ * objects and arrays still open are kept in a stack, so nothing blocks
+ * waiting for the next chunk. The object is checked against its
+ * {@link Limits} as the tokens arrive, so an object over a limit fails at
+ * the chunk that crosses it. Not thread safe: feed it from one thread at a
+ * time, as a {@link java.util.concurrent.Flow.Subscriber} is.
+ *
+ * @since 0.0.42
+ */
+final class JsonFeed {
+    /**
+     * Parser.
+     */
+    private final JsonParser parser;
+
+    /**
+     * Codecs.
+     */
+    private final Codecs codecs;
+
+    /**
+     * Walk over the object, to check its limits.
+     */
+    private final Walk walk;
+
+    /**
+     * Objects and arrays still open.
+     */
+    private final Deque<Object> open;
+
+    /**
+     * Root object, set when it starts.
+     */
+    private final List<Map<String, Object>> root;
+
+    /**
+     * Ctor.
+     * @param codecs Codecs to restore the value types
+     * @param limits Limits of the object
+     * @throws IOException If fails
+     */
+    JsonFeed(final Codecs codecs, final Limits limits) throws IOException {
+        this(
+            limits.factory().createNonBlockingByteArrayParser(),
+            codecs,
+            limits
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param parser Non-blocking parser
+     * @param codecs Codecs to restore the value types
+     * @param limits Limits of the object
+     */
+    private JsonFeed(
+        final JsonParser parser,
+        final Codecs codecs,
+        final Limits limits
+    ) {
+        this.parser = parser;
+        this.codecs = codecs;
+        this.walk = limits.walk(parser);
+        this.open = new ArrayDeque<>();
+        this.root = new ArrayList<>(1);
+    }
+
+    /**
+     * Feed a chunk of bytes, parsing it as far as it goes.
+     * @param bytes The chunk
+     * @throws IOException If the JSON is invalid
+     */
+    void feed(final byte[] bytes) throws IOException {
+        ((ByteArrayFeeder) this.parser.getNonBlockingInputFeeder())
+            .feedInput(bytes, 0, bytes.length);
+        this.parse();
+    }
+
+    /**
+     * Signal the end of the input.
+     * @return The map; empty if there was no input at all
+     * @throws IOException If the JSON is invalid or incomplete
+     */
+    Map<String, Object> end() throws IOException {
+        ((ByteArrayFeeder) this.parser.getNonBlockingInputFeeder())
+            .endOfInput();
+        this.parse();
+        this.parser.close();
+        if (!this.open.isEmpty()) {
+            throw new JsonParseException(
+                this.parser,
+                "Unexpected end of input inside a JSON object"
+            );
+        }
+        final Map<String, Object> map;
+        if (this.root.isEmpty()) {
+            map = new LinkedHashMap<>();
+        } else {
+            map = this.root.get(0);
+        }
+        return map;
+    }
+
+    /**
+     * Parse the tokens available.
+     * @throws IOException If the JSON is invalid
+     * @checkstyle CyclomaticComplexityCheck (50 lines)
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private void parse() throws IOException {
+        JsonToken token = this.parser.nextToken();
+        while (token != null && token != JsonToken.NOT_AVAILABLE) {
+            this.walk.value();
+            if (this.open.isEmpty() && !this.root.isEmpty()) {
+                throw new JsonParseException(
+                    this.parser,
+                    String.format(
+                        "Unexpected %s after the JSON object",
+                        token
+                    )
+                );
+            }
+            if (token == JsonToken.START_OBJECT) {
+                this.walk.enter();
+                final Map<String, Object> map = new LinkedHashMap<>();
+                if (this.open.isEmpty()) {
+                    this.root.add(map);
+                } else {
+                    this.add(map);
+                }
+                this.open.push(map);
+            } else if (token == JsonToken.START_ARRAY
+                && !this.open.isEmpty()) {
+                this.walk.enter();
+                final List<Object> list = new ArrayList<>();
+                this.add(list);
+                this.open.push(list);
+            } else if (token == JsonToken.END_OBJECT
+                || token == JsonToken.END_ARRAY) {
+                this.walk.leave();
+                this.open.pop();
+            } else if (token == JsonToken.FIELD_NAME) {
+                this.walk.key(this.parser.currentName());
+            } else {
+                if (this.open.isEmpty()) {
+                    throw new JsonParseException(
+                        this.parser,
+                        String.format(
+                            "Expected a JSON object but found %s",
+                            token
+                        )
+                    );
+                }
+                if (token == JsonToken.VALUE_STRING) {
+                    this.walk.text(this.parser.getText());
+                }
+                this.add(this.codecs.value(this.parser));
+            }
+            token = this.parser.nextToken();
+        }
+    }
+
+    /**
+     * Add a value to the innermost open object or array.
+     * @param value The value
+     * @throws IOException If fails
+     */
+    @SuppressWarnings("unchecked")
+    private void add(final Object value) throws IOException {
+        final Object container = this.open.peek();
+        if (container instanceof Map) {
+            ((Map<String, Object>) container).put(
+                this.parser.currentName(),
+                value
+            );
+        } else {
+            ((List<Object>) container).add(value);
+        }
+    }
+}
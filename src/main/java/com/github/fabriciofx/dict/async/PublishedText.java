@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.async;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.Text;
+
+/**
+ * PublishedText.
+ *
+ * <p>Publisher of a text, like a dict as JSON or a {@link
+ * com.github.fabriciofx.dict.xml.DictAsXml}, as chunks of UTF-8 bytes. For
+ * each subscriber, the text is computed on an executor and then sent
+ * honoring the demand of the subscriber.
+ *
+ * @since 0.0.42
+ */
+public final class PublishedText implements Flow.Publisher<ByteBuffer> {
+    /**
+     * Default size of the chunks, in bytes.
+     */
+    private static final int CHUNK = 8192;
+
+    /**
+     * Text.
+     */
+    private final AsyncText text;
+
+    /**
+     * Size of the chunks, in bytes.
+     */
+    private final int chunk;
+
+    /**
+     * Ctor.
+     * @param text Text
+     */
+    public PublishedText(final Text text) {
+        this(text, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Ctor.
+     * @param text Text
+     * @param executor Executor where the text is computed
+     */
+    public PublishedText(final Text text, final Executor executor) {
+        this(new AsyncText(text, executor), PublishedText.CHUNK);
+    }
+
+    /**
+     * Ctor.
+     * @param text Text computed asynchronously
+     * @param chunk Size of the chunks, in bytes
+     */
+    public PublishedText(final AsyncText text, final int chunk) {
+        this.text = text;
+        this.chunk = chunk;
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super ByteBuffer> sub) {
+        final Chunks chunks = new Chunks(
+            sub,
+            this.text.value().thenApply(
+                str -> str.getBytes(StandardCharsets.UTF_8)
+            ),
+            this.chunk
+        );
+        sub.onSubscribe(chunks);
+        chunks.start();
+    }
+}
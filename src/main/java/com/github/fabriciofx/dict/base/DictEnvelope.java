@@ -0,0 +1,106 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.base;
+
+import com.github.fabriciofx.dict.Dict;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * DictEnvelope.
+ *
+ * <p>Delegate all the dict operations to another dict, given as is or by
+ * a scalar. The scalar is called at each operation, so make it
+ * {@link org.cactoos.scalar.Sticky} and {@link org.cactoos.scalar.Synced}
+ * to build the dict once, on first use. Subclasses may override the
+ * operations, but equality is the one of {@link Dict} for all of them.
+ *
+ * @since 0.0.42
+ * @checkstyle DesignForExtensionCheck (200 lines)
+ */
+public abstract class DictEnvelope implements Dict {
+    /**
+     * Origin dict.
+     */
+    private final Unchecked<Dict> origin;
+
+    /**
+     * Ctor.
+     * @param dict Dict to delegate to
+     */
+    public DictEnvelope(final Dict dict) {
+        this(() -> dict);
+    }
+
+    /**
+     * Ctor.
+     * @param dict Scalar of the dict to delegate to
+     */
+    public DictEnvelope(final Scalar<Dict> dict) {
+        this.origin = new Unchecked<>(dict);
+    }
+
+    @Override
+    public Set<String> keys() {
+        return this.origin.value().keys();
+    }
+
+    @Override
+    public Collection<Object> values() {
+        return this.origin.value().values();
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entries() {
+        return this.origin.value().entries();
+    }
+
+    @Override
+    public void forEach(final BiConsumer<String, Object> action) {
+        this.origin.value().forEach(action);
+    }
+
+    @Override
+    public Spliterator<Map.Entry<String, Object>> spliterator() {
+        return this.origin.value().spliterator();
+    }
+
+    @Override
+    public int count() {
+        return this.origin.value().count();
+    }
+
+    @Override
+    public <T> T value(final String key, final Class<T> type) {
+        return this.origin.value().value(key, type);
+    }
+
+    @Override
+    public Dict with(final String key, final Object value) {
+        return this.origin.value().with(key, value);
+    }
+
+    @Override
+    public String asString() throws Exception {
+        return this.origin.value().asString();
+    }
+
+    @Override
+    public final boolean equals(final Object dict) {
+        return this == dict
+            || dict instanceof Dict
+            && this.entries().equals(Dict.class.cast(dict).entries());
+    }
+
+    @Override
+    public final int hashCode() {
+        return this.entries().hashCode();
+    }
+}
@@ -4,24 +4,27 @@
  */
 package com.github.fabriciofx.dict.base;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
-import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
 import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.codec.Codecs;
+import com.github.fabriciofx.dict.jfr.ParsedMap;
+import com.github.fabriciofx.dict.jfr.WrittenText;
+import com.github.fabriciofx.dict.json.DictMapper;
 import com.github.fabriciofx.dict.json.DictToJson;
+import com.github.fabriciofx.dict.json.JsonAsMap;
 import com.github.fabriciofx.dict.json.JsonToDict;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import com.github.fabriciofx.dict.json.Limits;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
 import org.cactoos.Scalar;
+import org.cactoos.scalar.Sticky;
 import org.cactoos.scalar.Unchecked;
 
 /**
@@ -32,6 +35,13 @@ import org.cactoos.scalar.Unchecked;
 @JsonSerialize(using = DictToJson.class)
 @JsonDeserialize(using = JsonToDict.class)
 public final class DictOf implements Dict {
+    /**
+     * Writer shared by all dicts to write them as JSON. The writing is
+     * recorded by {@link WrittenText}, not by {@link DictToJson}.
+     */
+    private static final ObjectWriter WRITER = new DictMapper().writer()
+        .withAttribute(DictToJson.RECORDED, Boolean.TRUE);
+
     /**
      * Map.
      */
@@ -49,22 +59,33 @@ public final class DictOf implements Dict {
      * @param json JSON string to convert in dict.
      */
     public DictOf(final String json) {
+        this(json, new Codecs());
+    }
+
+    /**
+     * Ctor.
+     * @param json JSON string to convert in dict.
+     * @param codecs Codecs to restore the types of the values.
+     */
+    public DictOf(final String json, final Codecs codecs) {
+        this(json, codecs, new Limits());
+    }
+
+    /**
+     * Ctor.
+     * @param json JSON string to convert in dict.
+     * @param codecs Codecs to restore the types of the values.
+     * @param limits Limits of the JSON, checked while it is parsed.
+     */
+    public DictOf(final String json, final Codecs codecs, final Limits limits) {
         this(
-            () -> {
-                final ObjectMapper mapper = new ObjectMapper();
-                mapper.registerModule(new JavaTimeModule());
-                final String content;
-                if (json.isEmpty()) {
-                    content = "{}";
-                } else {
-                    content = json;
-                }
-                return mapper.readValue(
-                    content,
-                    new TypeReference<>() {
-                    }
-                );
-            }
+            new Sticky<>(
+                new ParsedMap(
+                    new JsonAsMap(json, codecs, limits),
+                    "DictOf",
+                    () -> (long) json.length()
+                )
+            )
         );
     }
 
@@ -102,6 +123,21 @@ public final class DictOf implements Dict {
         return this.scalar.value().values();
     }
 
+    @Override
+    public Set<Map.Entry<String, Object>> entries() {
+        return Collections.unmodifiableMap(this.scalar.value()).entrySet();
+    }
+
+    @Override
+    public void forEach(final BiConsumer<String, Object> action) {
+        this.scalar.value().forEach(action);
+    }
+
+    @Override
+    public Spliterator<Map.Entry<String, Object>> spliterator() {
+        return this.entries().spliterator();
+    }
+
     @Override
     public int count() {
         return this.scalar.value().size();
@@ -123,11 +159,18 @@ public final class DictOf implements Dict {
 
     @Override
     public boolean equals(final Object dict) {
-        return this == dict
-            || dict instanceof DictOf
-            && DictOf.class.cast(dict).scalar.value().equals(
+        final boolean equal;
+        if (this == dict) {
+            equal = true;
+        } else if (dict instanceof DictOf) {
+            equal = DictOf.class.cast(dict).scalar.value().equals(
                 this.scalar.value()
-        );
+            );
+        } else {
+            equal = dict instanceof Dict
+                && this.entries().equals(Dict.class.cast(dict).entries());
+        }
+        return equal;
     }
 
     @Override
@@ -137,21 +180,10 @@ public final class DictOf implements Dict {
 
     @Override
     public String asString() throws Exception {
-        final ObjectMapper mapper = new ObjectMapper();
-        final JavaTimeModule module = new JavaTimeModule();
-        module.addSerializer(
-            LocalDate.class,
-            new LocalDateSerializer(
-                DateTimeFormatter.ofPattern("yyyy-MM-dd")
-            )
-        );
-        module.addSerializer(
-            LocalDateTime.class,
-            new LocalDateTimeSerializer(
-                DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
-            )
-        );
-        mapper.registerModule(module);
-        return mapper.writeValueAsString(this.scalar.value());
+        return new WrittenText(
+            () -> DictOf.WRITER.writeValueAsString(this),
+            "DictOf",
+            this
+        ).asString();
     }
 }
@@ -0,0 +1,80 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.base;
+
+import com.github.fabriciofx.dict.Dict;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * EntriesOf.
+ *
+ * <p>Set of the entries of a dict, read through the spliterator of its
+ * backing store. Nothing is copied: each iteration builds a new
+ * spliterator.
+ *
+ * @since 0.0.42
+ */
+public final class EntriesOf extends AbstractSet<Map.Entry<String, Object>> {
+    /**
+     * Dict.
+     */
+    private final Dict dict;
+
+    /**
+     * Spliterator of the entries.
+     */
+    private final Unchecked<Spliterator<Map.Entry<String, Object>>> entries;
+
+    /**
+     * Ctor.
+     * @param dict Dict
+     * @param entries Spliterator of the entries of the dict
+     */
+    public EntriesOf(
+        final Dict dict,
+        final Scalar<Spliterator<Map.Entry<String, Object>>> entries
+    ) {
+        super();
+        this.dict = dict;
+        this.entries = new Unchecked<>(entries);
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, Object>> iterator() {
+        return Spliterators.iterator(this.entries.value());
+    }
+
+    @Override
+    public Spliterator<Map.Entry<String, Object>> spliterator() {
+        return this.entries.value();
+    }
+
+    @Override
+    public int size() {
+        return this.dict.count();
+    }
+
+    @Override
+    public boolean contains(final Object entry) {
+        boolean contains = false;
+        if (entry instanceof Map.Entry) {
+            final Map.Entry<?, ?> pair = (Map.Entry<?, ?>) entry;
+            contains = pair.getKey() instanceof String
+                && this.dict.keys().contains(pair.getKey())
+                && Objects.equals(
+                    this.dict.value((String) pair.getKey(), Object.class),
+                    pair.getValue()
+                );
+        }
+        return contains;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.batch;
+
+import com.github.fabriciofx.dict.Dict;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Batch.
+ *
+ * <p>Encode many dicts into a single output, in parallel and keeping their
+ * order. The dicts are read in windows; each window is split in one run per
+ * thread, every thread encodes its run with its own reusable
+ * {@link Encoder}, and the runs are written in order while the next window
+ * is encoded. Memory is bounded by two windows of encoded bytes, whatever
+ * the amount of dicts.
+ *
+ * @since 0.0.42
+ */
+public final class Batch {
+    /**
+     * Default amount of dicts of each run.
+     */
+    private static final int RUN = 256;
+
+    /**
+     * Dicts.
+     */
+    private final Iterable<Dict> dicts;
+
+    /**
+     * Output format.
+     */
+    private final Format format;
+
+    /**
+     * Amount of threads.
+     */
+    private final int threads;
+
+    /**
+     * Ctor.
+     * @param dicts Dicts
+     * @param format Output format
+     */
+    public Batch(final Stream<Dict> dicts, final Format format) {
+        this(dicts::iterator, format);
+    }
+
+    /**
+     * Ctor.
+     * @param dicts Dicts
+     * @param format Output format
+     */
+    public Batch(final Iterable<Dict> dicts, final Format format) {
+        this(dicts, format, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Ctor.
+     * @param dicts Dicts
+     * @param format Output format
+     * @param threads Amount of threads
+     */
+    public Batch(
+        final Iterable<Dict> dicts,
+        final Format format,
+        final int threads
+    ) {
+        this.dicts = dicts;
+        this.format = format;
+        this.threads = threads;
+    }
+
+    /**
+     * Encode all the dicts.
+     * @param output Where to write them; it is not closed
+     * @throws IOException If fails
+     */
+    public void write(final OutputStream output) throws IOException {
+        final ExecutorService pool = Executors.newFixedThreadPool(this.threads);
+        final ThreadLocal<Encoder> encoders = new ThreadLocal<>();
+        try {
+            output.write(this.format.head());
+            final Iterator<Dict> source = this.dicts.iterator();
+            List<Future<byte[]>> pending = new ArrayList<>(0);
+            boolean first = true;
+            while (source.hasNext()) {
+                final List<Future<byte[]>> window =
+                    new ArrayList<>(this.threads);
+                while (window.size() < this.threads && source.hasNext()) {
+                    window.add(
+                        pool.submit(
+                            this.task(encoders, Batch.run(source), first)
+                        )
+                    );
+                    first = false;
+                }
+                Batch.drain(pending, output);
+                pending = window;
+            }
+            Batch.drain(pending, output);
+            output.write(this.format.tail(first));
+            output.flush();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Task that encodes a run with the encoder of its thread.
+     * @param encoders Encoder of each thread
+     * @param run The run
+     * @param first Whether the run starts the output
+     * @return The task
+     */
+    private Callable<byte[]> task(
+        final ThreadLocal<Encoder> encoders,
+        final List<Dict> run,
+        final boolean first
+    ) {
+        return () -> {
+            Encoder encoder = encoders.get();
+            if (encoder == null) {
+                encoder = this.format.encoder();
+                encoders.set(encoder);
+            }
+            return encoder.encode(run, first);
+        };
+    }
+
+    /**
+     * Take the next run of dicts.
+     * @param source Dicts
+     * @return The run
+     */
+    private static List<Dict> run(final Iterator<Dict> source) {
+        final List<Dict> run = new ArrayList<>(Batch.RUN);
+        while (run.size() < Batch.RUN && source.hasNext()) {
+            run.add(source.next());
+        }
+        return run;
+    }
+
+    /**
+     * Write the encoded runs, in order, as they are done.
+     * @param runs The runs
+     * @param output Where to write them
+     * @throws IOException If fails
+     */
+    private static void drain(
+        final List<Future<byte[]>> runs,
+        final OutputStream output
+    ) throws IOException {
+        for (final Future<byte[]> run : runs) {
+            try {
+                output.write(run.get());
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(ex.getMessage());
+            } catch (final ExecutionException ex) {
+                throw new IOException(ex.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.batch;
+
+import com.github.fabriciofx.dict.Dict;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Encoder.
+ *
+ * <p>Encode runs of dicts, reusing its generator and buffer from one run to
+ * the next. It is not thread safe.
+ *
+ * @since 0.0.42
+ */
+public interface Encoder {
+    /**
+     * Encode a run of dicts, separating each one from the one before.
+     * @param dicts The dicts
+     * @param first Whether the run starts the output, so its first dict
+     *  has no separator before it
+     * @return The bytes
+     * @throws IOException If fails
+     */
+    byte[] encode(List<Dict> dicts, boolean first) throws IOException;
+}
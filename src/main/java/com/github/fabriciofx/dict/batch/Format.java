@@ -0,0 +1,37 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.batch;
+
+import java.io.IOException;
+
+/**
+ * Format.
+ *
+ * <p>Output format of a {@link Batch}: what comes before and after all the
+ * dicts and how each run of dicts is encoded.
+ *
+ * @since 0.0.42
+ */
+public interface Format {
+    /**
+     * Bytes written before all the dicts.
+     * @return The bytes
+     */
+    byte[] head();
+
+    /**
+     * Bytes written after all the dicts.
+     * @param empty Whether no dict was written
+     * @return The bytes
+     */
+    byte[] tail(boolean empty);
+
+    /**
+     * Build an encoder, to be used by a single thread and reused by it.
+     * @return The encoder
+     * @throws IOException If fails
+     */
+    Encoder encoder() throws IOException;
+}
@@ -0,0 +1,46 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.batch;
+
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fabriciofx.dict.json.DictMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JsonArray.
+ *
+ * <p>A single JSON array holding all the dicts.
+ *
+ * @since 0.0.42
+ */
+public final class JsonArray implements Format {
+    /**
+     * Mapper shared by all encoders.
+     */
+    private static final ObjectMapper MAPPER = new DictMapper();
+
+    @Override
+    public byte[] head() {
+        return "[".getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public byte[] tail(final boolean empty) {
+        return "]".getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Encoder encoder() throws IOException {
+        final ByteArrayBuilder buffer = new ByteArrayBuilder();
+        return new JsonEncoder(
+            buffer,
+            JsonArray.MAPPER.createGenerator(buffer)
+                .setRootValueSeparator(null),
+            ",".getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.batch;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.github.fabriciofx.dict.Dict;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * JsonEncoder.
+ *
+ * <p>Encode dicts as JSON with a single generator writing into a reusable
+ * buffer.
+ *
+ * @since 0.0.42
+ */
+final class JsonEncoder implements Encoder {
+    /**
+     * Buffer.
+     */
+    private final ByteArrayBuilder buffer;
+
+    /**
+     * Generator writing into the buffer.
+     */
+    private final JsonGenerator generator;
+
+    /**
+     * Separator between two dicts.
+     */
+    private final byte[] separator;
+
+    /**
+     * Ctor.
+     * @param buffer Buffer
+     * @param generator Generator writing into the buffer
+     * @param separator Separator between two dicts
+     */
+    JsonEncoder(
+        final ByteArrayBuilder buffer,
+        final JsonGenerator generator,
+        final byte[] separator
+    ) {
+        this.buffer = buffer;
+        this.generator = generator;
+        this.separator = separator.clone();
+    }
+
+    @Override
+    public byte[] encode(final List<Dict> dicts, final boolean first)
+        throws IOException {
+        this.buffer.reset();
+        boolean separate = !first;
+        for (final Dict dict : dicts) {
+            if (separate) {
+                this.generator.flush();
+                this.buffer.write(this.separator);
+            }
+            this.generator.writeObject(dict);
+            separate = true;
+        }
+        this.generator.flush();
+        return this.buffer.toByteArray();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.batch;
+
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fabriciofx.dict.json.DictMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Ndjson.
+ *
+ * <p>Newline delimited JSON: one dict per line, each line ended by a
+ * newline. No dicts give an empty output.
+ *
+ * @since 0.0.42
+ */
+public final class Ndjson implements Format {
+    /**
+     * Mapper shared by all encoders.
+     */
+    private static final ObjectMapper MAPPER = new DictMapper();
+
+    @Override
+    public byte[] head() {
+        return new byte[0];
+    }
+
+    @Override
+    public byte[] tail(final boolean empty) {
+        final byte[] tail;
+        if (empty) {
+            tail = new byte[0];
+        } else {
+            tail = "\n".getBytes(StandardCharsets.UTF_8);
+        }
+        return tail;
+    }
+
+    @Override
+    public Encoder encoder() throws IOException {
+        final ByteArrayBuilder buffer = new ByteArrayBuilder();
+        return new JsonEncoder(
+            buffer,
+            Ndjson.MAPPER.createGenerator(buffer).setRootValueSeparator(null),
+            "\n".getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
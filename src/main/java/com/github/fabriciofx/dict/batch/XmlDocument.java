@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.batch;
+
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.github.fabriciofx.dict.xml.XmlDictMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * XmlDocument.
+ *
+ * <p>A single XML document with a root element holding one element per
+ * dict, written as by {@link com.github.fabriciofx.dict.xml.DictAsXml}.
+ *
+ * @since 0.0.42
+ */
+public final class XmlDocument implements Format {
+    /**
+     * Mapper shared by all encoders to write the XML.
+     */
+    private static final XmlMapper XML = new XmlDictMapper();
+
+    /**
+     * Name of the root element.
+     */
+    private final String root;
+
+    /**
+     * Name of the element of each dict.
+     */
+    private final String element;
+
+    /**
+     * Ctor.
+     */
+    public XmlDocument() {
+        this("dicts", "dict");
+    }
+
+    /**
+     * Ctor.
+     * @param root Name of the root element
+     * @param element Name of the element of each dict
+     */
+    public XmlDocument(final String root, final String element) {
+        this.root = root;
+        this.element = element;
+    }
+
+    @Override
+    public byte[] head() {
+        return String.format("<%s>", this.root)
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public byte[] tail(final boolean empty) {
+        return String.format("</%s>", this.root)
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Encoder encoder() throws IOException {
+        final ByteArrayBuilder buffer = new ByteArrayBuilder();
+        return new XmlEncoder(
+            XmlDocument.XML.writer().withRootName(this.element),
+            buffer,
+            XmlDocument.XML.getFactory().createGenerator(buffer)
+        );
+    }
+}
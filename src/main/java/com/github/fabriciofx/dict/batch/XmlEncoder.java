@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.batch;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.fabriciofx.dict.Dict;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * XmlEncoder.
+ *
+ * <p>Encode each dict as an XML element into a reusable buffer, through a
+ * single generator writing into it.
+ *
+ * @since 0.0.42
+ */
+final class XmlEncoder implements Encoder {
+    /**
+     * Writer of each element.
+     */
+    private final ObjectWriter writer;
+
+    /**
+     * Buffer.
+     */
+    private final ByteArrayBuilder buffer;
+
+    /**
+     * Generator writing into the buffer.
+     */
+    private final JsonGenerator generator;
+
+    /**
+     * Ctor.
+     * @param writer Writer of each element
+     * @param buffer Buffer
+     * @param generator Generator writing into the buffer
+     */
+    XmlEncoder(
+        final ObjectWriter writer,
+        final ByteArrayBuilder buffer,
+        final JsonGenerator generator
+    ) {
+        this.writer = writer;
+        this.buffer = buffer;
+        this.generator = generator;
+    }
+
+    @Override
+    public byte[] encode(final List<Dict> dicts, final boolean first)
+        throws IOException {
+        this.buffer.reset();
+        for (final Dict dict : dicts) {
+            this.writer.writeValue(this.generator, dict);
+        }
+        this.generator.flush();
+        return this.buffer.toByteArray();
+    }
+}
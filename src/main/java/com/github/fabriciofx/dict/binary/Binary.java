@@ -0,0 +1,360 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.binary;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Binary.
+ *
+ * <p>Compact binary encoding of dict values: a one byte tag followed by the
+ * value. Strings, booleans, numbers, {@link BigDecimal}, {@link BigInteger},
+ * {@link LocalDate}, {@link LocalDateTime}, {@link Instant}, {@link UUID},
+ * lists, maps and dicts are supported; nested dicts are read back as
+ * {@link DictOf} and nested maps as {@link LinkedHashMap}. Numbers are
+ * written big-endian, as by {@link DataOutput}.
+ *
+ * @since 0.0.42
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@SuppressWarnings({"PMD.CouplingBetweenObjects", "PMD.GodClass"})
+public final class Binary {
+    /**
+     * Tag of null.
+     */
+    private static final byte NULL = 0;
+
+    /**
+     * Tag of a string.
+     */
+    private static final byte STRING = 1;
+
+    /**
+     * Tag of true.
+     */
+    private static final byte TRUE = 2;
+
+    /**
+     * Tag of false.
+     */
+    private static final byte FALSE = 3;
+
+    /**
+     * Tag of an integer.
+     */
+    private static final byte INT = 4;
+
+    /**
+     * Tag of a long.
+     */
+    private static final byte LONG = 5;
+
+    /**
+     * Tag of a double.
+     */
+    private static final byte DOUBLE = 6;
+
+    /**
+     * Tag of a float.
+     */
+    private static final byte FLOAT = 7;
+
+    /**
+     * Tag of a big decimal.
+     */
+    private static final byte DECIMAL = 8;
+
+    /**
+     * Tag of a big integer.
+     */
+    private static final byte BIGINT = 9;
+
+    /**
+     * Tag of a date.
+     */
+    private static final byte DATE = 10;
+
+    /**
+     * Tag of a date and time.
+     */
+    private static final byte DATETIME = 11;
+
+    /**
+     * Tag of an instant.
+     */
+    private static final byte INSTANT = 12;
+
+    /**
+     * Tag of an UUID.
+     */
+    private static final byte UUID_TAG = 13;
+
+    /**
+     * Tag of a list.
+     */
+    private static final byte LIST = 14;
+
+    /**
+     * Tag of a map.
+     */
+    private static final byte MAP = 15;
+
+    /**
+     * Tag of a dict.
+     */
+    private static final byte DICT = 16;
+
+    /**
+     * Encode a value.
+     * @param value The value
+     * @return The bytes
+     */
+    public byte[] bytes(final Object value) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            this.write(value, new DataOutputStream(bytes));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Write a value.
+     * @param value The value
+     * @param out Where to write
+     * @throws IOException If fails
+     * @checkstyle CyclomaticComplexityCheck (80 lines)
+     * @checkstyle ExecutableStatementCountCheck (80 lines)
+     */
+    @SuppressWarnings({"PMD.CognitiveComplexity", "PMD.NcssCount"})
+    public void write(final Object value, final DataOutput out)
+        throws IOException {
+        if (value == null) {
+            out.writeByte(Binary.NULL);
+        } else if (value instanceof String) {
+            out.writeByte(Binary.STRING);
+            this.text((String) value, out);
+        } else if (value instanceof Boolean) {
+            if ((Boolean) value) {
+                out.writeByte(Binary.TRUE);
+            } else {
+                out.writeByte(Binary.FALSE);
+            }
+        } else if (value instanceof Integer) {
+            out.writeByte(Binary.INT);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(Binary.LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeByte(Binary.DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(Binary.FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof BigDecimal) {
+            out.writeByte(Binary.DECIMAL);
+            this.text(value.toString(), out);
+        } else if (value instanceof BigInteger) {
+            out.writeByte(Binary.BIGINT);
+            this.text(value.toString(), out);
+        } else if (value instanceof LocalDate) {
+            out.writeByte(Binary.DATE);
+            out.writeLong(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalDateTime) {
+            out.writeByte(Binary.DATETIME);
+            out.writeLong(((LocalDateTime) value).toLocalDate().toEpochDay());
+            out.writeLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+        } else if (value instanceof Instant) {
+            out.writeByte(Binary.INSTANT);
+            out.writeLong(((Instant) value).getEpochSecond());
+            out.writeInt(((Instant) value).getNano());
+        } else if (value instanceof UUID) {
+            out.writeByte(Binary.UUID_TAG);
+            out.writeLong(((UUID) value).getMostSignificantBits());
+            out.writeLong(((UUID) value).getLeastSignificantBits());
+        } else if (value instanceof Collection) {
+            out.writeByte(Binary.LIST);
+            out.writeInt(((Collection<?>) value).size());
+            for (final Object element : (Collection<?>) value) {
+                this.write(element, out);
+            }
+        } else if (value instanceof Map) {
+            out.writeByte(Binary.MAP);
+            out.writeInt(((Map<?, ?>) value).size());
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                this.text(entry.getKey().toString(), out);
+                this.write(entry.getValue(), out);
+            }
+        } else if (value instanceof Dict) {
+            out.writeByte(Binary.DICT);
+            out.writeInt(((Dict) value).count());
+            for (final Map.Entry<String, Object> entry
+                : ((Dict) value).entries()) {
+                this.text(entry.getKey(), out);
+                this.write(entry.getValue(), out);
+            }
+        } else {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Can't encode a value of type %s",
+                    value.getClass().getName()
+                )
+            );
+        }
+    }
+
+    /**
+     * Decode the value at the position of a buffer, moving the position to
+     * the end of the value.
+     * @param buffer The buffer
+     * @return The value
+     * @checkstyle CyclomaticComplexityCheck (80 lines)
+     * @checkstyle ExecutableStatementCountCheck (80 lines)
+     */
+    @SuppressWarnings({"PMD.CognitiveComplexity", "PMD.NcssCount"})
+    public Object value(final ByteBuffer buffer) {
+        final byte tag = buffer.get();
+        final Object value;
+        switch (tag) {
+            case Binary.NULL:
+                value = null;
+                break;
+            case Binary.STRING:
+                value = this.text(buffer);
+                break;
+            case Binary.TRUE:
+                value = Boolean.TRUE;
+                break;
+            case Binary.FALSE:
+                value = Boolean.FALSE;
+                break;
+            case Binary.INT:
+                value = buffer.getInt();
+                break;
+            case Binary.LONG:
+                value = buffer.getLong();
+                break;
+            case Binary.DOUBLE:
+                value = buffer.getDouble();
+                break;
+            case Binary.FLOAT:
+                value = buffer.getFloat();
+                break;
+            case Binary.DECIMAL:
+                value = new BigDecimal(this.text(buffer));
+                break;
+            case Binary.BIGINT:
+                value = new BigInteger(this.text(buffer));
+                break;
+            case Binary.DATE:
+                value = LocalDate.ofEpochDay(buffer.getLong());
+                break;
+            case Binary.DATETIME:
+                value = LocalDateTime.of(
+                    LocalDate.ofEpochDay(buffer.getLong()),
+                    LocalTime.ofNanoOfDay(buffer.getLong())
+                );
+                break;
+            case Binary.INSTANT:
+                value = Instant.ofEpochSecond(
+                    buffer.getLong(),
+                    buffer.getInt()
+                );
+                break;
+            case Binary.UUID_TAG:
+                value = new UUID(buffer.getLong(), buffer.getLong());
+                break;
+            case Binary.LIST:
+                value = this.list(buffer);
+                break;
+            case Binary.MAP:
+                value = this.map(buffer);
+                break;
+            case Binary.DICT:
+                value = new DictOf(this.map(buffer));
+                break;
+            default:
+                throw new IllegalArgumentException(
+                    String.format("Unknown binary tag %d", tag)
+                );
+        }
+        return value;
+    }
+
+    /**
+     * Write a string as its length and UTF-8 bytes.
+     * @param text The string
+     * @param out Where to write
+     * @throws IOException If fails
+     */
+    public void text(final String text, final DataOutput out)
+        throws IOException {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Read a string written by {@link #text(String, DataOutput)}.
+     * @param buffer The buffer
+     * @return The string
+     */
+    public String text(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read a list.
+     * @param buffer The buffer
+     * @return The list
+     */
+    private List<Object> list(final ByteBuffer buffer) {
+        final int size = buffer.getInt();
+        final List<Object> list = new ArrayList<>(size);
+        for (int idx = 0; idx < size; ++idx) {
+            list.add(this.value(buffer));
+        }
+        return list;
+    }
+
+    /**
+     * Read a map.
+     * @param buffer The buffer
+     * @return The map
+     */
+    private Map<String, Object> map(final ByteBuffer buffer) {
+        final int size = buffer.getInt();
+        final Map<String, Object> map = new LinkedHashMap<>();
+        for (int idx = 0; idx < size; ++idx) {
+            final String key = this.text(buffer);
+            map.put(key, this.value(buffer));
+        }
+        return map;
+    }
+}
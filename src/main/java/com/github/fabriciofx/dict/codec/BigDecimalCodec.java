@@ -0,0 +1,49 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * BigDecimalCodec.
+ *
+ * <p>Codec of {@link BigDecimal} written as a JSON number. When enabled,
+ * every JSON number with a fraction or an exponent is read as a
+ * {@link BigDecimal}, keeping all its digits, instead of a {@link Double}.
+ *
+ * @since 0.0.42
+ */
+public final class BigDecimalCodec implements Codec<BigDecimal> {
+    @Override
+    public Class<BigDecimal> type() {
+        return BigDecimal.class;
+    }
+
+    @Override
+    public JsonToken token() {
+        return JsonToken.VALUE_NUMBER_FLOAT;
+    }
+
+    @Override
+    public boolean matches(final String text) {
+        return true;
+    }
+
+    @Override
+    public BigDecimal decode(final String text) {
+        return new BigDecimal(text);
+    }
+
+    @Override
+    public void encode(
+        final BigDecimal value,
+        final JsonGenerator generator
+    ) throws IOException {
+        generator.writeNumber(value);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+
+/**
+ * Codec.
+ *
+ * <p>Write a typed value to JSON and restore its type when reading it back.
+ *
+ * @param <T> Value type
+ * @since 0.0.42
+ */
+public interface Codec<T> {
+    /**
+     * Type of the values.
+     * @return The type
+     */
+    Class<T> type();
+
+    /**
+     * JSON token the values are written as.
+     * @return The token
+     */
+    JsonToken token();
+
+    /**
+     * Check if a text has the format of a value.
+     * @param text The text of a JSON token
+     * @return True if the text can be decoded
+     */
+    boolean matches(String text);
+
+    /**
+     * Decode a value.
+     * @param text The text of a JSON token, already matched
+     * @return The value
+     */
+    T decode(String text);
+
+    /**
+     * Encode a value.
+     * @param value The value
+     * @param generator The JSON generator
+     * @throws IOException If fails
+     */
+    void encode(T value, JsonGenerator generator) throws IOException;
+}
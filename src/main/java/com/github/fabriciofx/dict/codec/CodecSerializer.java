@@ -0,0 +1,48 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+
+/**
+ * CodecSerializer.
+ *
+ * <p>Jackson serializer writing values through a codec.
+ *
+ * @param <T> Value type
+ * @since 0.0.42
+ */
+final class CodecSerializer<T> extends StdSerializer<T> {
+    /**
+     * Serial version UID.
+     */
+    private static final long serialVersionUID = 4005361384425217468L;
+
+    /**
+     * Codec.
+     */
+    private final transient Codec<T> codec;
+
+    /**
+     * Ctor.
+     * @param codec Codec to write the values
+     */
+    CodecSerializer(final Codec<T> codec) {
+        super(codec.type());
+        this.codec = codec;
+    }
+
+    @Override
+    public void serialize(
+        final T value,
+        final JsonGenerator generator,
+        final SerializerProvider provider
+    ) throws IOException {
+        this.codec.encode(value, generator);
+    }
+}
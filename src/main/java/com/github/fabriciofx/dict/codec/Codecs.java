@@ -0,0 +1,161 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.codec;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.util.List;
+
+/**
+ * Codecs.
+ *
+ * <p>The codecs used to restore the types of the values read from JSON and
+ * to write them back. By default, {@link java.time.LocalDate},
+ * {@link java.time.LocalDateTime} and {@link java.time.Instant} are
+ * restored; {@link UuidCodec} and {@link BigDecimalCodec} must be enabled
+ * explicitly, since they change the type of values that are commonly read
+ * as {@link String} and {@link Double}.
+ *
+ * @since 0.0.42
+ */
+public final class Codecs {
+    /**
+     * Codecs, in the order they are tried.
+     */
+    private final List<Codec<?>> all;
+
+    /**
+     * Ctor.
+     */
+    public Codecs() {
+        this(
+            new LocalDateCodec(),
+            new LocalDateTimeCodec(),
+            new InstantCodec()
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param codecs Codecs, in the order they are tried
+     */
+    public Codecs(final Codec<?>... codecs) {
+        this(List.of(codecs));
+    }
+
+    /**
+     * Ctor.
+     * @param codecs Codecs, in the order they are tried
+     */
+    public Codecs(final List<Codec<?>> codecs) {
+        this.all = codecs;
+    }
+
+    /**
+     * Check if there is a codec for a JSON token.
+     * @param token The JSON token
+     * @return True if some codec decodes the token
+     */
+    public boolean decodes(final JsonToken token) {
+        boolean decodes = false;
+        for (final Codec<?> codec : this.all) {
+            if (codec.token() == token) {
+                decodes = true;
+                break;
+            }
+        }
+        return decodes;
+    }
+
+    /**
+     * Decode the text of a JSON token with the first codec matching it.
+     * @param token The JSON token
+     * @param text The text of the token
+     * @return The decoded value or the text itself if no codec matches
+     */
+    public Object decode(final JsonToken token, final String text) {
+        Object value = text;
+        for (final Codec<?> codec : this.all) {
+            if (codec.token() == token && codec.matches(text)) {
+                try {
+                    value = codec.decode(text);
+                    break;
+                } catch (final DateTimeException ex) {
+                    value = text;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Read the scalar value at the current token of a parser, restoring its
+     * type with the first codec matching it.
+     * @param parser The parser, at a scalar value
+     * @return The value
+     * @throws IOException If the token is not a scalar value
+     * @checkstyle CyclomaticComplexityCheck (40 lines)
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    public Object value(final JsonParser parser) throws IOException {
+        final JsonToken token = parser.currentToken();
+        final Object value;
+        if (token == JsonToken.VALUE_STRING) {
+            value = this.decode(token, parser.getText());
+        } else if (token == JsonToken.VALUE_NUMBER_INT) {
+            value = parser.getNumberValue();
+        } else if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            if (this.decodes(token)) {
+                value = this.decode(token, parser.getText());
+            } else {
+                value = parser.getDoubleValue();
+            }
+        } else if (token == JsonToken.VALUE_TRUE) {
+            value = Boolean.TRUE;
+        } else if (token == JsonToken.VALUE_FALSE) {
+            value = Boolean.FALSE;
+        } else if (token == JsonToken.VALUE_NULL) {
+            value = null;
+        } else if (token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+            value = parser.getEmbeddedObject();
+        } else {
+            throw new JsonParseException(
+                parser,
+                String.format("Unexpected token %s", token)
+            );
+        }
+        return value;
+    }
+
+    /**
+     * Jackson module with a serializer for each codec.
+     * @return The module
+     */
+    public Module module() {
+        final SimpleModule module = new SimpleModule("dict-codecs");
+        for (final Codec<?> codec : this.all) {
+            Codecs.register(module, codec);
+        }
+        return module;
+    }
+
+    /**
+     * Register the serializer of a codec.
+     * @param module The module
+     * @param codec The codec
+     * @param <T> Value type
+     */
+    private static <T> void register(
+        final SimpleModule module,
+        final Codec<T> codec
+    ) {
+        module.addSerializer(codec.type(), new CodecSerializer<>(codec));
+    }
+}
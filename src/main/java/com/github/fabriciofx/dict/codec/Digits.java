@@ -0,0 +1,136 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.codec;
+
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * Digits.
+ *
+ * <p>Read and write the fixed width numbers of dates and times, without
+ * going through a formatter.
+ *
+ * @since 0.0.42
+ */
+final class Digits {
+    /**
+     * Text.
+     */
+    private final CharSequence text;
+
+    /**
+     * Ctor.
+     * @param text Text with the digits
+     */
+    Digits(final CharSequence text) {
+        this.text = text;
+    }
+
+    /**
+     * Read a number.
+     * @param start Index of the first digit (inclusive)
+     * @param end Index of the last digit (exclusive)
+     * @return The number or -1 if there is a char that is not a digit
+     */
+    int number(final int start, final int end) {
+        int number = 0;
+        for (int idx = start; number >= 0 && idx < end; ++idx) {
+            final char chr = this.text.charAt(idx);
+            if (chr >= '0' && chr <= '9') {
+                number = number * 10 + chr - '0';
+            } else {
+                number = -1;
+            }
+        }
+        return number;
+    }
+
+    /**
+     * Read a fraction of second.
+     * @param start Index of the first digit, after the dot
+     * @param end Index of the last digit (exclusive), at most nine digits
+     *  after the first one
+     * @return The nanoseconds or -1 if there is a char that is not a digit
+     */
+    int nanos(final int start, final int end) {
+        int nanos = this.number(start, end);
+        for (int idx = end - start; nanos >= 0 && idx < 9; ++idx) {
+            nanos *= 10;
+        }
+        return nanos;
+    }
+
+    /**
+     * Check if there is a valid "yyyy-MM-dd" date.
+     * @param start Index of the first digit of the year
+     * @return True if there is a valid date
+     */
+    boolean date(final int start) {
+        final int year = this.number(start, start + 4);
+        final int month = this.number(start + 5, start + 7);
+        final int day = this.number(start + 8, start + 10);
+        return this.has(start + 4, '-') && this.has(start + 7, '-')
+            && year >= 0 && month >= 1 && month <= 12 && day >= 1
+            && day <= Month.of(month).length(Year.isLeap(year));
+    }
+
+    /**
+     * Check a char.
+     * @param index Index of the char
+     * @param expected Expected char
+     * @return True if the char at index is the expected one
+     */
+    boolean has(final int index, final char expected) {
+        return this.text.charAt(index) == expected;
+    }
+
+    /**
+     * Write a number with a fixed width, padded with zeros.
+     * @param number Non negative number, smaller than 10^width
+     * @param chars Where to write
+     * @param start Index of the first digit
+     * @param width Amount of digits
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    static void write(
+        final int number,
+        final char[] chars,
+        final int start,
+        final int width
+    ) {
+        int rest = number;
+        for (int idx = start + width - 1; idx >= start; --idx) {
+            chars[idx] = (char) ('0' + rest % 10);
+            rest /= 10;
+        }
+    }
+
+    /**
+     * Write a fraction of second as a dot and its digits, without the
+     * trailing zeros, or nothing if there is no fraction.
+     * @param nanos Nanoseconds
+     * @param chars Where to write, with room for ten chars from start
+     * @param start Index of the dot
+     * @return Index after the last char written
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    static int fraction(final int nanos, final char[] chars, final int start) {
+        int end = start;
+        if (nanos > 0) {
+            int digits = nanos;
+            int width = 9;
+            while (digits % 10 == 0) {
+                digits /= 10;
+                --width;
+            }
+            chars[start] = '.';
+            Digits.write(digits, chars, start + 1, width);
+            end = start + 1 + width;
+        }
+        return end;
+    }
+}
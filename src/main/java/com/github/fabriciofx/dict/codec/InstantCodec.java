@@ -0,0 +1,95 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * InstantCodec.
+ *
+ * <p>Codec of {@link Instant} written in ISO-8601 at UTC, like
+ * "2025-05-06T14:23:52Z", with up to nine digits of fraction of second.
+ * It is read back by hand, with no formatter.
+ *
+ * @since 0.0.42
+ */
+public final class InstantCodec implements Codec<Instant> {
+    /**
+     * Shortest length, of "yyyy-MM-ddTHH:mm:ssZ".
+     */
+    private static final int LENGTH = 20;
+
+    /**
+     * Seconds in a day.
+     */
+    private static final long DAY = 86_400L;
+
+    @Override
+    public Class<Instant> type() {
+        return Instant.class;
+    }
+
+    @Override
+    public JsonToken token() {
+        return JsonToken.VALUE_STRING;
+    }
+
+    @Override
+    public boolean matches(final String text) {
+        boolean matches = false;
+        final int length = text.length();
+        if (length >= InstantCodec.LENGTH && text.charAt(length - 1) == 'Z') {
+            final Digits digits = new Digits(text);
+            final int hour = digits.number(11, 13);
+            final int minute = digits.number(14, 16);
+            final int second = digits.number(17, 19);
+            matches = digits.has(10, 'T') && digits.has(13, ':')
+                && digits.has(16, ':')
+                && hour >= 0 && hour <= 23
+                && minute >= 0 && minute <= 59
+                && second >= 0 && second <= 59
+                && (length == InstantCodec.LENGTH
+                    || length > InstantCodec.LENGTH + 1
+                    && length <= InstantCodec.LENGTH + 10
+                    && digits.has(19, '.')
+                    && digits.number(20, length - 1) >= 0)
+                && digits.date(0);
+        }
+        return matches;
+    }
+
+    @Override
+    public Instant decode(final String text) {
+        final Digits digits = new Digits(text);
+        int nanos = 0;
+        if (text.length() > InstantCodec.LENGTH) {
+            nanos = digits.nanos(20, text.length() - 1);
+        }
+        return Instant.ofEpochSecond(
+            LocalDate.of(
+                digits.number(0, 4),
+                digits.number(5, 7),
+                digits.number(8, 10)
+            ).toEpochDay() * InstantCodec.DAY
+                + digits.number(11, 13) * 3600L
+                + digits.number(14, 16) * 60L
+                + digits.number(17, 19),
+            nanos
+        );
+    }
+
+    @Override
+    public void encode(
+        final Instant value,
+        final JsonGenerator generator
+    ) throws IOException {
+        generator.writeString(DateTimeFormatter.ISO_INSTANT.format(value));
+    }
+}
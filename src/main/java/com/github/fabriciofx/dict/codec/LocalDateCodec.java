@@ -0,0 +1,71 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * LocalDateCodec.
+ *
+ * <p>Codec of {@link LocalDate} written as "yyyy-MM-dd".
+ *
+ * @since 0.0.42
+ */
+public final class LocalDateCodec implements Codec<LocalDate> {
+    /**
+     * Length of "yyyy-MM-dd".
+     */
+    private static final int LENGTH = 10;
+
+    @Override
+    public Class<LocalDate> type() {
+        return LocalDate.class;
+    }
+
+    @Override
+    public JsonToken token() {
+        return JsonToken.VALUE_STRING;
+    }
+
+    @Override
+    public boolean matches(final String text) {
+        return text.length() == LocalDateCodec.LENGTH
+            && new Digits(text).date(0);
+    }
+
+    @Override
+    public LocalDate decode(final String text) {
+        final Digits digits = new Digits(text);
+        return LocalDate.of(
+            digits.number(0, 4),
+            digits.number(5, 7),
+            digits.number(8, 10)
+        );
+    }
+
+    @Override
+    public void encode(
+        final LocalDate value,
+        final JsonGenerator generator
+    ) throws IOException {
+        if (value.getYear() >= 0 && value.getYear() <= 9999) {
+            final char[] chars = new char[LocalDateCodec.LENGTH];
+            Digits.write(value.getYear(), chars, 0, 4);
+            chars[4] = '-';
+            Digits.write(value.getMonthValue(), chars, 5, 2);
+            chars[7] = '-';
+            Digits.write(value.getDayOfMonth(), chars, 8, 2);
+            generator.writeString(chars, 0, chars.length);
+        } else {
+            generator.writeString(
+                DateTimeFormatter.ISO_LOCAL_DATE.format(value)
+            );
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * UuidCodec.
+ *
+ * <p>Codec of {@link UUID} written in its canonical 36 chars form.
+ *
+ * @since 0.0.42
+ */
+public final class UuidCodec implements Codec<UUID> {
+    /**
+     * Length of a UUID.
+     */
+    private static final int LENGTH = 36;
+
+    @Override
+    public Class<UUID> type() {
+        return UUID.class;
+    }
+
+    @Override
+    public JsonToken token() {
+        return JsonToken.VALUE_STRING;
+    }
+
+    @Override
+    public boolean matches(final String text) {
+        boolean matches = text.length() == UuidCodec.LENGTH;
+        for (int idx = 0; matches && idx < UuidCodec.LENGTH; ++idx) {
+            final char chr = text.charAt(idx);
+            if (idx == 8 || idx == 13 || idx == 18 || idx == 23) {
+                matches = chr == '-';
+            } else {
+                matches = Character.digit(chr, 16) >= 0;
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public UUID decode(final String text) {
+        return UUID.fromString(text);
+    }
+
+    @Override
+    public void encode(
+        final UUID value,
+        final JsonGenerator generator
+    ) throws IOException {
+        generator.writeString(value.toString());
+    }
+}
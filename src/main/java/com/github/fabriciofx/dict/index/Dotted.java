@@ -0,0 +1,59 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.index;
+
+import com.github.fabriciofx.dict.Dict;
+import java.util.Map;
+
+/**
+ * Dotted.
+ *
+ * <p>Path of keys separated by dots, like {@code address.city}, that walks
+ * through nested dicts and maps.
+ *
+ * @since 0.0.42
+ */
+final class Dotted {
+    /**
+     * Keys of the path.
+     */
+    private final String[] keys;
+
+    /**
+     * Ctor.
+     * @param path Path of keys separated by dots
+     */
+    Dotted(final String path) {
+        this(path.split("\\."));
+    }
+
+    /**
+     * Ctor.
+     * @param keys Keys of the path
+     */
+    private Dotted(final String... keys) {
+        this.keys = keys;
+    }
+
+    /**
+     * Value at the path.
+     * @param dict The dict
+     * @return The value or null if some key of the path is absent
+     */
+    Object value(final Dict dict) {
+        Object value = dict;
+        for (final String key : this.keys) {
+            if (value instanceof Dict) {
+                value = ((Dict) value).value(key, Object.class);
+            } else if (value instanceof Map) {
+                value = ((Map<?, ?>) value).get(key);
+            } else {
+                value = null;
+                break;
+            }
+        }
+        return value;
+    }
+}
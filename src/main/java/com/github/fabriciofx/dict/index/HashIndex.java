@@ -0,0 +1,137 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.index;
+
+import com.github.fabriciofx.dict.Dict;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * HashIndex.
+ *
+ * <p>Index that finds the dicts with a given value in constant time, using
+ * {@link Object#equals(Object)}. Numbers are compared by their numeric
+ * value, as in a {@link SortedIndex}, so {@code 5} and {@code 5L} are the
+ * same key. Null values are indexed too.
+ *
+ * @since 0.0.42
+ */
+public final class HashIndex implements Index {
+    /**
+     * Lowest long.
+     */
+    private static final BigDecimal LOWEST = BigDecimal.valueOf(Long.MIN_VALUE);
+
+    /**
+     * Highest long.
+     */
+    private static final BigDecimal HIGHEST = BigDecimal.valueOf(
+        Long.MAX_VALUE
+    );
+
+    /**
+     * Path of the indexed value.
+     */
+    private final String name;
+
+    /**
+     * Path to read the value.
+     */
+    private final Dotted dotted;
+
+    /**
+     * Dicts by value and primary key.
+     */
+    private final Map<Object, Map<Object, Dict>> buckets;
+
+    /**
+     * Ctor.
+     * @param path Path of the indexed value
+     */
+    public HashIndex(final String path) {
+        this(path, new HashMap<>());
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the indexed value
+     * @param buckets Dicts by value and primary key
+     */
+    HashIndex(final String path, final Map<Object, Map<Object, Dict>> buckets) {
+        this.name = path;
+        this.dotted = new Dotted(path);
+        this.buckets = buckets;
+    }
+
+    @Override
+    public String path() {
+        return this.name;
+    }
+
+    @Override
+    public void add(final Object id, final Dict dict) {
+        this.buckets.computeIfAbsent(
+            HashIndex.key(this.dotted.value(dict)),
+            value -> new LinkedHashMap<>()
+        ).put(id, dict);
+    }
+
+    @Override
+    public void remove(final Object id, final Dict dict) {
+        final Object value = HashIndex.key(this.dotted.value(dict));
+        final Map<Object, Dict> bucket = this.buckets.get(value);
+        if (bucket != null) {
+            bucket.remove(id);
+            if (bucket.isEmpty()) {
+                this.buckets.remove(value);
+            }
+        }
+    }
+
+    @Override
+    public Collection<Dict> equal(final Object value) {
+        return Collections.unmodifiableCollection(
+            this.buckets.getOrDefault(
+                HashIndex.key(value),
+                Collections.emptyMap()
+            ).values()
+        );
+    }
+
+    /**
+     * Key of a value in the buckets: integral numbers that fit in a long
+     * become a long and the other finite numbers a big decimal without
+     * trailing zeros; other values are kept as they are.
+     * @param value The value
+     * @return The key
+     */
+    private static Object key(final Object value) {
+        final Object key;
+        if (value instanceof Long) {
+            key = value;
+        } else if (value instanceof Integer || value instanceof Short
+            || value instanceof Byte) {
+            key = ((Number) value).longValue();
+        } else if (value instanceof Number
+            && Double.isFinite(((Number) value).doubleValue())) {
+            final BigDecimal decimal = Ordering.decimal((Number) value)
+                .stripTrailingZeros();
+            if (decimal.scale() <= 0
+                && decimal.compareTo(HashIndex.LOWEST) >= 0
+                && decimal.compareTo(HashIndex.HIGHEST) <= 0) {
+                key = decimal.longValue();
+            } else {
+                key = decimal;
+            }
+        } else {
+            key = value;
+        }
+        return key;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.index;
+
+import com.github.fabriciofx.dict.Dict;
+import java.util.Collection;
+
+/**
+ * Index.
+ *
+ * <p>Secondary index of the dicts of an {@link Indexed} by the value at a
+ * path. Each dict is known by its primary key. It is not thread safe: the
+ * {@link Indexed} that owns it guards it.
+ *
+ * @since 0.0.42
+ */
+public interface Index {
+    /**
+     * Path of the indexed value, like {@code status} or {@code address.city}.
+     * @return The path
+     */
+    String path();
+
+    /**
+     * Add a dict.
+     * @param id Primary key of the dict
+     * @param dict The dict
+     */
+    void add(Object id, Dict dict);
+
+    /**
+     * Remove a dict.
+     * @param id Primary key of the dict
+     * @param dict The dict, as it was added
+     */
+    void remove(Object id, Dict dict);
+
+    /**
+     * Dicts with a value at the path equal to the given one.
+     * @param value The value
+     * @return The dicts
+     */
+    Collection<Dict> equal(Object value);
+}
@@ -0,0 +1,269 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.index;
+
+import com.github.fabriciofx.dict.Dict;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Indexed.
+ *
+ * <p>Collection of dicts, known by the value of a primary key, with
+ * secondary indexes that are updated on each change, so a lookup by value
+ * does not scan the whole collection:
+ * <pre>{@code
+ * final Indexed users = new Indexed(
+ *     "id", new HashIndex("status"), new SortedIndex("address.zip")
+ * );
+ * users.add(user);
+ * final Collection<Dict> active = users.equal("status", "active");
+ * final Collection<Dict> zips = users.range("address.zip", 1000, 2000);
+ * }</pre>
+ * Adding a dict with a primary key already in the collection replaces the
+ * old one. Adding is all or nothing: if an index rejects the dict, the
+ * indexes are rolled back and the collection is left as it was. It is
+ * thread safe: queries run concurrently and give a copy of
+ * the matching dicts, while changes are exclusive.
+ *
+ * @since 0.0.42
+ */
+public final class Indexed implements Iterable<Dict> {
+    /**
+     * Path of the primary key.
+     */
+    private final Dotted key;
+
+    /**
+     * Secondary indexes.
+     */
+    private final List<Index> indexes;
+
+    /**
+     * Dicts by primary key, in the order they were first added.
+     */
+    private final Map<Object, Dict> dicts;
+
+    /**
+     * Lock.
+     */
+    private final ReadWriteLock lock;
+
+    /**
+     * Ctor.
+     * @param key Path of the primary key
+     * @param indexes Secondary indexes
+     */
+    public Indexed(final String key, final Index... indexes) {
+        this(key, Arrays.asList(indexes));
+    }
+
+    /**
+     * Ctor.
+     * @param key Path of the primary key
+     * @param indexes Secondary indexes
+     */
+    public Indexed(final String key, final List<Index> indexes) {
+        this.key = new Dotted(key);
+        this.indexes = indexes;
+        this.dicts = new LinkedHashMap<>();
+        this.lock = new ReentrantReadWriteLock();
+    }
+
+    /**
+     * Add a dict, replacing the one with the same primary key.
+     * @param dict The dict
+     * @return This collection
+     */
+    public Indexed add(final Dict dict) {
+        final Object id = this.key.value(dict);
+        if (id == null) {
+            throw new IllegalArgumentException(
+                "Dict has no primary key to be indexed"
+            );
+        }
+        this.lock.writeLock().lock();
+        try {
+            this.reindex(id, this.dicts.get(id), dict);
+            this.dicts.put(id, dict);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+        return this;
+    }
+
+    /**
+     * Remove a dict.
+     * @param id Primary key of the dict
+     * @return This collection
+     */
+    public Indexed remove(final Object id) {
+        this.lock.writeLock().lock();
+        try {
+            final Dict old = this.dicts.remove(id);
+            if (old != null) {
+                for (final Index index : this.indexes) {
+                    index.remove(id, old);
+                }
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+        return this;
+    }
+
+    /**
+     * Dict with a primary key.
+     * @param id Primary key of the dict
+     * @return The dict or null if absent
+     */
+    public Dict dict(final Object id) {
+        this.lock.readLock().lock();
+        try {
+            return this.dicts.get(id);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Amount of dicts.
+     * @return The amount
+     */
+    public int count() {
+        this.lock.readLock().lock();
+        try {
+            return this.dicts.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Dicts with a value at an indexed path equal to the given one.
+     * @param path Indexed path
+     * @param value The value
+     * @return The dicts
+     */
+    public Collection<Dict> equal(final String path, final Object value) {
+        this.lock.readLock().lock();
+        try {
+            return new ArrayList<>(this.index(path, Index.class).equal(value));
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Dicts with a value at a path with a {@link SortedIndex} from a value,
+     * inclusive, to another one, exclusive.
+     * @param path Path with a sorted index
+     * @param from The lowest value or null for no lower bound
+     * @param until The highest value or null for no higher bound
+     * @return The dicts
+     */
+    public Collection<Dict> range(
+        final String path,
+        final Object from,
+        final Object until
+    ) {
+        this.lock.readLock().lock();
+        try {
+            return this.index(path, SortedIndex.class).range(from, until);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Iterator<Dict> iterator() {
+        this.lock.readLock().lock();
+        try {
+            return new ArrayList<>(this.dicts.values()).iterator();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Move a dict in all the indexes from its old version to the new one,
+     * moving it back in the indexes already done if one of them fails.
+     * @param id Primary key of the dict
+     * @param old Old version of the dict or null if there is none
+     * @param dict New version of the dict
+     */
+    private void reindex(final Object id, final Dict old, final Dict dict) {
+        int done = 0;
+        try {
+            for (final Index index : this.indexes) {
+                Indexed.move(index, id, old, dict);
+                ++done;
+            }
+        } catch (final RuntimeException ex) {
+            for (int idx = done - 1; idx >= 0; --idx) {
+                Indexed.move(this.indexes.get(idx), id, dict, old);
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Find an index on a path.
+     * @param path The path
+     * @param type Type of the index
+     * @param <T> Type of the index
+     * @return The index
+     */
+    private <T extends Index> T index(final String path, final Class<T> type) {
+        for (final Index index : this.indexes) {
+            if (index.path().equals(path) && type.isInstance(index)) {
+                return type.cast(index);
+            }
+        }
+        throw new IllegalArgumentException(
+            String.format(
+                "No %s on path '%s'",
+                type.getSimpleName(),
+                path
+            )
+        );
+    }
+
+    /**
+     * Move a dict in an index from a version to another, putting the first
+     * version back if the index rejects the second one.
+     * @param index The index
+     * @param id Primary key of the dict
+     * @param from Version to remove or null if there is none
+     * @param into Version to add or null if there is none
+     */
+    private static void move(
+        final Index index,
+        final Object id,
+        final Dict from,
+        final Dict into
+    ) {
+        if (from != null) {
+            index.remove(id, from);
+        }
+        if (into != null) {
+            try {
+                index.add(id, into);
+            } catch (final RuntimeException ex) {
+                if (from != null) {
+                    index.add(id, from);
+                }
+                throw ex;
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.index;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Comparator;
+
+/**
+ * Ordering.
+ *
+ * <p>Order of the values of a {@link SortedIndex}. Numbers of different
+ * types are compared by their numeric value, so {@code 5} and {@code 5L}
+ * are the same key; the other values must be mutually comparable.
+ *
+ * @since 0.0.42
+ */
+final class Ordering implements Comparator<Object> {
+    @Override
+    @SuppressWarnings("unchecked")
+    public int compare(final Object first, final Object second) {
+        final int result;
+        if (first instanceof Number && second instanceof Number
+            && first.getClass() != second.getClass()) {
+            result = Ordering.decimal((Number) first).compareTo(
+                Ordering.decimal((Number) second)
+            );
+        } else if (first instanceof Comparable) {
+            result = ((Comparable<Object>) first).compareTo(second);
+        } else {
+            throw new IllegalArgumentException(
+                String.format("Value is not comparable: %s", first)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Number as a big decimal.
+     * @param number The number
+     * @return The big decimal
+     */
+    static BigDecimal decimal(final Number number) {
+        final BigDecimal decimal;
+        if (number instanceof BigDecimal) {
+            decimal = (BigDecimal) number;
+        } else if (number instanceof BigInteger) {
+            decimal = new BigDecimal((BigInteger) number);
+        } else if (number instanceof Double || number instanceof Float) {
+            decimal = BigDecimal.valueOf(number.doubleValue());
+        } else {
+            decimal = BigDecimal.valueOf(number.longValue());
+        }
+        return decimal;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.index;
+
+import com.github.fabriciofx.dict.Dict;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * SortedIndex.
+ *
+ * <p>Index that keeps the values in order, to find the dicts with a value
+ * equal to a given one or inside a range in logarithmic time. Dicts with a
+ * null or absent value are not indexed.
+ *
+ * @since 0.0.42
+ */
+public final class SortedIndex implements Index {
+    /**
+     * Path of the indexed value.
+     */
+    private final String name;
+
+    /**
+     * Path to read the value.
+     */
+    private final Dotted dotted;
+
+    /**
+     * Dicts by value and primary key.
+     */
+    private final NavigableMap<Object, Map<Object, Dict>> tree;
+
+    /**
+     * Ctor.
+     * @param path Path of the indexed value
+     */
+    public SortedIndex(final String path) {
+        this(path, new TreeMap<>(new Ordering()));
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the indexed value
+     * @param tree Dicts by value and primary key
+     */
+    SortedIndex(
+        final String path,
+        final NavigableMap<Object, Map<Object, Dict>> tree
+    ) {
+        this.name = path;
+        this.dotted = new Dotted(path);
+        this.tree = tree;
+    }
+
+    @Override
+    public String path() {
+        return this.name;
+    }
+
+    @Override
+    public void add(final Object id, final Dict dict) {
+        final Object value = this.dotted.value(dict);
+        if (value != null) {
+            this.tree.computeIfAbsent(value, key -> new LinkedHashMap<>())
+                .put(id, dict);
+        }
+    }
+
+    @Override
+    public void remove(final Object id, final Dict dict) {
+        final Object value = this.dotted.value(dict);
+        if (value != null) {
+            final Map<Object, Dict> bucket = this.tree.get(value);
+            if (bucket != null) {
+                bucket.remove(id);
+                if (bucket.isEmpty()) {
+                    this.tree.remove(value);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Collection<Dict> equal(final Object value) {
+        Collection<Dict> dicts = Collections.emptyList();
+        if (value != null) {
+            dicts = Collections.unmodifiableCollection(
+                this.tree.getOrDefault(value, Collections.emptyMap()).values()
+            );
+        }
+        return dicts;
+    }
+
+    /**
+     * Dicts with a value at the path from a value, inclusive, to another
+     * one, exclusive, in the order of the values. A range where the lowest
+     * value is not below the highest one is empty.
+     * @param from The lowest value or null for no lower bound
+     * @param until The highest value or null for no higher bound
+     * @return The dicts
+     */
+    public Collection<Dict> range(final Object from, final Object until) {
+        final List<Dict> dicts = new ArrayList<>(0);
+        if (from == null || until == null
+            || this.tree.comparator().compare(from, until) < 0) {
+            NavigableMap<Object, Map<Object, Dict>> range = this.tree;
+            if (from != null) {
+                range = range.tailMap(from, true);
+            }
+            if (until != null) {
+                range = range.headMap(until, false);
+            }
+            for (final Map<Object, Dict> bucket : range.values()) {
+                dicts.addAll(bucket.values());
+            }
+        }
+        return dicts;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.jfr;
+
+import com.github.fabriciofx.dict.Dict;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Depth.
+ *
+ * <p>Nesting depth of a value: zero for a plain value and one more than its
+ * deepest element for a dict, a map or a collection.
+ *
+ * @since 0.0.42
+ */
+final class Depth {
+    /**
+     * Value.
+     */
+    private final Object origin;
+
+    /**
+     * Ctor.
+     * @param value Value to measure
+     */
+    Depth(final Object value) {
+        this.origin = value;
+    }
+
+    /**
+     * Compute the depth.
+     * @return The depth
+     */
+    int value() {
+        final int depth;
+        if (this.origin instanceof Dict) {
+            depth = Depth.deepest(((Dict) this.origin).values()) + 1;
+        } else if (this.origin instanceof Map) {
+            depth = Depth.deepest(((Map<?, ?>) this.origin).values()) + 1;
+        } else if (this.origin instanceof Collection) {
+            depth = Depth.deepest((Collection<?>) this.origin) + 1;
+        } else {
+            depth = 0;
+        }
+        return depth;
+    }
+
+    /**
+     * Depth of the deepest element.
+     * @param elements Elements
+     * @return The depth
+     */
+    private static int deepest(final Collection<?> elements) {
+        int depth = 0;
+        for (final Object element : elements) {
+            depth = Math.max(depth, new Depth(element).value());
+        }
+        return depth;
+    }
+}
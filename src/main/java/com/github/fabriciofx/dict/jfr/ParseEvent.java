@@ -0,0 +1,81 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.jfr;
+
+import com.github.fabriciofx.dict.Dict;
+import java.util.Map;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * ParseEvent.
+ *
+ * <p>Emitted when a JSON document is parsed into a dict. It is enabled, and its
+ * threshold changed, by the JFR settings under the name
+ * {@code com.github.fabriciofx.dict.Parse}. The size, keys and depth are
+ * computed only when the event is going to be committed.
+ *
+ * @since 0.0.42
+ */
+@Name("com.github.fabriciofx.dict.Parse")
+@Label("Dict Parse")
+@Category("Dict")
+@Description("Parsing of a document into a dict.")
+@Threshold("1 ms")
+@SuppressWarnings("PMD.ImmutableField")
+public final class ParseEvent extends jdk.jfr.Event {
+    /**
+     * Source of the event.
+     */
+    @Label("Source")
+    private String source;
+
+    /**
+     * Size of the document.
+     */
+    @Label("Size")
+    @Description("Characters read")
+    private long size;
+
+    /**
+     * Amount of keys.
+     */
+    @Label("Keys")
+    private int keys;
+
+    /**
+     * Nesting depth.
+     */
+    @Label("Depth")
+    private int depth;
+
+    /**
+     * Commit the event, if it is enabled and above its threshold.
+     * @param name Source of the event, like the class that emitted it
+     * @param length Size of the document
+     * @param data The parsed dict or map
+     */
+    public void record(
+        final String name,
+        final long length,
+        final Object data
+    ) {
+        this.end();
+        if (this.shouldCommit()) {
+            this.source = name;
+            this.size = length;
+            if (data instanceof Dict) {
+                this.keys = ((Dict) data).count();
+            } else if (data instanceof Map) {
+                this.keys = ((Map<?, ?>) data).size();
+            }
+            this.depth = new Depth(data).value();
+            this.commit();
+        }
+    }
+}
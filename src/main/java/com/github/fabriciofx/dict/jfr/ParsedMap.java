@@ -0,0 +1,59 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.jfr;
+
+import java.util.Map;
+import org.cactoos.Scalar;
+
+/**
+ * ParsedMap.
+ *
+ * <p>Emit a {@link ParseEvent} for each parsing of a map.
+ *
+ * @since 0.0.42
+ */
+public final class ParsedMap implements Scalar<Map<String, Object>> {
+    /**
+     * Origin scalar.
+     */
+    private final Scalar<Map<String, Object>> origin;
+
+    /**
+     * Source of the events.
+     */
+    private final String source;
+
+    /**
+     * Size of the document, computed after the parsing.
+     */
+    private final Scalar<Long> size;
+
+    /**
+     * Ctor.
+     * @param scalar Scalar that parses the map
+     * @param source Source of the events
+     * @param size Size of the document, computed after the parsing
+     */
+    public ParsedMap(
+        final Scalar<Map<String, Object>> scalar,
+        final String source,
+        final Scalar<Long> size
+    ) {
+        this.origin = scalar;
+        this.source = source;
+        this.size = size;
+    }
+
+    @Override
+    public Map<String, Object> value() throws Exception {
+        final ParseEvent event = new ParseEvent();
+        event.begin();
+        final Map<String, Object> map = this.origin.value();
+        if (event.isEnabled()) {
+            event.record(this.source, this.size.value(), map);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.jfr;
+
+import com.github.fabriciofx.dict.Dict;
+import org.cactoos.Text;
+
+/**
+ * WrittenText.
+ *
+ * <p>Emit a {@link WriteEvent} for each writing of a dict as text.
+ *
+ * @since 0.0.42
+ */
+public final class WrittenText implements Text {
+    /**
+     * Origin text.
+     */
+    private final Text origin;
+
+    /**
+     * Source of the events.
+     */
+    private final String source;
+
+    /**
+     * Dict being written.
+     */
+    private final Dict dict;
+
+    /**
+     * Ctor.
+     * @param text Text that writes the dict
+     * @param source Source of the events
+     * @param dict Dict being written
+     */
+    public WrittenText(final Text text, final String source, final Dict dict) {
+        this.origin = text;
+        this.source = source;
+        this.dict = dict;
+    }
+
+    @Override
+    public String asString() throws Exception {
+        final WriteEvent event = new WriteEvent();
+        event.begin();
+        final String text = this.origin.asString();
+        if (event.isEnabled()) {
+            event.record(this.source, text.length(), this.dict);
+        }
+        return text;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fabriciofx.dict.Dict;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.Text;
+
+/**
+ * CanonicalJson.
+ *
+ * <p>A dict as canonical JSON, to be hashed or signed: the same entries
+ * always give the same text. Keys of dicts and maps are sorted, there is
+ * no whitespace and numbers are normalized, so {@code 1}, {@code 1L},
+ * {@code 1.0} and {@code new BigDecimal("1.00")} are all written as
+ * {@code 1}, with no exponent and no trailing zeros. Other values, like
+ * dates, are written by their codecs.
+ *
+ * @since 0.0.42
+ */
+public final class CanonicalJson implements Text {
+    /**
+     * Mapper to write the values that are not numbers nor containers.
+     */
+    private static final ObjectMapper MAPPER = new DictMapper();
+
+    /**
+     * Dict.
+     */
+    private final Dict dict;
+
+    /**
+     * Ctor.
+     * @param dict Dict
+     */
+    public CanonicalJson(final Dict dict) {
+        this.dict = dict;
+    }
+
+    @Override
+    public String asString() throws IOException {
+        final StringWriter writer = new StringWriter();
+        try (
+            JsonGenerator generator = CanonicalJson.MAPPER.getFactory()
+                .createGenerator(writer)
+        ) {
+            CanonicalJson.write(this.dict, generator);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Write a value.
+     * @param value The value
+     * @param generator The generator
+     * @throws IOException If fails
+     * @checkstyle CyclomaticComplexityCheck (50 lines)
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private static void write(
+        final Object value,
+        final JsonGenerator generator
+    ) throws IOException {
+        if (value instanceof Dict) {
+            CanonicalJson.object(
+                new ArrayList<>(((Dict) value).entries()),
+                generator
+            );
+        } else if (value instanceof Map) {
+            final List<Map.Entry<String, Object>> entries = new ArrayList<>(
+                ((Map<?, ?>) value).size()
+            );
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                entries.add(
+                    new AbstractMap.SimpleImmutableEntry<>(
+                        String.valueOf(entry.getKey()),
+                        entry.getValue()
+                    )
+                );
+            }
+            CanonicalJson.object(entries, generator);
+        } else if (value instanceof Collection) {
+            generator.writeStartArray();
+            for (final Object item : (Collection<?>) value) {
+                CanonicalJson.write(item, generator);
+            }
+            generator.writeEndArray();
+        } else if (value instanceof Number) {
+            generator.writeNumber(CanonicalJson.number((Number) value));
+        } else if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof String) {
+            generator.writeString((String) value);
+        } else if (value instanceof Boolean) {
+            generator.writeBoolean((Boolean) value);
+        } else {
+            generator.writeObject(value);
+        }
+    }
+
+    /**
+     * Write an object, sorting its entries by key.
+     * @param entries Entries of the object
+     * @param generator The generator
+     * @throws IOException If fails
+     */
+    private static void object(
+        final List<Map.Entry<String, Object>> entries,
+        final JsonGenerator generator
+    ) throws IOException {
+        entries.sort(Map.Entry.comparingByKey());
+        generator.writeStartObject();
+        for (final Map.Entry<String, Object> entry : entries) {
+            generator.writeFieldName(entry.getKey());
+            CanonicalJson.write(entry.getValue(), generator);
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Normalize a number.
+     * @param number The number
+     * @return The number without exponent nor trailing zeros
+     */
+    private static String number(final Number number) {
+        final BigDecimal decimal;
+        if (number instanceof BigDecimal) {
+            decimal = (BigDecimal) number;
+        } else if (number instanceof BigInteger) {
+            decimal = new BigDecimal((BigInteger) number);
+        } else if (number instanceof Double || number instanceof Float) {
+            final double real = number.doubleValue();
+            if (Double.isNaN(real) || Double.isInfinite(real)) {
+                throw new IllegalArgumentException(
+                    String.format("Number %s has no JSON form", number)
+                );
+            }
+            decimal = new BigDecimal(number.toString());
+        } else {
+            decimal = BigDecimal.valueOf(number.longValue());
+        }
+        final String text;
+        if (decimal.signum() == 0) {
+            text = "0";
+        } else {
+            text = decimal.stripTrailingZeros().toPlainString();
+        }
+        return text;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.codec.BigDecimalCodec;
+import com.github.fabriciofx.dict.codec.Codecs;
+import com.github.fabriciofx.dict.codec.InstantCodec;
+import com.github.fabriciofx.dict.codec.LocalDateCodec;
+import com.github.fabriciofx.dict.codec.LocalDateTimeCodec;
+import com.github.fabriciofx.dict.codec.UuidCodec;
+
+/**
+ * DictMapper.
+ *
+ * <p>Object mapper writing any dict, and its values with their codecs, as
+ * JSON. It is thread safe
+ * and meant to be created once and shared, since building a mapper is
+ * much more expensive than using it.
+ *
+ * @since 0.0.42
+ */
+public final class DictMapper extends ObjectMapper {
+    /**
+     * Serial version UID.
+     */
+    private static final long serialVersionUID = -2400716539394117452L;
+
+    /**
+     * Codecs used by default to write the values, shared by the mappers of
+     * dicts to any format.
+     */
+    public static final Codecs CODECS = new Codecs(
+        new LocalDateCodec(),
+        new LocalDateTimeCodec(),
+        new InstantCodec(),
+        new UuidCodec(),
+        new BigDecimalCodec()
+    );
+
+    /**
+     * Ctor.
+     */
+    public DictMapper() {
+        this(DictMapper.CODECS);
+    }
+
+    /**
+     * Ctor.
+     * @param codecs Codecs used to write the values
+     */
+    public DictMapper(final Codecs codecs) {
+        super();
+        this.registerModule(new JavaTimeModule());
+        this.registerModule(codecs.module());
+        this.registerModule(
+            new SimpleModule("dict").addSerializer(Dict.class, new DictToJson())
+        );
+    }
+}
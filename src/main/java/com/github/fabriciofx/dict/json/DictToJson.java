@@ -8,26 +8,118 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.jfr.WriteEvent;
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * DictToJson.
  *
- * Convert a dict in JSON.
+ * Convert a dict in JSON, emitting a {@link WriteEvent}. As the JSON is
+ * streamed, the size of the event is unknown. Keys are written from a
+ * shared cache of escaped keys, and strings, integers, longs, doubles,
+ * booleans, nested dicts, maps and collections are written straight to
+ * the generator; only the other values, like dates, look up a serializer.
+ * Nested dicts are written as part of the dict that holds them, so each
+ * dict serialized records a single event. No event is emitted for a root
+ * dict written with the {@link #RECORDED} attribute, whose writing is
+ * recorded by the caller.
  *
  * @since 0.0.1
  */
 public final class DictToJson extends JsonSerializer<Dict> {
+    /**
+     * Attribute of a writing already recorded by the caller.
+     */
+    public static final String RECORDED = "dict.recorded";
+
+    /**
+     * Escaped keys shared by all the serializers.
+     */
+    private static final Names NAMES = new Names(4096);
+
     @Override
     public void serialize(
         final Dict dict,
         final JsonGenerator generator,
         final SerializerProvider provider
+    ) throws IOException {
+        final boolean recorded = generator.getOutputContext().inRoot()
+            && provider.getAttribute(DictToJson.RECORDED) != null;
+        final WriteEvent event = new WriteEvent();
+        event.begin();
+        this.object(dict, generator, provider);
+        if (!recorded && event.isEnabled()) {
+            event.record("DictToJson", -1L, dict);
+        }
+    }
+
+    /**
+     * Write a dict as an object, with no event.
+     * @param dict The dict
+     * @param generator The generator
+     * @param provider Provider of serializers for the other values
+     * @throws IOException If fails
+     */
+    private void object(
+        final Dict dict,
+        final JsonGenerator generator,
+        final SerializerProvider provider
     ) throws IOException {
         generator.writeStartObject();
-        for (final String key : dict.keys()) {
-            generator.writeObjectField(key, dict.value(key, Object.class));
+        for (final Map.Entry<String, Object> entry : dict.entries()) {
+            generator.writeFieldName(DictToJson.NAMES.name(entry.getKey()));
+            this.write(entry.getValue(), generator, provider);
         }
         generator.writeEndObject();
     }
+
+    /**
+     * Write a value.
+     * @param value The value
+     * @param generator The generator
+     * @param provider Provider of serializers for the other values
+     * @throws IOException If fails
+     * @checkstyle CyclomaticComplexityCheck (50 lines)
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private void write(
+        final Object value,
+        final JsonGenerator generator,
+        final SerializerProvider provider
+    ) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof String) {
+            generator.writeString((String) value);
+        } else if (value instanceof Integer) {
+            generator.writeNumber((Integer) value);
+        } else if (value instanceof Long) {
+            generator.writeNumber((Long) value);
+        } else if (value instanceof Double) {
+            generator.writeNumber((Double) value);
+        } else if (value instanceof Boolean) {
+            generator.writeBoolean((Boolean) value);
+        } else if (value instanceof Dict) {
+            this.object((Dict) value, generator, provider);
+        } else if (value instanceof Map) {
+            generator.writeStartObject();
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                generator.writeFieldName(
+                    DictToJson.NAMES.name(String.valueOf(entry.getKey()))
+                );
+                this.write(entry.getValue(), generator, provider);
+            }
+            generator.writeEndObject();
+        } else if (value instanceof Collection) {
+            generator.writeStartArray();
+            for (final Object item : (Collection<?>) value) {
+                this.write(item, generator, provider);
+            }
+            generator.writeEndArray();
+        } else {
+            provider.defaultSerializeValue(value, generator);
+        }
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.json;
+
+import com.github.fabriciofx.dict.Dict;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * JoinedSpliterator.
+ *
+ * <p>Spliterator over several spliterators, one after the other. It splits
+ * between its parts while it has more than one left, and then splits the
+ * last one, so the parts are shared among threads before their contents.
+ *
+ * @since 0.0.42
+ */
+final class JoinedSpliterator implements Spliterator<Dict> {
+    /**
+     * Parts.
+     */
+    private final List<Spliterator<Dict>> parts;
+
+    /**
+     * End of the parts (exclusive).
+     */
+    private final int end;
+
+    /**
+     * Current part.
+     */
+    private int current;
+
+    /**
+     * Ctor.
+     * @param parts Parts
+     */
+    JoinedSpliterator(final List<Spliterator<Dict>> parts) {
+        this(parts, 0, parts.size());
+    }
+
+    /**
+     * Ctor.
+     * @param parts Parts
+     * @param start Start of the parts (inclusive)
+     * @param end End of the parts (exclusive)
+     */
+    private JoinedSpliterator(
+        final List<Spliterator<Dict>> parts,
+        final int start,
+        final int end
+    ) {
+        this.parts = parts;
+        this.current = start;
+        this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super Dict> action) {
+        boolean found = false;
+        while (!found && this.current < this.end) {
+            found = this.parts.get(this.current).tryAdvance(action);
+            if (!found) {
+                ++this.current;
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Spliterator<Dict> trySplit() {
+        final Spliterator<Dict> prefix;
+        if (this.end - this.current > 1) {
+            final int middle = this.current + (this.end - this.current) / 2;
+            prefix = new JoinedSpliterator(this.parts, this.current, middle);
+            this.current = middle;
+        } else if (this.current < this.end) {
+            prefix = this.parts.get(this.current).trySplit();
+        } else {
+            prefix = null;
+        }
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = 0;
+        for (int idx = this.current; idx < this.end; ++idx) {
+            size += this.parts.get(idx).estimateSize();
+        }
+        return size;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.NONNULL;
+    }
+}
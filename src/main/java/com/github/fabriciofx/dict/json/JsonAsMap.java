@@ -0,0 +1,228 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.json;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.fabriciofx.dict.codec.Codecs;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.Scalar;
+
+/**
+ * JsonAsMap.
+ *
+ * <p>Read a JSON object into a map walking the parser tokens directly,
+ * restoring the types of the values through codecs. Nested objects become
+ * maps and arrays become lists, as with Jackson untyped values. An empty
+ * input is read as an empty map. The document is checked against its
+ * {@link Limits} while it is read, so an oversized one is rejected before
+ * it is read entirely.
+ *
+ * @since 0.0.42
+ */
+public final class JsonAsMap implements Scalar<Map<String, Object>> {
+    /**
+     * Default limits, shared by all JSON strings.
+     */
+    private static final Limits LIMITS = new Limits();
+
+    /**
+     * Parser.
+     */
+    private final Scalar<JsonParser> parser;
+
+    /**
+     * Codecs.
+     */
+    private final Codecs codecs;
+
+    /**
+     * Limits.
+     */
+    private final Limits limits;
+
+    /**
+     * Whether the parser must be closed after reading.
+     */
+    private final boolean owned;
+
+    /**
+     * Ctor.
+     * @param json JSON string
+     */
+    public JsonAsMap(final String json) {
+        this(json, new Codecs());
+    }
+
+    /**
+     * Ctor.
+     * @param json JSON string
+     * @param codecs Codecs to restore the value types
+     */
+    public JsonAsMap(final String json, final Codecs codecs) {
+        this(json, codecs, JsonAsMap.LIMITS);
+    }
+
+    /**
+     * Ctor.
+     * @param json JSON string
+     * @param codecs Codecs to restore the value types
+     * @param limits Limits of the document
+     */
+    public JsonAsMap(
+        final String json,
+        final Codecs codecs,
+        final Limits limits
+    ) {
+        this(() -> limits.factory().createParser(json), codecs, limits, true);
+    }
+
+    /**
+     * Ctor.
+     * <p>The parser is left open, positioned at the end of the object.
+     * @param parser Parser before or at the start of a JSON object
+     * @param codecs Codecs to restore the value types
+     */
+    public JsonAsMap(final JsonParser parser, final Codecs codecs) {
+        this(parser, codecs, JsonAsMap.LIMITS);
+    }
+
+    /**
+     * Ctor.
+     * <p>The parser is left open, positioned at the end of the object, or
+     * where a limit was crossed.
+     * @param parser Parser before or at the start of a JSON object
+     * @param codecs Codecs to restore the value types
+     * @param limits Limits of the object
+     */
+    public JsonAsMap(
+        final JsonParser parser,
+        final Codecs codecs,
+        final Limits limits
+    ) {
+        this(() -> parser, codecs, limits, false);
+    }
+
+    /**
+     * Ctor.
+     * @param parser Parser
+     * @param codecs Codecs to restore the value types
+     * @param limits Limits of the document
+     * @param owned Whether the parser must be closed after reading
+     */
+    private JsonAsMap(
+        final Scalar<JsonParser> parser,
+        final Codecs codecs,
+        final Limits limits,
+        final boolean owned
+    ) {
+        this.parser = parser;
+        this.codecs = codecs;
+        this.limits = limits;
+        this.owned = owned;
+    }
+
+    @Override
+    public Map<String, Object> value() throws Exception {
+        final JsonParser source = this.parser.value();
+        try {
+            JsonToken token = source.currentToken();
+            if (token == null) {
+                token = source.nextToken();
+            }
+            final Map<String, Object> map;
+            if (token == null) {
+                map = new LinkedHashMap<>();
+            } else if (token == JsonToken.START_OBJECT
+                || token == JsonToken.FIELD_NAME) {
+                map = this.object(source, this.limits.walk(source));
+            } else {
+                throw new JsonParseException(
+                    source,
+                    String.format("Expected a JSON object but found %s", token)
+                );
+            }
+            return map;
+        } finally {
+            if (this.owned) {
+                source.close();
+            }
+        }
+    }
+
+    /**
+     * Read an object.
+     * @param source Parser at the start of the object or at its first field
+     * @param walk Walk over the document
+     * @return The map
+     * @throws IOException If fails or a limit is crossed
+     */
+    private Map<String, Object> object(final JsonParser source, final Walk walk)
+        throws IOException {
+        walk.enter();
+        final Map<String, Object> map = new LinkedHashMap<>();
+        JsonToken token = source.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = source.nextToken();
+        }
+        while (token == JsonToken.FIELD_NAME) {
+            final String name = source.currentName();
+            walk.key(name);
+            source.nextToken();
+            map.put(name, this.value(source, walk));
+            token = source.nextToken();
+        }
+        walk.leave();
+        return map;
+    }
+
+    /**
+     * Read an array.
+     * @param source Parser at the start of the array
+     * @param walk Walk over the document
+     * @return The list
+     * @throws IOException If fails or a limit is crossed
+     */
+    private List<Object> array(final JsonParser source, final Walk walk)
+        throws IOException {
+        walk.enter();
+        final List<Object> list = new ArrayList<>();
+        while (source.nextToken() != JsonToken.END_ARRAY) {
+            list.add(this.value(source, walk));
+        }
+        walk.leave();
+        return list;
+    }
+
+    /**
+     * Read the value at the current token.
+     * @param source Parser at the value
+     * @param walk Walk over the document
+     * @return The value
+     * @throws IOException If fails or a limit is crossed
+     */
+    private Object value(final JsonParser source, final Walk walk)
+        throws IOException {
+        walk.value();
+        final JsonToken token = source.currentToken();
+        final Object value;
+        if (token == JsonToken.START_OBJECT) {
+            value = this.object(source, walk);
+        } else if (token == JsonToken.START_ARRAY) {
+            value = this.array(source, walk);
+        } else {
+            if (token == JsonToken.VALUE_STRING) {
+                walk.text(source.getText());
+            }
+            value = this.codecs.value(source);
+        }
+        return value;
+    }
+}
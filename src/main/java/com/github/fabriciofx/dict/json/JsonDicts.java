@@ -0,0 +1,135 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.json;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.codec.Codecs;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.cactoos.Input;
+import org.cactoos.io.InputOf;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * JsonDicts.
+ *
+ * <p>Lazily read dicts from a stream of JSON objects, either one object per
+ * line (NDJSON) or a top-level JSON array of objects. Only one object is
+ * held in memory at a time and the same parser is reused for all of them.
+ * Each object is checked against the {@link Limits}, so the input itself
+ * can be as long as it needs. Close the iterator, or the stream, to release
+ * the input if it is not fully read.
+ *
+ * @since 0.0.42
+ */
+public final class JsonDicts implements Iterable<Dict> {
+    /**
+     * Input.
+     */
+    private final Input input;
+
+    /**
+     * Codecs.
+     */
+    private final Codecs codecs;
+
+    /**
+     * Limits of each object.
+     */
+    private final Limits limits;
+
+    /**
+     * Ctor.
+     * @param path File with JSON objects
+     */
+    public JsonDicts(final Path path) {
+        this(new InputOf(path));
+    }
+
+    /**
+     * Ctor.
+     * @param stream Stream with JSON objects
+     */
+    public JsonDicts(final InputStream stream) {
+        this(new InputOf(stream));
+    }
+
+    /**
+     * Ctor.
+     * @param input Input with JSON objects
+     */
+    public JsonDicts(final Input input) {
+        this(input, new Codecs());
+    }
+
+    /**
+     * Ctor.
+     * @param input Input with JSON objects
+     * @param codecs Codecs to restore the types of the values
+     */
+    public JsonDicts(final Input input, final Codecs codecs) {
+        this(input, codecs, new Limits());
+    }
+
+    /**
+     * Ctor.
+     * @param input Input with JSON objects
+     * @param codecs Codecs to restore the types of the values
+     * @param limits Limits of each object
+     */
+    public JsonDicts(
+        final Input input,
+        final Codecs codecs,
+        final Limits limits
+    ) {
+        this.input = input;
+        this.codecs = codecs;
+        this.limits = limits;
+    }
+
+    /**
+     * Iterator over the dicts.
+     * <p>Close it to release the input if it is not fully read.
+     * @return The iterator
+     */
+    @Override
+    public JsonDictsIterator iterator() {
+        return this.parsed();
+    }
+
+    /**
+     * Stream of dicts.
+     * <p>Close the stream to release the input if it is not fully consumed.
+     * @return A sequential and lazy stream of dicts
+     */
+    public Stream<Dict> stream() {
+        final JsonDictsIterator dicts = this.parsed();
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                dicts,
+                Spliterator.ORDERED | Spliterator.NONNULL
+            ),
+            false
+        ).onClose(dicts::close);
+    }
+
+    /**
+     * Create a new iterator over the input.
+     * @return The iterator
+     */
+    private JsonDictsIterator parsed() {
+        return new Unchecked<>(
+            () -> new JsonDictsIterator(
+                this.limits.streams().createParser(this.input.stream()),
+                this.codecs,
+                this.limits
+            )
+        ).value();
+    }
+}
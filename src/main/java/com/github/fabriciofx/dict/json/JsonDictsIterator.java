@@ -0,0 +1,119 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import com.github.fabriciofx.dict.codec.Codecs;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * JsonDictsIterator.
+ *
+ * <p>Iterate over the JSON objects of a parser, skipping an optional
+ * enclosing array. Each object is checked against the {@link Limits}. The
+ * parser is closed when the last object is read or when the iterator is
+ * closed, whichever comes first.
+ *
+ * @since 0.0.42
+ */
+public final class JsonDictsIterator implements Iterator<Dict>, AutoCloseable {
+    /**
+     * Parser.
+     */
+    private final JsonParser parser;
+
+    /**
+     * Codecs.
+     */
+    private final Codecs codecs;
+
+    /**
+     * Limits of each object.
+     */
+    private final Limits limits;
+
+    /**
+     * Current token, or null if not started yet.
+     */
+    private JsonToken token;
+
+    /**
+     * Ctor.
+     * @param parser Parser positioned before the first token
+     * @param codecs Codecs to restore the types of the values
+     * @param limits Limits of each object
+     */
+    JsonDictsIterator(
+        final JsonParser parser,
+        final Codecs codecs,
+        final Limits limits
+    ) {
+        this.parser = parser;
+        this.codecs = codecs;
+        this.limits = limits;
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            if (this.token == null && !this.parser.isClosed()) {
+                this.token = this.parser.nextToken();
+                if (this.token == JsonToken.START_ARRAY) {
+                    this.token = this.parser.nextToken();
+                }
+            }
+            final boolean more = this.token != null
+                && this.token != JsonToken.END_ARRAY;
+            if (!more) {
+                this.close();
+            }
+            return more;
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public Dict next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException("No more JSON objects");
+        }
+        if (this.token != JsonToken.START_OBJECT) {
+            throw new IllegalStateException(
+                String.format(
+                    "Expected a JSON object but found %s at %s",
+                    this.token,
+                    this.parser.currentLocation()
+                )
+            );
+        }
+        final Map<String, Object> map = new Unchecked<>(
+            new JsonAsMap(this.parser, this.codecs, this.limits)
+        ).value();
+        try {
+            this.token = this.parser.nextToken();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return new DictOf(map);
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.parser.close();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.json;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.codec.Codecs;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * JsonLines.
+ *
+ * <p>Read dicts from a NDJSON file (one JSON object per line) in parallel.
+ * The file is memory mapped in segments of at most 1 GiB, each one ending
+ * at a line break, and split by line boundaries, so each core parses its
+ * own range of lines without copying the whole file to the heap. The size
+ * of the file is not limited, but a single line must fit in a segment.
+ * Each line is checked against the {@link Limits}.
+ *
+ * @since 0.0.42
+ */
+public final class JsonLines {
+    /**
+     * Largest segment of the file mapped at once, in bytes.
+     */
+    private static final int SEGMENT = 1 << 30;
+
+    /**
+     * Path.
+     */
+    private final Path path;
+
+    /**
+     * Codecs.
+     */
+    private final Codecs codecs;
+
+    /**
+     * Limits of each line.
+     */
+    private final Limits limits;
+
+    /**
+     * Largest segment of the file mapped at once, in bytes.
+     */
+    private final int segment;
+
+    /**
+     * Ctor.
+     * @param path NDJSON file
+     */
+    public JsonLines(final Path path) {
+        this(path, new Codecs());
+    }
+
+    /**
+     * Ctor.
+     * @param path NDJSON file
+     * @param codecs Codecs to restore the types of the values
+     */
+    public JsonLines(final Path path, final Codecs codecs) {
+        this(path, codecs, new Limits());
+    }
+
+    /**
+     * Ctor.
+     * @param path NDJSON file
+     * @param codecs Codecs to restore the types of the values
+     * @param limits Limits of each line
+     */
+    public JsonLines(
+        final Path path,
+        final Codecs codecs,
+        final Limits limits
+    ) {
+        this(path, codecs, limits, JsonLines.SEGMENT);
+    }
+
+    /**
+     * Ctor.
+     * @param path NDJSON file
+     * @param codecs Codecs to restore the types of the values
+     * @param limits Limits of each line
+     * @param segment Largest segment of the file mapped at once, in bytes
+     */
+    JsonLines(
+        final Path path,
+        final Codecs codecs,
+        final Limits limits,
+        final int segment
+    ) {
+        this.path = path;
+        this.codecs = codecs;
+        this.limits = limits;
+        this.segment = segment;
+    }
+
+    /**
+     * Stream of dicts.
+     * @return A parallel and ordered stream of dicts, one per line
+     */
+    public Stream<Dict> stream() {
+        final List<Spliterator<Dict>> parts = new ArrayList<>(0);
+        for (final ByteBuffer buffer : new Unchecked<>(this::mapped).value()) {
+            parts.add(new LineSpliterator(buffer, this.limits, this.codecs));
+        }
+        return StreamSupport.stream(new JoinedSpliterator(parts), true);
+    }
+
+    /**
+     * Map the file into memory, segment by segment.
+     * @return The mapped segments, each one ending at a line break or at
+     *  the end of the file
+     * @throws Exception If fails
+     */
+    private List<ByteBuffer> mapped() throws Exception {
+        final List<ByteBuffer> segments = new ArrayList<>(0);
+        try (FileChannel channel = FileChannel.open(
+            this.path,
+            StandardOpenOption.READ
+        )) {
+            final long size = channel.size();
+            long start = 0;
+            while (start < size) {
+                final ByteBuffer buffer = channel.map(
+                    FileChannel.MapMode.READ_ONLY,
+                    start,
+                    Math.min(this.segment, size - start)
+                );
+                final int length;
+                if (start + buffer.limit() < size) {
+                    length = this.lines(buffer, start);
+                } else {
+                    length = buffer.limit();
+                }
+                segments.add(buffer.slice(0, length));
+                start += length;
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Length of the whole lines at the start of a segment.
+     * @param buffer The segment
+     * @param start Where the segment starts in the file
+     * @return The length, up to and including its last line break
+     */
+    private int lines(final ByteBuffer buffer, final long start) {
+        int idx = buffer.limit() - 1;
+        while (idx >= 0 && buffer.get(idx) != '\n') {
+            --idx;
+        }
+        if (idx < 0) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Line at %d of file '%s' has more than %d bytes",
+                    start,
+                    this.path,
+                    this.segment
+                )
+            );
+        }
+        return idx + 1;
+    }
+}
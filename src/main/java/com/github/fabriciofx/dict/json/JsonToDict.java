@@ -4,26 +4,95 @@
  */
 package com.github.fabriciofx.dict.json;
 
+import com.fasterxml.jackson.core.JsonLocation;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.github.fabriciofx.dict.Dict;
 import com.github.fabriciofx.dict.base.DictOf;
+import com.github.fabriciofx.dict.codec.Codecs;
+import com.github.fabriciofx.dict.jfr.ParsedMap;
 import java.io.IOException;
+import org.cactoos.scalar.IoChecked;
 
 /**
  * JsonToDict.
  *
- * Convert a JSON in dict.
+ * Convert a JSON in dict, reading the object straight from the parser and
+ * emitting a {@link com.github.fabriciofx.dict.jfr.ParseEvent}. The values
+ * are restored by its {@link Codecs} and the object is checked against its
+ * {@link Limits} while it is read.
  *
  * @since 0.0.1
  */
 public final class JsonToDict extends JsonDeserializer<Dict> {
+    /**
+     * Codecs.
+     */
+    private final Codecs codecs;
+
+    /**
+     * Limits.
+     */
+    private final Limits limits;
+
+    /**
+     * Ctor.
+     */
+    public JsonToDict() {
+        this(new Limits());
+    }
+
+    /**
+     * Ctor.
+     * @param limits Limits of each object
+     */
+    public JsonToDict(final Limits limits) {
+        this(new Codecs(), limits);
+    }
+
+    /**
+     * Ctor.
+     * @param codecs Codecs to restore the value types
+     */
+    public JsonToDict(final Codecs codecs) {
+        this(codecs, new Limits());
+    }
+
+    /**
+     * Ctor.
+     * @param codecs Codecs to restore the value types
+     * @param limits Limits of each object
+     */
+    public JsonToDict(final Codecs codecs, final Limits limits) {
+        super();
+        this.codecs = codecs;
+        this.limits = limits;
+    }
+
     @Override
     public Dict deserialize(
         final JsonParser parser,
         final DeserializationContext context
     ) throws IOException {
-        return new DictOf(parser.getText());
+        final long start = JsonToDict.offset(parser.currentTokenLocation());
+        return new DictOf(
+            new IoChecked<>(
+                new ParsedMap(
+                    new JsonAsMap(parser, this.codecs, this.limits),
+                    "JsonToDict",
+                    () -> JsonToDict.offset(parser.currentLocation()) - start
+                )
+            ).value()
+        );
+    }
+
+    /**
+     * Offset of a location, in bytes or chars, whichever the parser knows.
+     * @param location Location
+     * @return The offset
+     */
+    private static long offset(final JsonLocation location) {
+        return Math.max(location.getByteOffset(), location.getCharOffset());
     }
 }
@@ -0,0 +1,165 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import java.util.function.LongSupplier;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Limits.
+ *
+ * <p>Limits of a JSON document to be parsed: its length, the total amount
+ * of keys, the nesting depth and the length of each string. A document
+ * over any limit is rejected with a
+ * {@link com.fasterxml.jackson.core.exc.StreamConstraintsException} as
+ * soon as the limit is crossed, before the rest of it is read. The length
+ * of a document is counted in chars when it is parsed from a string and in
+ * bytes otherwise. By default, only the depth and the string length are
+ * limited, as Jackson does.
+ *
+ * @since 0.0.42
+ */
+public final class Limits {
+    /**
+     * Maximum length of the document.
+     */
+    private final long bytes;
+
+    /**
+     * Maximum amount of keys in the document.
+     */
+    private final int keys;
+
+    /**
+     * Maximum nesting depth.
+     */
+    private final int depth;
+
+    /**
+     * Maximum length of a string.
+     */
+    private final int string;
+
+    /**
+     * Factory of parsers that enforce the limits.
+     */
+    private final Unchecked<JsonFactory> jackson;
+
+    /**
+     * Factory of parsers over a stream of documents.
+     */
+    private final Unchecked<JsonFactory> streaming;
+
+    /**
+     * Ctor.
+     */
+    public Limits() {
+        this(
+            Long.MAX_VALUE,
+            Integer.MAX_VALUE,
+            StreamReadConstraints.DEFAULT_MAX_DEPTH,
+            StreamReadConstraints.DEFAULT_MAX_STRING_LEN
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param bytes Maximum length of the document
+     * @param keys Maximum amount of keys in the document
+     * @param depth Maximum nesting depth
+     * @param string Maximum length of a string
+     */
+    public Limits(
+        final long bytes,
+        final int keys,
+        final int depth,
+        final int string
+    ) {
+        this.bytes = bytes;
+        this.keys = keys;
+        this.depth = depth;
+        this.string = string;
+        this.jackson = new Unchecked<>(
+            new Synced<>(
+                new Sticky<>(
+                    () -> JsonFactory.builder()
+                        .streamReadConstraints(this.constraints())
+                        .build()
+                )
+            )
+        );
+        this.streaming = new Unchecked<>(
+            new Synced<>(
+                new Sticky<>(
+                    () -> JsonFactory.builder()
+                        .streamReadConstraints(
+                            StreamReadConstraints.builder()
+                                .maxNestingDepth(this.depth)
+                                .maxStringLength(this.string)
+                                .build()
+                        )
+                        .build()
+                )
+            )
+        );
+    }
+
+    /**
+     * Factory of parsers that enforce the limits of length, depth and
+     * string length. It is built once.
+     * @return The factory
+     */
+    public JsonFactory factory() {
+        return this.jackson.value();
+    }
+
+    /**
+     * Factory of parsers over a stream of documents, each one checked by its
+     * own {@link Walk}, so the limit of length applies to every document
+     * and not to the whole stream. It is built once.
+     * @return The factory
+     */
+    JsonFactory streams() {
+        return this.streaming.value();
+    }
+
+    /**
+     * Jackson constraints for the limits of length, depth and string length.
+     * @return The constraints
+     */
+    public StreamReadConstraints constraints() {
+        return StreamReadConstraints.builder()
+            .maxDocumentLength(this.bytes)
+            .maxNestingDepth(this.depth)
+            .maxStringLength(this.string)
+            .build();
+    }
+
+    /**
+     * Start a walk over a document, to check the limits that the parser
+     * itself may not enforce.
+     * @param source Parser at the start of the document
+     * @return The walk
+     */
+    public Walk walk(final JsonParser source) {
+        return new Walk(source, this.bytes, this.keys, this.depth, this.string);
+    }
+
+    /**
+     * Start a walk over a document read by something else than a JSON
+     * parser, to check all the limits.
+     * @param offset Offset where the reader is, in bytes or chars, at the
+     *  start of the document when called
+     * @return The walk
+     */
+    public Walk walk(final LongSupplier offset) {
+        return new Walk(offset, this.bytes, this.keys, this.depth, this.string);
+    }
+}
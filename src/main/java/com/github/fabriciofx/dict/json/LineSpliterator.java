@@ -0,0 +1,203 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import com.github.fabriciofx.dict.codec.Codecs;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * LineSpliterator.
+ *
+ * <p>Spliterator over the lines of a buffer, parsing each non blank line
+ * as a JSON object within its {@link Limits}. Splits always happen right
+ * after a line break, so no line is shared by two spliterators. The buffer
+ * is only read with absolute gets, which makes it safe to share among
+ * threads.
+ *
+ * @since 0.0.42
+ */
+final class LineSpliterator implements Spliterator<Dict> {
+    /**
+     * Smallest range, in bytes, that is still worth splitting.
+     */
+    private static final int THRESHOLD = 1 << 16;
+
+    /**
+     * Buffer.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Limits of each line.
+     */
+    private final Limits limits;
+
+    /**
+     * Codecs.
+     */
+    private final Codecs codecs;
+
+    /**
+     * End of the range (exclusive).
+     */
+    private final int end;
+
+    /**
+     * Start of the next line.
+     */
+    private int position;
+
+    /**
+     * Line bytes, reused among lines.
+     */
+    private byte[] line;
+
+    /**
+     * Ctor.
+     * @param buffer Buffer with NDJSON content
+     * @param limits Limits of each line
+     * @param codecs Codecs to restore the types of the values
+     */
+    LineSpliterator(
+        final ByteBuffer buffer,
+        final Limits limits,
+        final Codecs codecs
+    ) {
+        this(buffer, limits, codecs, 0, buffer.limit());
+    }
+
+    /**
+     * Ctor.
+     * @param buffer Buffer with NDJSON content
+     * @param limits Limits of each line
+     * @param codecs Codecs to restore the types of the values
+     * @param start Start of the range (inclusive)
+     * @param end End of the range (exclusive)
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    LineSpliterator(
+        final ByteBuffer buffer,
+        final Limits limits,
+        final Codecs codecs,
+        final int start,
+        final int end
+    ) {
+        this.buffer = buffer;
+        this.limits = limits;
+        this.codecs = codecs;
+        this.position = start;
+        this.end = end;
+        this.line = new byte[0];
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super Dict> action) {
+        boolean found = false;
+        while (!found && this.position < this.end) {
+            final int start = this.position;
+            final int stop = this.newline(start);
+            this.position = stop + 1;
+            if (!this.blank(start, stop)) {
+                action.accept(this.parsed(start, stop - start));
+                found = true;
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Spliterator<Dict> trySplit() {
+        Spliterator<Dict> prefix = null;
+        if (this.end - this.position >= LineSpliterator.THRESHOLD) {
+            final int middle = this.newline(
+                this.position + (this.end - this.position) / 2
+            ) + 1;
+            if (middle < this.end) {
+                prefix = new LineSpliterator(
+                    this.buffer,
+                    this.limits,
+                    this.codecs,
+                    this.position,
+                    middle
+                );
+                this.position = middle;
+            }
+        }
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.end - this.position;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.NONNULL;
+    }
+
+    /**
+     * Find the next line break.
+     * @param start Where to start searching
+     * @return Index of the line break or the end of the range
+     */
+    private int newline(final int start) {
+        int idx = start;
+        while (idx < this.end && this.buffer.get(idx) != '\n') {
+            ++idx;
+        }
+        return idx;
+    }
+
+    /**
+     * Check if a line has only whitespaces.
+     * @param start Start of the line
+     * @param stop End of the line
+     * @return True if blank
+     */
+    private boolean blank(final int start, final int stop) {
+        boolean blank = true;
+        for (int idx = start; blank && idx < stop; ++idx) {
+            blank = Character.isWhitespace(this.buffer.get(idx));
+        }
+        return blank;
+    }
+
+    /**
+     * Parse a line.
+     * @param start Start of the line
+     * @param length Length of the line
+     * @return The dict
+     */
+    private Dict parsed(final int start, final int length) {
+        if (this.line.length < length) {
+            this.line = new byte[Math.max(length, this.line.length * 2)];
+        }
+        this.buffer.get(start, this.line, 0, length);
+        final Map<String, Object> map = new Unchecked<>(
+            () -> {
+                try (JsonParser parser = this.limits.factory().createParser(
+                    this.line,
+                    0,
+                    length
+                )) {
+                    return new JsonAsMap(
+                        parser,
+                        this.codecs,
+                        this.limits
+                    ).value();
+                }
+            }
+        ).value();
+        return new DictOf(map);
+    }
+}
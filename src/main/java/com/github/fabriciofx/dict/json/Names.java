@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.json;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Names.
+ *
+ * <p>Bounded cache of keys as {@link SerializedString}, that keeps their
+ * escaped UTF-8 bytes, so a key repeated across many dicts is escaped and
+ * encoded once. When full, new keys are not cached anymore.
+ *
+ * @since 0.0.42
+ */
+final class Names {
+    /**
+     * Maximum amount of cached keys.
+     */
+    private final int limit;
+
+    /**
+     * Cached keys.
+     */
+    private final Map<String, SerializedString> cache;
+
+    /**
+     * Ctor.
+     * @param limit Maximum amount of cached keys
+     */
+    Names(final int limit) {
+        this(limit, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Ctor.
+     * @param limit Maximum amount of cached keys
+     * @param cache Cached keys
+     */
+    Names(final int limit, final Map<String, SerializedString> cache) {
+        this.limit = limit;
+        this.cache = cache;
+    }
+
+    /**
+     * Key as a serialized string.
+     * @param key The key
+     * @return The serialized string
+     */
+    SerializedString name(final String key) {
+        SerializedString name = this.cache.get(key);
+        if (name == null) {
+            name = new SerializedString(key);
+            if (this.cache.size() < this.limit) {
+                this.cache.putIfAbsent(key, name);
+            }
+        }
+        return name;
+    }
+}
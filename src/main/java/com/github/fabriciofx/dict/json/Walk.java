@@ -0,0 +1,250 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.json;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Walk.
+ *
+ * <p>Check of the {@link Limits} while a document is walked, token by
+ * token, for the limits a parser does not enforce, like the total amount
+ * of keys, or for a parser built with other constraints, or for a reader
+ * that is not a JSON parser at all. It is not thread safe: each walk
+ * belongs to a single parsing.
+ *
+ * @since 0.0.42
+ */
+public final class Walk {
+    /**
+     * Offset where the reader is, in bytes or chars.
+     */
+    private final LongSupplier offset;
+
+    /**
+     * Location where the reader is, to report a failure.
+     */
+    private final Supplier<JsonLocation> location;
+
+    /**
+     * Maximum length of the document.
+     */
+    private final long bytes;
+
+    /**
+     * Maximum amount of keys in the document.
+     */
+    private final int keys;
+
+    /**
+     * Maximum nesting depth.
+     */
+    private final int depth;
+
+    /**
+     * Maximum length of a string.
+     */
+    private final int string;
+
+    /**
+     * Offset of the start of the document.
+     */
+    private final long start;
+
+    /**
+     * Keys walked so far.
+     */
+    private int count;
+
+    /**
+     * Current nesting depth.
+     */
+    private int level;
+
+    /**
+     * Ctor.
+     * @param source Parser at the start of the document
+     * @param bytes Maximum length of the document
+     * @param keys Maximum amount of keys in the document
+     * @param depth Maximum nesting depth
+     * @param string Maximum length of a string
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    Walk(
+        final JsonParser source,
+        final long bytes,
+        final int keys,
+        final int depth,
+        final int string
+    ) {
+        this(
+            () -> Walk.offset(source.currentLocation()),
+            source::currentLocation,
+            Walk.offset(source.currentTokenLocation()),
+            bytes,
+            keys,
+            depth,
+            string
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param offset Offset where the reader is, in bytes or chars
+     * @param bytes Maximum length of the document
+     * @param keys Maximum amount of keys in the document
+     * @param depth Maximum nesting depth
+     * @param string Maximum length of a string
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    Walk(
+        final LongSupplier offset,
+        final long bytes,
+        final int keys,
+        final int depth,
+        final int string
+    ) {
+        this(
+            offset,
+            () -> JsonLocation.NA,
+            offset.getAsLong(),
+            bytes,
+            keys,
+            depth,
+            string
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param offset Offset where the reader is, in bytes or chars
+     * @param location Location where the reader is, to report a failure
+     * @param start Offset of the start of the document
+     * @param bytes Maximum length of the document
+     * @param keys Maximum amount of keys in the document
+     * @param depth Maximum nesting depth
+     * @param string Maximum length of a string
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private Walk(
+        final LongSupplier offset,
+        final Supplier<JsonLocation> location,
+        final long start,
+        final long bytes,
+        final int keys,
+        final int depth,
+        final int string
+    ) {
+        this.offset = offset;
+        this.location = location;
+        this.start = start;
+        this.bytes = bytes;
+        this.keys = keys;
+        this.depth = depth;
+        this.string = string;
+    }
+
+    /**
+     * Walk into an object or an array.
+     * @throws StreamConstraintsException If it is too deep
+     */
+    public void enter() throws StreamConstraintsException {
+        ++this.level;
+        if (this.level > this.depth) {
+            throw this.failure(
+                String.format(
+                    "Nesting depth (%d) exceeds the maximum allowed (%d)",
+                    this.level,
+                    this.depth
+                )
+            );
+        }
+    }
+
+    /**
+     * Walk out of an object or an array.
+     */
+    public void leave() {
+        --this.level;
+    }
+
+    /**
+     * Walk a key.
+     * @param name The key
+     * @throws StreamConstraintsException If there are too many keys
+     */
+    public void key(final String name) throws StreamConstraintsException {
+        ++this.count;
+        if (this.count > this.keys) {
+            throw this.failure(
+                String.format(
+                    "Number of keys (%d) exceeds the maximum allowed (%d)",
+                    this.count,
+                    this.keys
+                )
+            );
+        }
+        this.text(name);
+    }
+
+    /**
+     * Walk a string.
+     * @param text The string
+     * @throws StreamConstraintsException If it is too long
+     */
+    public void text(final String text) throws StreamConstraintsException {
+        if (text.length() > this.string) {
+            throw this.failure(
+                String.format(
+                    "String length (%d) exceeds the maximum allowed (%d)",
+                    text.length(),
+                    this.string
+                )
+            );
+        }
+    }
+
+    /**
+     * Walk a value, checking the length of the document read so far.
+     * @throws StreamConstraintsException If the document is too long
+     */
+    public void value() throws StreamConstraintsException {
+        final long length = this.offset.getAsLong() - this.start;
+        if (length > this.bytes) {
+            throw this.failure(
+                String.format(
+                    "Document length (%d) exceeds the maximum allowed (%d)",
+                    length,
+                    this.bytes
+                )
+            );
+        }
+    }
+
+    /**
+     * Build the failure of a limit.
+     * @param message Message
+     * @return The failure
+     */
+    private StreamConstraintsException failure(final String message) {
+        return new StreamConstraintsException(
+            message,
+            this.location.get()
+        );
+    }
+
+    /**
+     * Offset of a location, in bytes or chars, whichever the parser knows.
+     * @param location Location
+     * @return The offset
+     */
+    private static long offset(final JsonLocation location) {
+        return Math.max(location.getByteOffset(), location.getCharOffset());
+    }
+}
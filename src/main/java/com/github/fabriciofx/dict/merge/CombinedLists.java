@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.merge;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * CombinedLists.
+ *
+ * <p>Conflict strategy that appends the incoming list to the current one
+ * and resolves the other conflicts with another strategy.
+ *
+ * @since 0.0.42
+ */
+public final class CombinedLists implements Conflict {
+    /**
+     * Strategy for values that are not both lists.
+     */
+    private final Conflict origin;
+
+    /**
+     * Ctor.
+     */
+    public CombinedLists() {
+        this(new Overriding());
+    }
+
+    /**
+     * Ctor.
+     * @param conflict Strategy for values that are not both lists
+     */
+    public CombinedLists(final Conflict conflict) {
+        this.origin = conflict;
+    }
+
+    @Override
+    public Object resolve(
+        final String path,
+        final Object current,
+        final Object incoming
+    ) {
+        final Object value;
+        if (current instanceof Collection && incoming instanceof Collection) {
+            final List<Object> list = new ArrayList<>(
+                ((Collection<?>) current).size()
+                    + ((Collection<?>) incoming).size()
+            );
+            list.addAll((Collection<?>) current);
+            list.addAll((Collection<?>) incoming);
+            value = list;
+        } else {
+            value = this.origin.resolve(path, current, incoming);
+        }
+        return value;
+    }
+}
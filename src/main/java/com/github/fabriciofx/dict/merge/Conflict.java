@@ -0,0 +1,29 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.merge;
+
+/**
+ * Conflict.
+ *
+ * <p>Strategy to resolve a key present in both dicts of a merge, when the
+ * values are not both dicts (those are merged key by key). A custom
+ * strategy is a lambda:
+ * <pre>{@code
+ * final Conflict max = (path, current, incoming) ->
+ *     Math.max((Integer) current, (Integer) incoming);
+ * }</pre>
+ *
+ * @since 0.0.42
+ */
+public interface Conflict {
+    /**
+     * Resolve a conflict.
+     * @param path Dotted path of the key, like {@code server.port}
+     * @param current Value in the dict merged into
+     * @param incoming Value in the dict being merged
+     * @return The value to keep
+     */
+    Object resolve(String path, Object current, Object incoming);
+}
@@ -0,0 +1,23 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.merge;
+
+/**
+ * Keeping.
+ *
+ * <p>Conflict strategy where the current value wins.
+ *
+ * @since 0.0.42
+ */
+public final class Keeping implements Conflict {
+    @Override
+    public Object resolve(
+        final String path,
+        final Object current,
+        final Object incoming
+    ) {
+        return current;
+    }
+}
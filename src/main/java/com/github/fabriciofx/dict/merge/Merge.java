@@ -0,0 +1,177 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.merge;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Merge.
+ *
+ * <p>Deep merge of two nested values, each a {@link Dict} or a {@link Map},
+ * in a single pass over the incoming one. A level is copied only if some
+ * of its keys changes; otherwise the current value is given back as is,
+ * so unchanged nested dicts are shared, not copied.
+ *
+ * @since 0.0.42
+ */
+final class Merge {
+    /**
+     * Conflict strategy.
+     */
+    private final Conflict conflict;
+
+    /**
+     * Ctor.
+     * @param conflict Conflict strategy
+     */
+    Merge(final Conflict conflict) {
+        this.conflict = conflict;
+    }
+
+    /**
+     * Merge layers of dicts.
+     * @param layers Dicts, from the lowest to the highest
+     * @return The merged dict
+     */
+    Dict merged(final List<Dict> layers) {
+        Dict merged = new DictOf();
+        if (!layers.isEmpty()) {
+            merged = layers.get(0);
+            for (final Dict layer : layers.subList(1, layers.size())) {
+                merged = this.merged(merged, layer);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Merge two dicts.
+     * @param current Dict merged into
+     * @param incoming Dict being merged
+     * @return The merged dict
+     */
+    Dict merged(final Dict current, final Dict incoming) {
+        return (Dict) this.merged("", current, incoming);
+    }
+
+    /**
+     * Merge two nested values.
+     * @param path Dotted path of the values
+     * @param current Dict or map merged into
+     * @param incoming Dict or map being merged
+     * @return The merged dict or map, of the same type as the current one
+     */
+    private Object merged(
+        final String path,
+        final Object current,
+        final Object incoming
+    ) {
+        final Set<String> keys = Merge.keys(current);
+        Map<String, Object> copy = null;
+        for (final String key : Merge.keys(incoming)) {
+            final Object value = Merge.value(incoming, key);
+            Object result = value;
+            boolean changed = true;
+            if (keys.contains(key)) {
+                final Object old = Merge.value(current, key);
+                final String inner;
+                if (path.isEmpty()) {
+                    inner = key;
+                } else {
+                    inner = String.join(".", path, key);
+                }
+                if (Merge.nested(old) && Merge.nested(value)) {
+                    result = this.merged(inner, old, value);
+                } else {
+                    result = this.conflict.resolve(inner, old, value);
+                }
+                changed = result != old;
+            }
+            if (changed) {
+                if (copy == null) {
+                    copy = Merge.copy(current, keys);
+                }
+                copy.put(key, result);
+            }
+        }
+        final Object merged;
+        if (copy == null) {
+            merged = current;
+        } else if (current instanceof Dict) {
+            merged = new DictOf(copy);
+        } else {
+            merged = copy;
+        }
+        return merged;
+    }
+
+    /**
+     * Whether a value can be merged key by key.
+     * @param value The value
+     * @return True if it is a dict or a map
+     */
+    private static boolean nested(final Object value) {
+        return value instanceof Dict || value instanceof Map;
+    }
+
+    /**
+     * Keys of a dict or a map.
+     * @param nested The dict or map
+     * @return The keys
+     */
+    @SuppressWarnings("unchecked")
+    private static Set<String> keys(final Object nested) {
+        final Set<String> keys;
+        if (nested instanceof Dict) {
+            keys = ((Dict) nested).keys();
+        } else {
+            keys = ((Map<String, Object>) nested).keySet();
+        }
+        return keys;
+    }
+
+    /**
+     * Value of a key of a dict or a map.
+     * @param nested The dict or map
+     * @param key The key
+     * @return The value
+     */
+    private static Object value(final Object nested, final String key) {
+        final Object value;
+        if (nested instanceof Dict) {
+            value = ((Dict) nested).value(key, Object.class);
+        } else {
+            value = ((Map<?, ?>) nested).get(key);
+        }
+        return value;
+    }
+
+    /**
+     * Shallow copy of a dict or a map.
+     * @param nested The dict or map
+     * @param keys Its keys
+     * @return The copy
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> copy(
+        final Object nested,
+        final Set<String> keys
+    ) {
+        final Map<String, Object> copy = new LinkedHashMap<>(
+            keys.size() * 2
+        );
+        if (nested instanceof Dict) {
+            ((Dict) nested).forEach(copy::put);
+        } else {
+            copy.putAll((Map<String, Object>) nested);
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.merge;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictEnvelope;
+import java.util.Arrays;
+import java.util.List;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+
+/**
+ * Merged.
+ *
+ * <p>Deep merge of layers of dicts, from the lowest to the highest, like
+ * defaults, environment and overrides:
+ * <pre>{@code
+ * final Dict config = new Merged(defaults, environment, overrides);
+ * }</pre>
+ * Nested dicts and maps present in two layers are merged key by key; any
+ * other key present in both is resolved by a {@link Conflict} strategy,
+ * {@link Overriding} by default. Only the changed paths are copied and the
+ * merge runs once, when the dict is first used, even by many threads.
+ *
+ * @since 0.0.42
+ */
+public final class Merged extends DictEnvelope {
+    /**
+     * Ctor.
+     * @param layers Dicts, from the lowest to the highest
+     */
+    public Merged(final Dict... layers) {
+        this(new Overriding(), layers);
+    }
+
+    /**
+     * Ctor.
+     * @param conflict Conflict strategy
+     * @param layers Dicts, from the lowest to the highest
+     */
+    public Merged(final Conflict conflict, final Dict... layers) {
+        this(conflict, Arrays.asList(layers));
+    }
+
+    /**
+     * Ctor.
+     * @param conflict Conflict strategy
+     * @param layers Dicts, from the lowest to the highest
+     */
+    public Merged(final Conflict conflict, final List<Dict> layers) {
+        super(
+            new Synced<>(
+                new Sticky<>(() -> new Merge(conflict).merged(layers))
+            )
+        );
+    }
+}
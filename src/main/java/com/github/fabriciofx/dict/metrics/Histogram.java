@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram.
+ *
+ * <p>Lock free histogram with one bucket per power of two, so each value is
+ * stored with an error of at most 2x using a fixed amount of memory.
+ *
+ * @since 0.0.42
+ */
+public final class Histogram {
+    /**
+     * Amount of buckets: one for zero and one per bit of a positive long.
+     */
+    private static final int BUCKETS = Long.SIZE;
+
+    /**
+     * Counts of each bucket.
+     */
+    private final AtomicLongArray counts;
+
+    /**
+     * Ctor.
+     */
+    public Histogram() {
+        this(new AtomicLongArray(Histogram.BUCKETS));
+    }
+
+    /**
+     * Ctor.
+     * @param counts Counts of each bucket
+     */
+    private Histogram(final AtomicLongArray counts) {
+        this.counts = counts;
+    }
+
+    /**
+     * Add a value.
+     * @param value Non negative value
+     */
+    public void add(final long value) {
+        this.counts.incrementAndGet(
+            Long.SIZE - Long.numberOfLeadingZeros(Math.max(value, 0L))
+        );
+    }
+
+    /**
+     * Amount of values.
+     * @return The amount
+     */
+    public long count() {
+        long count = 0;
+        for (int idx = 0; idx < Histogram.BUCKETS; ++idx) {
+            count += this.counts.get(idx);
+        }
+        return count;
+    }
+
+    /**
+     * Upper bound of a percentile.
+     * @param percentile Percentile, from 0 to 100
+     * @return Upper bound of the bucket where the percentile is, or zero if
+     *  there are no values
+     */
+    public long percentile(final double percentile) {
+        final long total = this.count();
+        final long rank = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        long bound = 0;
+        for (int idx = 0; idx < Histogram.BUCKETS && total > 0; ++idx) {
+            seen += this.counts.get(idx);
+            if (seen >= Math.max(rank, 1)) {
+                bound = (1L << idx) - 1;
+                break;
+            }
+        }
+        return bound;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.metrics;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictEnvelope;
+import com.github.fabriciofx.dict.base.DictOf;
+import com.github.fabriciofx.dict.codec.Codecs;
+import com.github.fabriciofx.dict.json.Limits;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * InstrumentedDict.
+ *
+ * <p>Decorate a dict measuring each of its operations and sending the
+ * measures to a {@link Listener}. Dicts built by {@link #with} are
+ * instrumented too. An operation that fails is measured too. When the
+ * listener is disabled the operations are delegated directly, with no
+ * clock or allocation reads.
+ *
+ * @since 0.0.42
+ */
+public final class InstrumentedDict extends DictEnvelope {
+    /**
+     * Listener.
+     */
+    private final Listener listener;
+
+    /**
+     * Ctor.
+     * <p>The parsing of the JSON is measured as {@link Operation#PARSE}.
+     * @param json JSON string to convert in dict
+     * @param listener Listener of the measures
+     */
+    public InstrumentedDict(final String json, final Listener listener) {
+        this(json, new Codecs(), new Limits(), listener);
+    }
+
+    /**
+     * Ctor.
+     * <p>The JSON is parsed once, by a {@link DictOf}, on first use, and
+     * its parsing is measured as {@link Operation#PARSE}.
+     * @param json JSON string to convert in dict
+     * @param codecs Codecs to restore the types of the values
+     * @param limits Limits of the JSON, checked while it is parsed
+     * @param listener Listener of the measures
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public InstrumentedDict(
+        final String json,
+        final Codecs codecs,
+        final Limits limits,
+        final Listener listener
+    ) {
+        this(
+            new Synced<>(
+                new Sticky<>(
+                    new MeteredScalar<>(
+                        () -> {
+                            final Dict dict = new DictOf(json, codecs, limits);
+                            dict.count();
+                            return dict;
+                        },
+                        listener,
+                        Operation.PARSE,
+                        json.length()
+                    )
+                )
+            ),
+            listener
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param dict Dict to measure
+     * @param listener Listener of the measures
+     */
+    public InstrumentedDict(final Dict dict, final Listener listener) {
+        this(() -> dict, listener);
+    }
+
+    /**
+     * Ctor.
+     * @param origin Dict to measure
+     * @param listener Listener of the measures
+     */
+    private InstrumentedDict(
+        final Scalar<Dict> origin,
+        final Listener listener
+    ) {
+        super(origin);
+        this.listener = listener;
+    }
+
+    @Override
+    public Set<String> keys() {
+        return this.measured(Operation.KEYS, super::keys);
+    }
+
+    @Override
+    public Collection<Object> values() {
+        return this.measured(Operation.VALUES, super::values);
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entries() {
+        return this.measured(Operation.ENTRIES, super::entries);
+    }
+
+    @Override
+    public void forEach(final BiConsumer<String, Object> action) {
+        this.measured(
+            Operation.ENTRIES,
+            () -> {
+                super.forEach(action);
+                return action;
+            }
+        );
+    }
+
+    @Override
+    public Spliterator<Map.Entry<String, Object>> spliterator() {
+        return this.measured(Operation.ENTRIES, super::spliterator);
+    }
+
+    @Override
+    public int count() {
+        return this.measured(Operation.COUNT, super::count);
+    }
+
+    @Override
+    public <T> T value(final String key, final Class<T> type) {
+        return this.measured(Operation.VALUE, () -> super.value(key, type));
+    }
+
+    @Override
+    public Dict with(final String key, final Object value) {
+        return new InstrumentedDict(
+            this.measured(Operation.WITH, () -> super.with(key, value)),
+            this.listener
+        );
+    }
+
+    @Override
+    public String asString() throws Exception {
+        return new MeteredText(
+            super::asString,
+            this.listener,
+            Operation.WRITE
+        ).asString();
+    }
+
+    /**
+     * Run an operation, measuring it if the listener is enabled, even when
+     * it fails.
+     * @param operation Operation to record
+     * @param scalar The operation
+     * @param <T> Type of the result
+     * @return The result of the operation
+     */
+    private <T> T measured(final Operation operation, final Scalar<T> scalar) {
+        return new Unchecked<>(
+            new MeteredScalar<>(scalar, this.listener, operation, 0L)
+        ).value();
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.metrics;
+
+/**
+ * Listener.
+ *
+ * <p>Receive the measures of dict operations. Implement it to send the
+ * measures to a metrics library, like Micrometer, or to JFR. When
+ * {@link #enabled()} is false nothing is measured at all, so a disabled
+ * listener costs a single call per operation.
+ *
+ * @since 0.0.42
+ */
+public interface Listener {
+    /**
+     * Check if operations must be measured.
+     * @return True if enabled
+     */
+    boolean enabled();
+
+    /**
+     * Record the measures of an operation.
+     * @param operation The operation
+     * @param nanos Duration, in nanoseconds
+     * @param bytes Bytes read or written, or zero if not applicable
+     * @param allocated Bytes allocated by the current thread, or -1 if
+     *  the JVM can not tell
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    void record(Operation operation, long nanos, long bytes, long allocated);
+}
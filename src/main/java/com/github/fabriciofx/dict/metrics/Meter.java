@@ -0,0 +1,101 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Meter.
+ *
+ * <p>Measure a single operation, from its creation until {@link #stop}.
+ *
+ * @since 0.0.42
+ */
+final class Meter {
+    /**
+     * Thread bean, to read the bytes allocated by the current thread.
+     */
+    private static final ThreadMXBean THREADS =
+        ManagementFactory.getThreadMXBean();
+
+    /**
+     * Listener.
+     */
+    private final Listener listener;
+
+    /**
+     * Operation.
+     */
+    private final Operation operation;
+
+    /**
+     * Bytes allocated by the thread at start.
+     */
+    private final long allocated;
+
+    /**
+     * Start time, in nanoseconds.
+     */
+    private final long start;
+
+    /**
+     * Ctor.
+     * @param listener Listener of the measures
+     * @param operation Operation being measured
+     */
+    Meter(final Listener listener, final Operation operation) {
+        this(listener, operation, Meter.allocation(), System.nanoTime());
+    }
+
+    /**
+     * Ctor.
+     * @param listener Listener of the measures
+     * @param operation Operation being measured
+     * @param allocated Bytes allocated by the thread at start
+     * @param start Start time, in nanoseconds
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private Meter(
+        final Listener listener,
+        final Operation operation,
+        final long allocated,
+        final long start
+    ) {
+        this.listener = listener;
+        this.operation = operation;
+        this.allocated = allocated;
+        this.start = start;
+    }
+
+    /**
+     * Stop measuring and record the measures.
+     * @param bytes Bytes read or written
+     */
+    void stop(final long bytes) {
+        final long nanos = System.nanoTime() - this.start;
+        long allocation = -1L;
+        if (this.allocated >= 0) {
+            allocation = Meter.allocation() - this.allocated;
+        }
+        this.listener.record(this.operation, nanos, bytes, allocation);
+    }
+
+    /**
+     * Bytes allocated by the current thread so far.
+     * @return The bytes, or -1 if the JVM can not tell
+     */
+    private static long allocation() {
+        long bytes = -1L;
+        if (Meter.THREADS instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean bean =
+                (com.sun.management.ThreadMXBean) Meter.THREADS;
+            if (bean.isThreadAllocatedMemoryEnabled()) {
+                bytes = bean.getCurrentThreadAllocatedBytes();
+            }
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.metrics;
+
+import org.cactoos.Scalar;
+
+/**
+ * MeteredScalar.
+ *
+ * <p>Measure the computation of a value, like the parsing of a dict,
+ * recording the size of its input as the bytes read. A computation that
+ * fails is measured too.
+ *
+ * @param <T> Value type
+ * @since 0.0.42
+ */
+public final class MeteredScalar<T> implements Scalar<T> {
+    /**
+     * Origin scalar.
+     */
+    private final Scalar<T> origin;
+
+    /**
+     * Listener.
+     */
+    private final Listener listener;
+
+    /**
+     * Operation.
+     */
+    private final Operation operation;
+
+    /**
+     * Bytes read.
+     */
+    private final long bytes;
+
+    /**
+     * Ctor.
+     * @param scalar Scalar to measure
+     * @param listener Listener of the measures
+     * @param operation Operation to record
+     * @param bytes Bytes read
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public MeteredScalar(
+        final Scalar<T> scalar,
+        final Listener listener,
+        final Operation operation,
+        final long bytes
+    ) {
+        this.origin = scalar;
+        this.listener = listener;
+        this.operation = operation;
+        this.bytes = bytes;
+    }
+
+    @Override
+    public T value() throws Exception {
+        final T value;
+        if (this.listener.enabled()) {
+            final Meter meter = new Meter(this.listener, this.operation);
+            try {
+                value = this.origin.value();
+            } finally {
+                meter.stop(this.bytes);
+            }
+        } else {
+            value = this.origin.value();
+        }
+        return value;
+    }
+}
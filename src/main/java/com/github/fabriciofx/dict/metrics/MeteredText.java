@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.metrics;
+
+import org.cactoos.Text;
+
+/**
+ * MeteredText.
+ *
+ * <p>Measure the writing of a text, like {@link
+ * com.github.fabriciofx.dict.xml.DictAsXml}, recording its length as the
+ * bytes written. A writing that fails is measured with no bytes.
+ *
+ * @since 0.0.42
+ */
+public final class MeteredText implements Text {
+    /**
+     * Origin text.
+     */
+    private final Text origin;
+
+    /**
+     * Listener.
+     */
+    private final Listener listener;
+
+    /**
+     * Operation.
+     */
+    private final Operation operation;
+
+    /**
+     * Ctor.
+     * @param text Text to measure
+     * @param listener Listener of the measures
+     * @param operation Operation to record
+     */
+    public MeteredText(
+        final Text text,
+        final Listener listener,
+        final Operation operation
+    ) {
+        this.origin = text;
+        this.listener = listener;
+        this.operation = operation;
+    }
+
+    @Override
+    public String asString() throws Exception {
+        final String text;
+        if (this.listener.enabled()) {
+            final Meter meter = new Meter(this.listener, this.operation);
+            long bytes = 0L;
+            try {
+                text = this.origin.asString();
+                bytes = text.length();
+            } finally {
+                meter.stop(bytes);
+            }
+        } else {
+            text = this.origin.asString();
+        }
+        return text;
+    }
+}
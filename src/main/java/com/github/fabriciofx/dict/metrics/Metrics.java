@@ -0,0 +1,153 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics.
+ *
+ * <p>Listener that keeps, for each operation, its count, a latency
+ * histogram and the total of bytes and allocations. It is thread safe and
+ * lock free.
+ *
+ * @since 0.0.42
+ */
+public final class Metrics implements Listener {
+    /**
+     * Counts.
+     */
+    private final Map<Operation, LongAdder> counts;
+
+    /**
+     * Latencies, in nanoseconds.
+     */
+    private final Map<Operation, Histogram> latencies;
+
+    /**
+     * Bytes read or written.
+     */
+    private final Map<Operation, LongAdder> bytes;
+
+    /**
+     * Bytes allocated.
+     */
+    private final Map<Operation, LongAdder> allocations;
+
+    /**
+     * Ctor.
+     */
+    public Metrics() {
+        this(
+            Metrics.adders(),
+            Metrics.histograms(),
+            Metrics.adders(),
+            Metrics.adders()
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param counts Counts
+     * @param latencies Latencies, in nanoseconds
+     * @param bytes Bytes read or written
+     * @param allocations Bytes allocated
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private Metrics(
+        final Map<Operation, LongAdder> counts,
+        final Map<Operation, Histogram> latencies,
+        final Map<Operation, LongAdder> bytes,
+        final Map<Operation, LongAdder> allocations
+    ) {
+        this.counts = counts;
+        this.latencies = latencies;
+        this.bytes = bytes;
+        this.allocations = allocations;
+    }
+
+    @Override
+    public boolean enabled() {
+        return true;
+    }
+
+    @Override
+    public void record(
+        final Operation operation,
+        final long nanos,
+        final long size,
+        final long allocated
+    ) {
+        this.counts.get(operation).increment();
+        this.latencies.get(operation).add(nanos);
+        this.bytes.get(operation).add(size);
+        if (allocated > 0) {
+            this.allocations.get(operation).add(allocated);
+        }
+    }
+
+    /**
+     * Amount of times an operation was done.
+     * @param operation The operation
+     * @return The count
+     */
+    public long count(final Operation operation) {
+        return this.counts.get(operation).sum();
+    }
+
+    /**
+     * Latencies of an operation.
+     * @param operation The operation
+     * @return Histogram of the latencies, in nanoseconds
+     */
+    public Histogram latency(final Operation operation) {
+        return this.latencies.get(operation);
+    }
+
+    /**
+     * Total of bytes read or written by an operation.
+     * @param operation The operation
+     * @return The bytes
+     */
+    public long bytes(final Operation operation) {
+        return this.bytes.get(operation).sum();
+    }
+
+    /**
+     * Estimate of the total of bytes allocated by an operation.
+     * @param operation The operation
+     * @return The bytes
+     */
+    public long allocated(final Operation operation) {
+        return this.allocations.get(operation).sum();
+    }
+
+    /**
+     * Build one adder per operation.
+     * @return The adders
+     */
+    private static Map<Operation, LongAdder> adders() {
+        final Map<Operation, LongAdder> adders = new EnumMap<>(Operation.class);
+        for (final Operation operation : Operation.values()) {
+            adders.put(operation, new LongAdder());
+        }
+        return adders;
+    }
+
+    /**
+     * Build one histogram per operation.
+     * @return The histograms
+     */
+    private static Map<Operation, Histogram> histograms() {
+        final Map<Operation, Histogram> histograms =
+            new EnumMap<>(Operation.class);
+        for (final Operation operation : Operation.values()) {
+            histograms.put(operation, new Histogram());
+        }
+        return histograms;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.metrics;
+
+/**
+ * Operation.
+ *
+ * <p>Dict operations and codecs that can be measured.
+ *
+ * @since 0.0.42
+ */
+public enum Operation {
+    /**
+     * Read the keys.
+     */
+    KEYS,
+
+    /**
+     * Read the values.
+     */
+    VALUES,
+
+    /**
+     * Read or scan the entries.
+     */
+    ENTRIES,
+
+    /**
+     * Count the entries.
+     */
+    COUNT,
+
+    /**
+     * Read a value.
+     */
+    VALUE,
+
+    /**
+     * Build a new dict with an entry.
+     */
+    WITH,
+
+    /**
+     * Write as text, usually JSON.
+     */
+    WRITE,
+
+    /**
+     * Parse from text, usually JSON.
+     */
+    PARSE,
+
+    /**
+     * Convert to or from XML.
+     */
+    XML
+}
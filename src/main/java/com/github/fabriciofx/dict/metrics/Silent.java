@@ -0,0 +1,29 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.metrics;
+
+/**
+ * Silent.
+ *
+ * <p>A disabled listener, that records nothing.
+ *
+ * @since 0.0.42
+ */
+public final class Silent implements Listener {
+    @Override
+    public boolean enabled() {
+        return false;
+    }
+
+    @Override
+    public void record(
+        final Operation operation,
+        final long nanos,
+        final long bytes,
+        final long allocated
+    ) {
+        // Nothing to record.
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.offheap;
+
+import org.cactoos.Scalar;
+
+/**
+ * Filled.
+ *
+ * <p>Table filled once, on first use, by a scalar that is dropped right
+ * after, so whatever it captures (the heap dict copied off the heap or an
+ * older table) can be collected while the table lives. Filling is thread
+ * safe; reading a filled table takes no lock.
+ *
+ * @since 0.0.42
+ */
+final class Filled implements Scalar<Table> {
+    /**
+     * Scalar that fills the table, null once it is filled.
+     */
+    private Scalar<Table> fill;
+
+    /**
+     * The filled table, null until it is filled.
+     */
+    private volatile Table table;
+
+    /**
+     * Ctor.
+     * @param fill Scalar that fills the table
+     */
+    Filled(final Scalar<Table> fill) {
+        this.fill = fill;
+    }
+
+    @Override
+    public Table value() throws Exception {
+        Table filled = this.table;
+        if (filled == null) {
+            synchronized (this) {
+                filled = this.table;
+                if (filled == null) {
+                    filled = this.fill.value();
+                    this.table = filled;
+                    this.fill = null;
+                }
+            }
+        }
+        return filled;
+    }
+}
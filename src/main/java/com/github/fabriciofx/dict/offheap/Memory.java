@@ -0,0 +1,154 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Memory.
+ *
+ * <p>Arena of direct buffers, out of the Java heap. Records are appended to
+ * fixed size chunks and addressed by a long holding the chunk number in its
+ * high half and the offset in its low half. Appending is not thread safe;
+ * reading is.
+ *
+ * <p>Closing the memory drops all its buffers and any further use fails
+ * with {@link IllegalStateException}, but their native memory is only
+ * released when the garbage collector collects them, not at close: the JDK
+ * has no safe way to free a direct buffer that a reader may still hold.
+ * The direct memory of all the memories together is limited by
+ * {@code -XX:MaxDirectMemorySize}, which defaults to the maximum heap size
+ * ({@code -Xmx}). When the limit is reached, the JVM runs a full garbage
+ * collection to release the closed memories before failing with
+ * {@link OutOfMemoryError}, unless explicit collections are disabled with
+ * {@code -XX:+DisableExplicitGC}, in which case it fails right away.
+ *
+ * @since 0.0.42
+ */
+public final class Memory implements AutoCloseable {
+    /**
+     * Default size of each chunk, in bytes.
+     */
+    private static final int CHUNK = 4 * 1024 * 1024;
+
+    /**
+     * Size of each chunk, in bytes.
+     */
+    private final int chunk;
+
+    /**
+     * Chunks.
+     */
+    private final List<ByteBuffer> chunks;
+
+    /**
+     * Whether the memory is closed.
+     */
+    private final AtomicBoolean closed;
+
+    /**
+     * Ctor.
+     */
+    public Memory() {
+        this(Memory.CHUNK);
+    }
+
+    /**
+     * Ctor.
+     * @param chunk Size of each chunk, in bytes
+     */
+    public Memory(final int chunk) {
+        this(chunk, new CopyOnWriteArrayList<>(), new AtomicBoolean());
+    }
+
+    /**
+     * Ctor.
+     * @param chunk Size of each chunk, in bytes
+     * @param chunks Chunks
+     * @param closed Whether the memory is closed
+     */
+    private Memory(
+        final int chunk,
+        final List<ByteBuffer> chunks,
+        final AtomicBoolean closed
+    ) {
+        this.chunk = chunk;
+        this.chunks = chunks;
+        this.closed = closed;
+    }
+
+    /**
+     * Append a record.
+     * @param bytes Content of the record
+     * @return Address of the record
+     */
+    public long append(final byte[] bytes) {
+        this.check();
+        ByteBuffer last = null;
+        if (!this.chunks.isEmpty()) {
+            last = this.chunks.get(this.chunks.size() - 1);
+        }
+        if (last == null || last.remaining() < bytes.length) {
+            last = ByteBuffer.allocateDirect(
+                Math.max(this.chunk, bytes.length)
+            );
+            this.chunks.add(last);
+        }
+        final long address = (long) (this.chunks.size() - 1) << Integer.SIZE
+            | last.position();
+        last.put(bytes);
+        return address;
+    }
+
+    /**
+     * Read a record.
+     * @param address Address of the record
+     * @param length Length of the record
+     * @return A buffer with the record, independent of any other reader
+     */
+    public ByteBuffer read(final long address, final int length) {
+        this.check();
+        return this.chunks.get((int) (address >>> Integer.SIZE))
+            .slice((int) address, length);
+    }
+
+    /**
+     * A new and empty memory, with chunks of the same size.
+     * @return The memory
+     */
+    public Memory fresh() {
+        return new Memory(this.chunk);
+    }
+
+    /**
+     * Bytes used by the records.
+     * @return The bytes
+     */
+    public long used() {
+        long used = 0;
+        for (final ByteBuffer buffer : this.chunks) {
+            used += buffer.position();
+        }
+        return used;
+    }
+
+    /**
+     * Check that the memory is still open.
+     */
+    public void check() {
+        if (this.closed.get()) {
+            throw new IllegalStateException("Off-heap memory is closed");
+        }
+    }
+
+    @Override
+    public void close() {
+        this.closed.set(true);
+        this.chunks.clear();
+    }
+}
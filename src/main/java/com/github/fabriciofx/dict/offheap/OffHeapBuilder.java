@@ -0,0 +1,84 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.offheap;
+
+import com.github.fabriciofx.dict.Dict;
+
+/**
+ * OffHeapBuilder.
+ *
+ * <p>Builds an {@link OffHeapDict} putting many entries into a single
+ * {@link Memory}, each encoded once, instead of copying the whole dict at
+ * each {@link OffHeapDict#with(String, Object)}. Putting a key again
+ * replaces its value; if any value was replaced, {@link #build()} copies the
+ * live records into a new memory and releases the old one, so the built
+ * dict holds no replaced records. After {@link #build()} the builder can't
+ * be used any longer. It is not thread safe.
+ *
+ * @since 0.0.42
+ */
+public final class OffHeapBuilder {
+    /**
+     * Table where the entries are put, null once built.
+     */
+    private Table table;
+
+    /**
+     * Ctor.
+     */
+    public OffHeapBuilder() {
+        this(new Memory());
+    }
+
+    /**
+     * Ctor.
+     * @param memory Memory where to put the entries
+     */
+    public OffHeapBuilder(final Memory memory) {
+        this.table = new Table(memory);
+    }
+
+    /**
+     * Put an entry, replacing the value of an existing key.
+     * @param key The key
+     * @param value The value
+     * @return This builder
+     */
+    public OffHeapBuilder put(final String key, final Object value) {
+        this.open().put(key, value);
+        return this;
+    }
+
+    /**
+     * Put all the entries of a dict, replacing the values of existing keys.
+     * @param dict The dict
+     * @return This builder
+     */
+    public OffHeapBuilder put(final Dict dict) {
+        this.open().put(dict);
+        return this;
+    }
+
+    /**
+     * Build the dict, which owns the memory from now on.
+     * @return The off-heap dict
+     */
+    public OffHeapDict build() {
+        final Table built = this.open().compacted();
+        this.table = null;
+        return new OffHeapDict(built);
+    }
+
+    /**
+     * The table, while not built.
+     * @return The table
+     */
+    private Table open() {
+        if (this.table == null) {
+            throw new IllegalStateException("Off-heap dict is already built");
+        }
+        return this.table;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.offheap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.EntriesOf;
+import com.github.fabriciofx.dict.jfr.WrittenText;
+import com.github.fabriciofx.dict.json.DictMapper;
+import com.github.fabriciofx.dict.json.DictToJson;
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * OffHeapDict.
+ *
+ * <p>Dict that keeps its keys and values out of the Java heap, in a
+ * {@link Memory}, with an off-heap hash index, so even very large dicts add
+ * almost nothing to the work of the garbage collector. Values are encoded
+ * with {@link com.github.fabriciofx.dict.binary.Binary} when the dict is
+ * built and decoded at each {@link #value(String, Class)}; the keys and
+ * values collections decode them as they are iterated.
+ *
+ * <p>The entries of the origin dict are copied once, on first use. Each
+ * {@link #with(String, Object)} is a full copy: it copies all the encoded
+ * records, but the replaced one, and the index into a new memory, taking
+ * time and off-heap space proportional to the whole dict, and returns a dict
+ * that must be closed on its own, since the dict it was called on is not
+ * closed. So build large dicts in one go, from a whole dict or with an
+ * {@link OffHeapBuilder}. Once copied, neither the origin dict nor the dict
+ * {@link #with(String, Object)} was called on are held any longer. Close
+ * the dict to release its memory, as described in {@link Memory}; using it
+ * afterwards throws {@link IllegalStateException}.
+ *
+ * @since 0.0.42
+ */
+@JsonSerialize(using = DictToJson.class)
+public final class OffHeapDict implements Dict, AutoCloseable {
+    /**
+     * Mapper shared by all off-heap dicts to write them as JSON.
+     */
+    private static final ObjectMapper MAPPER = new DictMapper();
+
+    /**
+     * Table where the entries are copied.
+     */
+    private final Table store;
+
+    /**
+     * Table, filled on first use.
+     */
+    private final Unchecked<Table> table;
+
+    /**
+     * Ctor.
+     * @param dict Dict to copy off the heap
+     */
+    public OffHeapDict(final Dict dict) {
+        this(dict, new Memory());
+    }
+
+    /**
+     * Ctor.
+     * @param dict Dict to copy off the heap
+     * @param memory Memory where to copy it
+     */
+    public OffHeapDict(final Dict dict, final Memory memory) {
+        this(new Table(memory), dict);
+    }
+
+    /**
+     * Ctor.
+     * @param store Table already filled
+     */
+    OffHeapDict(final Table store) {
+        this(store, new Unchecked<>(() -> store));
+    }
+
+    /**
+     * Ctor.
+     * @param store Table where the entries are copied
+     * @param dict Dict to copy into the table
+     */
+    private OffHeapDict(final Table store, final Dict dict) {
+        this(
+            store,
+            new Unchecked<>(new Filled(() -> store.put(dict)))
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param store Table where the entries are copied
+     * @param table Table, filled on first use
+     */
+    private OffHeapDict(final Table store, final Unchecked<Table> table) {
+        this.store = store;
+        this.table = table;
+    }
+
+    @Override
+    public Set<String> keys() {
+        return new OffHeapKeys(this.table);
+    }
+
+    @Override
+    public Collection<Object> values() {
+        return new OffHeapValues(this.table);
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entries() {
+        return new EntriesOf(this, this::spliterator);
+    }
+
+    @Override
+    public void forEach(final BiConsumer<String, Object> action) {
+        final Table source = this.table.value();
+        for (int slot = 0; slot < source.slots(); ++slot) {
+            final ByteBuffer record = source.record(slot);
+            if (record != null) {
+                action.accept(source.key(record), source.value(record));
+            }
+        }
+    }
+
+    @Override
+    public Spliterator<Map.Entry<String, Object>> spliterator() {
+        final Table source = this.table.value();
+        return IntStream.range(0, source.slots())
+            .mapToObj(source::record)
+            .filter(Objects::nonNull)
+            .<Map.Entry<String, Object>>map(
+                record -> new AbstractMap.SimpleImmutableEntry<>(
+                    source.key(record),
+                    source.value(record)
+                )
+            )
+            .spliterator();
+    }
+
+    @Override
+    public int count() {
+        return this.table.value().count();
+    }
+
+    @Override
+    public <T> T value(final String key, final Class<T> type) {
+        return type.cast(this.table.value().value(key));
+    }
+
+    @Override
+    public Dict with(final String key, final Object value) {
+        final Table copy = new Table(new Memory());
+        final Unchecked<Table> origin = this.table;
+        return new OffHeapDict(
+            copy,
+            new Unchecked<>(
+                new Filled(
+                    () -> origin.value().copy(copy, key).put(key, value)
+                )
+            )
+        );
+    }
+
+    @Override
+    public String asString() throws Exception {
+        return new WrittenText(
+            () -> OffHeapDict.MAPPER.writeValueAsString(this),
+            "OffHeapDict",
+            this
+        ).asString();
+    }
+
+    @Override
+    public boolean equals(final Object dict) {
+        return this == dict
+            || dict instanceof Dict
+            && this.entries().equals(Dict.class.cast(dict).entries());
+    }
+
+    @Override
+    public int hashCode() {
+        return this.entries().hashCode();
+    }
+
+    @Override
+    public void close() {
+        this.store.close();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.offheap;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * OffHeapKeys.
+ *
+ * <p>Keys of a {@link Table}, decoded one by one as they are iterated.
+ *
+ * @since 0.0.42
+ */
+final class OffHeapKeys extends AbstractSet<String> {
+    /**
+     * Table.
+     */
+    private final Unchecked<Table> table;
+
+    /**
+     * Ctor.
+     * @param table Table
+     */
+    OffHeapKeys(final Unchecked<Table> table) {
+        super();
+        this.table = table;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        final Table source = this.table.value();
+        return new Records<>(source, source::key);
+    }
+
+    @Override
+    public int size() {
+        return this.table.value().count();
+    }
+
+    @Override
+    public boolean contains(final Object key) {
+        return key instanceof String && this.table.value().has((String) key);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.offheap;
+
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * OffHeapValues.
+ *
+ * <p>Values of a {@link Table}, decoded one by one as they are iterated.
+ *
+ * @since 0.0.42
+ */
+final class OffHeapValues extends AbstractCollection<Object> {
+    /**
+     * Table.
+     */
+    private final Unchecked<Table> table;
+
+    /**
+     * Ctor.
+     * @param table Table
+     */
+    OffHeapValues(final Unchecked<Table> table) {
+        super();
+        this.table = table;
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        final Table source = this.table.value();
+        return new Records<>(source, source::value);
+    }
+
+    @Override
+    public int size() {
+        return this.table.value().count();
+    }
+}
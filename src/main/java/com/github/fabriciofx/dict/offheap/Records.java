@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Records.
+ *
+ * <p>Iterator over the records of a {@link Table}, in slot order.
+ *
+ * @param <T> Type of the decoded records
+ * @since 0.0.42
+ */
+final class Records<T> implements Iterator<T> {
+    /**
+     * Table.
+     */
+    private final Table table;
+
+    /**
+     * Decoder of each record.
+     */
+    private final Function<ByteBuffer, T> decoder;
+
+    /**
+     * Next slot to look at.
+     */
+    private int slot;
+
+    /**
+     * Ctor.
+     * @param table Table
+     * @param decoder Decoder of each record
+     */
+    Records(final Table table, final Function<ByteBuffer, T> decoder) {
+        this.table = table;
+        this.decoder = decoder;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (this.slot < this.table.slots()
+            && this.table.record(this.slot) == null) {
+            ++this.slot;
+        }
+        return this.slot < this.table.slots();
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException("No more records");
+        }
+        final T next = this.decoder.apply(this.table.record(this.slot));
+        ++this.slot;
+        return next;
+    }
+}
@@ -0,0 +1,374 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.offheap;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.binary.Binary;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Table.
+ *
+ * <p>Off-heap hash table. Each entry is a record in a {@link Memory} holding
+ * the key length, the key in UTF-8 and the {@link Binary} encoded value.
+ * The index is an open addressing table, with linear probing, in a direct
+ * buffer: each slot holds the record address plus one (zero means empty),
+ * the key hash and the record length. A record replaced by another one is
+ * left in the memory until the table is {@link #compacted()}. Putting is
+ * not thread safe; reading is, once all puts are done.
+ *
+ * <p>A direct buffer holds less than 2 GiB, so the index has at most 2^26
+ * slots (1 GiB) and the table holds at most three quarters of them,
+ * 50,331,648 entries; putting a new key over it throws
+ * {@link IllegalStateException}, before anything is written.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+final class Table implements AutoCloseable {
+    /**
+     * Bytes of a slot.
+     */
+    private static final int SLOT = 16;
+
+    /**
+     * Initial amount of slots.
+     */
+    private static final int SLOTS = 16;
+
+    /**
+     * Maximum amount of slots, the largest power of two whose slots fit in
+     * a direct buffer.
+     */
+    private static final int MAX_SLOTS = 1 << 26;
+
+    /**
+     * Maximum amount of entries.
+     */
+    private static final int MAX_ENTRIES = Table.MAX_SLOTS / 4 * 3;
+
+    /**
+     * Memory of the records.
+     */
+    private final Memory memory;
+
+    /**
+     * Binary codec of the values.
+     */
+    private final Binary binary;
+
+    /**
+     * Index.
+     */
+    private ByteBuffer index;
+
+    /**
+     * Amount of entries.
+     */
+    private int size;
+
+    /**
+     * Bytes of the records replaced by others.
+     */
+    private long dead;
+
+    /**
+     * Ctor.
+     * @param memory Memory of the records
+     */
+    Table(final Memory memory) {
+        this(memory, new Binary(), ByteBuffer.allocate(0));
+    }
+
+    /**
+     * Ctor.
+     * @param memory Memory of the records
+     * @param binary Binary codec of the values
+     * @param index Index
+     */
+    private Table(
+        final Memory memory,
+        final Binary binary,
+        final ByteBuffer index
+    ) {
+        this.memory = memory;
+        this.binary = binary;
+        this.index = index;
+    }
+
+    /**
+     * Put all the entries of a dict.
+     * @param dict The dict
+     * @return This table
+     */
+    Table put(final Dict dict) {
+        dict.forEach(this::put);
+        return this;
+    }
+
+    /**
+     * Put an entry, replacing the value of an existing key.
+     * @param key The key
+     * @param value The value
+     * @return This table
+     */
+    Table put(final String key, final Object value) {
+        final byte[] name = key.getBytes(StandardCharsets.UTF_8);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            final DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(name.length);
+            out.write(name);
+            this.binary.write(value, out);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        this.insert(key.hashCode(), bytes.toByteArray());
+        return this;
+    }
+
+    /**
+     * Copy, without decoding, all the entries but one into another table.
+     * @param target The other table
+     * @param skipped Key not to copy, or null to copy all
+     * @return The other table
+     */
+    Table copy(final Table target, final String skipped) {
+        int skip = -1;
+        if (skipped != null) {
+            skip = this.find(skipped);
+        }
+        for (int slot = 0; slot < this.slots(); ++slot) {
+            final ByteBuffer record = this.record(slot);
+            if (record != null && slot != skip) {
+                final byte[] bytes = new byte[record.remaining()];
+                record.get(bytes);
+                target.insert(this.index.getInt(slot * Table.SLOT + 8), bytes);
+            }
+        }
+        return target;
+    }
+
+    /**
+     * This table without the records replaced by others: if there are any,
+     * the live ones are copied into a new memory and this table is closed.
+     * @return A table with no replaced records
+     */
+    Table compacted() {
+        Table table = this;
+        if (this.dead > 0) {
+            table = this.copy(new Table(this.memory.fresh()), null);
+            this.close();
+        }
+        return table;
+    }
+
+    /**
+     * Check if a key is in the table.
+     * @param key The key
+     * @return True if it is
+     */
+    boolean has(final String key) {
+        return this.find(key) >= 0;
+    }
+
+    /**
+     * Value of a key.
+     * @param key The key
+     * @return The value or null if there is no such key
+     */
+    Object value(final String key) {
+        final int slot = this.find(key);
+        Object value = null;
+        if (slot >= 0) {
+            value = this.value(this.record(slot));
+        }
+        return value;
+    }
+
+    /**
+     * Amount of entries.
+     * @return The amount
+     */
+    int count() {
+        this.memory.check();
+        return this.size;
+    }
+
+    /**
+     * Amount of slots.
+     * @return The amount
+     */
+    int slots() {
+        this.memory.check();
+        return this.index.capacity() / Table.SLOT;
+    }
+
+    /**
+     * Record of a slot.
+     * @param slot The slot
+     * @return The record or null if the slot is empty
+     */
+    ByteBuffer record(final int slot) {
+        final long address = this.index.getLong(slot * Table.SLOT);
+        ByteBuffer record = null;
+        if (address != 0) {
+            record = this.memory.read(
+                address - 1,
+                this.index.getInt(slot * Table.SLOT + 12)
+            );
+        }
+        return record;
+    }
+
+    /**
+     * Key of a record.
+     * @param record The record
+     * @return The key
+     */
+    String key(final ByteBuffer record) {
+        return this.binary.text(record.duplicate());
+    }
+
+    /**
+     * Value of a record.
+     * @param record The record
+     * @return The value
+     */
+    Object value(final ByteBuffer record) {
+        final ByteBuffer buffer = record.duplicate();
+        buffer.position(Integer.BYTES + buffer.getInt(0));
+        return this.binary.value(buffer);
+    }
+
+    @Override
+    public void close() {
+        this.memory.close();
+        this.index = ByteBuffer.allocate(0);
+    }
+
+    /**
+     * Find the slot of a key.
+     * @param key The key
+     * @return The slot or -1 if there is no such key
+     */
+    private int find(final String key) {
+        final int slots = this.slots();
+        int found = -1;
+        if (slots > 0) {
+            final int hash = key.hashCode();
+            final ByteBuffer name = ByteBuffer.wrap(
+                key.getBytes(StandardCharsets.UTF_8)
+            );
+            int slot = Table.spread(hash) & slots - 1;
+            while (this.index.getLong(slot * Table.SLOT) != 0) {
+                if (this.matches(slot, hash, name)) {
+                    found = slot;
+                    break;
+                }
+                slot = slot + 1 & slots - 1;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Insert a record, replacing the one with the same key.
+     * @param hash Hash of the key
+     * @param bytes The record
+     */
+    private void insert(final int hash, final byte[] bytes) {
+        if ((this.size + 1) * 4L > this.slots() * 3L
+            && this.slots() < Table.MAX_SLOTS) {
+            this.grow();
+        }
+        final ByteBuffer name = ByteBuffer.wrap(
+            bytes, Integer.BYTES, ByteBuffer.wrap(bytes).getInt()
+        );
+        final int slots = this.slots();
+        int slot = Table.spread(hash) & slots - 1;
+        while (this.index.getLong(slot * Table.SLOT) != 0
+            && !this.matches(slot, hash, name)) {
+            slot = slot + 1 & slots - 1;
+        }
+        if (this.index.getLong(slot * Table.SLOT) == 0) {
+            if (this.size >= Table.MAX_ENTRIES) {
+                throw new IllegalStateException(
+                    String.format(
+                        "Off-heap table is full: it holds at most %d entries",
+                        Table.MAX_ENTRIES
+                    )
+                );
+            }
+            ++this.size;
+        } else {
+            this.dead += this.index.getInt(slot * Table.SLOT + 12);
+        }
+        this.index.putLong(slot * Table.SLOT, this.memory.append(bytes) + 1);
+        this.index.putInt(slot * Table.SLOT + 8, hash);
+        this.index.putInt(slot * Table.SLOT + 12, bytes.length);
+    }
+
+    /**
+     * Check if a slot holds a key.
+     * @param slot The slot
+     * @param hash Hash of the key
+     * @param name The key in UTF-8
+     * @return True if it holds
+     */
+    private boolean matches(
+        final int slot,
+        final int hash,
+        final ByteBuffer name
+    ) {
+        boolean matches = false;
+        if (this.index.getInt(slot * Table.SLOT + 8) == hash) {
+            final ByteBuffer record = this.record(slot);
+            final int length = record.getInt(0);
+            matches = length == name.remaining()
+                && record.slice(Integer.BYTES, length).equals(name);
+        }
+        return matches;
+    }
+
+    /**
+     * Double the slots of the index, moving the slots into it.
+     */
+    private void grow() {
+        final int slots = Math.max(this.slots() * 2, Table.SLOTS);
+        final ByteBuffer bigger = ByteBuffer.allocateDirect(slots * Table.SLOT);
+        for (int old = 0; old < this.slots(); ++old) {
+            final long address = this.index.getLong(old * Table.SLOT);
+            if (address != 0) {
+                final int hash = this.index.getInt(old * Table.SLOT + 8);
+                int slot = Table.spread(hash) & slots - 1;
+                while (bigger.getLong(slot * Table.SLOT) != 0) {
+                    slot = slot + 1 & slots - 1;
+                }
+                bigger.putLong(slot * Table.SLOT, address);
+                bigger.putInt(slot * Table.SLOT + 8, hash);
+                bigger.putInt(
+                    slot * Table.SLOT + 12,
+                    this.index.getInt(old * Table.SLOT + 12)
+                );
+            }
+        }
+        this.index = bigger;
+    }
+
+    /**
+     * Spread the bits of a hash, so the low ones used by the index vary.
+     * @param hash The hash
+     * @return The spread hash
+     */
+    private static int spread(final int hash) {
+        return hash ^ hash >>> 16;
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.schema;
+
+import com.github.fabriciofx.dict.Dict;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Schema.
+ *
+ * <p>The keys of a dict and the types of their values. Each key has a slot,
+ * its position in the schema, used by {@link SchemaDict} to store values in
+ * an array instead of a hash map.
+ *
+ * @since 0.0.42
+ */
+public final class Schema {
+    /**
+     * Key names, in slot order.
+     */
+    private final List<String> names;
+
+    /**
+     * Value types, in slot order.
+     */
+    private final List<Class<?>> types;
+
+    /**
+     * Slot of each key.
+     */
+    private final Map<String, Integer> slots;
+
+    /**
+     * Key names, as a set.
+     */
+    private final Set<String> set;
+
+    /**
+     * Ctor.
+     */
+    public Schema() {
+        this(Collections.emptyList(), Collections.emptyList());
+    }
+
+    /**
+     * Ctor.
+     * @param names Key names, in slot order
+     * @param types Value types, in slot order
+     */
+    private Schema(final List<String> names, final List<Class<?>> types) {
+        this(
+            names,
+            types,
+            Schema.indexed(names),
+            Collections.unmodifiableSet(new LinkedHashSet<>(names))
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param names Key names, in slot order
+     * @param types Value types, in slot order
+     * @param slots Slot of each key
+     * @param set Key names, as a set
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private Schema(
+        final List<String> names,
+        final List<Class<?>> types,
+        final Map<String, Integer> slots,
+        final Set<String> set
+    ) {
+        this.names = names;
+        this.types = types;
+        this.slots = slots;
+        this.set = set;
+    }
+
+    /**
+     * Build a schema.
+     * @param name Key name
+     * @param type Value type
+     * @return A new schema with the key added as its last slot
+     */
+    public Schema with(final String name, final Class<?> type) {
+        if (this.slots.containsKey(name)) {
+            throw new IllegalArgumentException(
+                String.format("Key '%s' is already in the schema", name)
+            );
+        }
+        final List<String> keys = new ArrayList<>(this.names);
+        keys.add(name);
+        final List<Class<?>> classes = new ArrayList<>(this.types);
+        classes.add(type);
+        return new Schema(
+            Collections.unmodifiableList(keys),
+            Collections.unmodifiableList(classes)
+        );
+    }
+
+    /**
+     * Compile the accessor of a key.
+     * @param name Key name
+     * @param type Type to read the value as
+     * @param <T> Value type
+     * @return The slot of the key
+     */
+    public <T> Slot<T> slot(final String name, final Class<T> type) {
+        final int index = this.index(name);
+        if (index < 0) {
+            throw new IllegalArgumentException(
+                String.format("Key '%s' is not in the schema", name)
+            );
+        }
+        if (!type.isAssignableFrom(this.types.get(index))) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Key '%s' holds %s values, not %s",
+                    name,
+                    this.types.get(index).getName(),
+                    type.getName()
+                )
+            );
+        }
+        return new Slot<>(this, index);
+    }
+
+    /**
+     * Key names.
+     * @return Key names, in slot order
+     */
+    public Set<String> keys() {
+        return this.set;
+    }
+
+    /**
+     * Amount of keys.
+     * @return Amount of keys
+     */
+    public int count() {
+        return this.names.size();
+    }
+
+    @Override
+    public boolean equals(final Object schema) {
+        return this == schema
+            || schema instanceof Schema
+            && Schema.class.cast(schema).names.equals(this.names)
+            && Schema.class.cast(schema).types.equals(this.types);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.names.hashCode() + this.types.hashCode();
+    }
+
+    /**
+     * Slot of a key.
+     * @param name Key name
+     * @return The slot or -1 if the key is not in the schema
+     */
+    int index(final String name) {
+        return this.slots.getOrDefault(name, -1);
+    }
+
+    /**
+     * Key name of a slot.
+     * @param index The slot
+     * @return Key name
+     */
+    String name(final int index) {
+        return this.names.get(index);
+    }
+
+    /**
+     * Check and copy the values of a dict, in slot order.
+     * @param dict Dict with exactly the keys of the schema
+     * @return The values
+     */
+    Object[] values(final Dict dict) {
+        for (final String key : dict.keys()) {
+            if (this.index(key) < 0) {
+                throw new IllegalArgumentException(
+                    String.format("Key '%s' is not in the schema", key)
+                );
+            }
+        }
+        final Object[] values = new Object[this.names.size()];
+        for (int idx = 0; idx < values.length; ++idx) {
+            values[idx] = dict.value(this.names.get(idx), Object.class);
+        }
+        return this.checked(values);
+    }
+
+    /**
+     * Check the values for each slot.
+     * @param values Values, in slot order
+     * @return The same values
+     */
+    Object[] checked(final Object... values) {
+        if (values.length != this.names.size()) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Schema has %d keys but there are %d values",
+                    this.names.size(),
+                    values.length
+                )
+            );
+        }
+        for (int idx = 0; idx < values.length; ++idx) {
+            this.check(idx, values[idx]);
+        }
+        return values;
+    }
+
+    /**
+     * Check if a value can be stored in a slot.
+     * @param index The slot
+     * @param value The value
+     * @return True if the value has the type of the slot
+     */
+    boolean accepts(final int index, final Object value) {
+        return this.types.get(index).isInstance(value);
+    }
+
+    /**
+     * Check a value of a slot.
+     * @param index The slot
+     * @param value The value
+     */
+    private void check(final int index, final Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException(
+                String.format("Key '%s' has no value", this.names.get(index))
+            );
+        }
+        if (!this.accepts(index, value)) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Key '%s' must be %s but is %s",
+                    this.names.get(index),
+                    this.types.get(index).getName(),
+                    value.getClass().getName()
+                )
+            );
+        }
+    }
+
+    /**
+     * Index the key names by slot.
+     * @param names Key names, in slot order
+     * @return Slot of each key
+     */
+    private static Map<String, Integer> indexed(final List<String> names) {
+        final Map<String, Integer> slots = new HashMap<>(names.size() * 2);
+        for (int idx = 0; idx < names.size(); ++idx) {
+            slots.put(names.get(idx), idx);
+        }
+        return Collections.unmodifiableMap(slots);
+    }
+}
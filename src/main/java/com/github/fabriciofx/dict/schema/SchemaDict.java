@@ -0,0 +1,176 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.schema;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import com.github.fabriciofx.dict.base.EntriesOf;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * SchemaDict.
+ *
+ * <p>A dict with a fixed {@link Schema}. The values are checked against the
+ * schema once, when the dict is built, and stored in an array by slot, so
+ * reading them through a {@link Slot} needs no hashing and no cast check.
+ * Adding a key out of the schema, or a value of another type, gives a
+ * plain {@link DictOf}.
+ *
+ * @since 0.0.42
+ */
+public final class SchemaDict implements Dict {
+    /**
+     * Schema.
+     */
+    private final Schema schema;
+
+    /**
+     * Values, in slot order.
+     */
+    private final Object[] slots;
+
+    /**
+     * Ctor.
+     * @param schema Schema of the dict
+     * @param dict Dict with exactly the keys of the schema
+     */
+    public SchemaDict(final Schema schema, final Dict dict) {
+        this(schema.values(dict), schema);
+    }
+
+    /**
+     * Ctor.
+     * @param schema Schema of the dict
+     * @param values Values, in slot order
+     */
+    public SchemaDict(final Schema schema, final Object... values) {
+        this(schema.checked(values.clone()), schema);
+    }
+
+    /**
+     * Ctor.
+     * @param slots Values already checked, in slot order
+     * @param schema Schema of the dict
+     */
+    private SchemaDict(final Object[] slots, final Schema schema) {
+        this.schema = schema;
+        this.slots = slots;
+    }
+
+    /**
+     * Value of a slot.
+     * @param slot Slot compiled from the schema of this dict
+     * @param <T> Value type
+     * @return The value
+     */
+    public <T> T value(final Slot<T> slot) {
+        return slot.value(this.schema, this.slots);
+    }
+
+    @Override
+    public Set<String> keys() {
+        return this.schema.keys();
+    }
+
+    @Override
+    public Collection<Object> values() {
+        return Collections.unmodifiableList(Arrays.asList(this.slots));
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entries() {
+        return new EntriesOf(this, this::spliterator);
+    }
+
+    @Override
+    public void forEach(final BiConsumer<String, Object> action) {
+        for (int idx = 0; idx < this.slots.length; ++idx) {
+            action.accept(this.schema.name(idx), this.slots[idx]);
+        }
+    }
+
+    @Override
+    public Spliterator<Map.Entry<String, Object>> spliterator() {
+        return IntStream.range(0, this.slots.length)
+            .<Map.Entry<String, Object>>mapToObj(
+                idx -> new AbstractMap.SimpleImmutableEntry<>(
+                    this.schema.name(idx),
+                    this.slots[idx]
+                )
+            )
+            .spliterator();
+    }
+
+    @Override
+    public int count() {
+        return this.slots.length;
+    }
+
+    @Override
+    public <T> T value(final String key, final Class<T> type) {
+        final int index = this.schema.index(key);
+        final T value;
+        if (index < 0) {
+            value = null;
+        } else {
+            value = type.cast(this.slots[index]);
+        }
+        return value;
+    }
+
+    @Override
+    public Dict with(final String key, final Object value) {
+        final int index = this.schema.index(key);
+        final Dict dict;
+        if (index >= 0 && this.schema.accepts(index, value)) {
+            final Object[] copy = this.slots.clone();
+            copy[index] = value;
+            dict = new SchemaDict(copy, this.schema);
+        } else {
+            dict = new DictOf(this.map()).with(key, value);
+        }
+        return dict;
+    }
+
+    @Override
+    public String asString() throws Exception {
+        return new DictOf(this.map()).asString();
+    }
+
+    @Override
+    public boolean equals(final Object dict) {
+        return this == dict
+            || dict instanceof Dict
+            && this.entries().equals(Dict.class.cast(dict).entries());
+    }
+
+    @Override
+    public int hashCode() {
+        return this.entries().hashCode();
+    }
+
+    /**
+     * Copy the values to a map.
+     * @return The map
+     */
+    private Map<String, Object> map() {
+        final Map<String, Object> map = new LinkedHashMap<>(
+            this.slots.length * 2
+        );
+        for (int idx = 0; idx < this.slots.length; ++idx) {
+            map.put(this.schema.name(idx), this.slots[idx]);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.schema;
+
+/**
+ * Slot.
+ *
+ * <p>Compiled accessor of a key of a {@link Schema}: reading a value through
+ * it is an array access, with no hashing and no cast check, since the type
+ * was checked when the {@link SchemaDict} was built.
+ *
+ * @param <T> Value type
+ * @since 0.0.42
+ */
+public final class Slot<T> {
+    /**
+     * Schema.
+     */
+    private final Schema schema;
+
+    /**
+     * Index of the slot.
+     */
+    private final int index;
+
+    /**
+     * Ctor.
+     * @param schema Schema of the slot
+     * @param index Index of the slot
+     */
+    Slot(final Schema schema, final int index) {
+        this.schema = schema;
+        this.index = index;
+    }
+
+    /**
+     * Read the value of the slot.
+     * @param owner Schema of the values
+     * @param values Values, in slot order
+     * @return The value
+     */
+    @SuppressWarnings("unchecked")
+    T value(final Schema owner, final Object... values) {
+        if (owner != this.schema && !owner.equals(this.schema)) {
+            throw new IllegalArgumentException(
+                "Slot belongs to another schema"
+            );
+        }
+        return (T) values[this.index];
+    }
+}
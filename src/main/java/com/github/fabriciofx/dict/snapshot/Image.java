@@ -0,0 +1,261 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.snapshot;
+
+import com.github.fabriciofx.dict.binary.Binary;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * Image.
+ *
+ * <p>Snapshot file read from a {@link Region}. The file starts with a magic
+ * number and a version, followed by the records, each one holding its
+ * length, the key length, the key in UTF-8 and the {@link Binary} encoded
+ * value. Then comes the index, an open addressing table with linear probing
+ * where each slot holds the record offset plus one (zero means empty), the
+ * key hash and the record length. The footer holds the index offset, the
+ * amount of entries and of slots, and the file ends with the CRC32 of all
+ * the bytes before it. Offsets are longs, so the file size is not limited.
+ *
+ * @since 0.0.42
+ */
+final class Image {
+    /**
+     * Magic number, "DICT" in ASCII.
+     */
+    static final int MAGIC = 0x44494354;
+
+    /**
+     * Version of the format.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * Bytes of the header.
+     */
+    static final int HEADER = 8;
+
+    /**
+     * Bytes of an index slot.
+     */
+    static final int SLOT = 16;
+
+    /**
+     * Bytes of the footer and the checksum.
+     */
+    static final int TRAILER = 24;
+
+    /**
+     * Region with the whole file.
+     */
+    private final Region region;
+
+    /**
+     * Binary codec of the values.
+     */
+    private final Binary binary;
+
+    /**
+     * Ctor.
+     * @param region Region with the whole file
+     */
+    Image(final Region region) {
+        this(region, new Binary());
+    }
+
+    /**
+     * Ctor.
+     * @param region Region with the whole file
+     * @param binary Binary codec of the values
+     */
+    private Image(final Region region, final Binary binary) {
+        this.region = region;
+        this.binary = binary;
+    }
+
+    /**
+     * Check the format and the checksum.
+     * @return This image
+     * @throws IOException If the file is not a valid snapshot
+     */
+    Image verified() throws IOException {
+        final long size = this.region.size();
+        if (size < Image.HEADER + Image.TRAILER) {
+            throw new IOException("Not a dict snapshot");
+        }
+        Image.header(this.region.slice(0, Image.HEADER));
+        final long sum = this.region.checksum(
+            new CRC32(),
+            size - Long.BYTES
+        ).getValue();
+        if (sum != this.region.getLong(size - Long.BYTES)) {
+            throw new IOException("Snapshot is corrupted, bad checksum");
+        }
+        return this;
+    }
+
+    /**
+     * Amount of entries.
+     * @return The amount
+     */
+    int count() {
+        return this.region.getInt(this.region.size() - 16);
+    }
+
+    /**
+     * Amount of index slots.
+     * @return The amount
+     */
+    int slots() {
+        return this.region.getInt(this.region.size() - 12);
+    }
+
+    /**
+     * Record of an index slot.
+     * @param slot The slot
+     * @return Offset of the record or -1 if the slot is empty
+     */
+    long record(final int slot) {
+        return this.region.getLong(this.end() + (long) slot * Image.SLOT) - 1;
+    }
+
+    /**
+     * Offset of the first record.
+     * @return The offset
+     */
+    long first() {
+        return Image.HEADER;
+    }
+
+    /**
+     * Offset of the end of the records, where the index starts.
+     * @return The offset
+     */
+    long end() {
+        return this.region.getLong(this.region.size() - Image.TRAILER);
+    }
+
+    /**
+     * Offset of the record after a record.
+     * @param record Offset of the record
+     * @return The offset
+     */
+    long next(final long record) {
+        return record + Integer.BYTES + this.region.getInt(record);
+    }
+
+    /**
+     * Key of a record.
+     * @param record Offset of the record
+     * @return The key
+     */
+    String key(final long record) {
+        return this.binary.text(
+            this.region.slice(
+                record + Integer.BYTES,
+                this.region.getInt(record)
+            )
+        );
+    }
+
+    /**
+     * Value of a record.
+     * @param record Offset of the record
+     * @return The value
+     */
+    Object value(final long record) {
+        return Image.value(
+            this.binary,
+            this.region.slice(
+                record + Integer.BYTES,
+                this.region.getInt(record)
+            )
+        );
+    }
+
+    /**
+     * Find the record of a key.
+     * @param key The key
+     * @return Offset of the record or -1 if there is no such key
+     */
+    long find(final String key) {
+        final int slots = this.slots();
+        final long index = this.end();
+        final int hash = key.hashCode();
+        final ByteBuffer name = ByteBuffer.wrap(
+            key.getBytes(StandardCharsets.UTF_8)
+        );
+        int slot = Image.spread(hash) & slots - 1;
+        long found = -1;
+        long offset = this.region.getLong(index + (long) slot * Image.SLOT);
+        while (offset != 0) {
+            final long record = offset - 1;
+            if (this.region.getInt(index + (long) slot * Image.SLOT + 8) == hash
+                && this.matches(record, name)) {
+                found = record;
+                break;
+            }
+            slot = slot + 1 & slots - 1;
+            offset = this.region.getLong(index + (long) slot * Image.SLOT);
+        }
+        return found;
+    }
+
+    /**
+     * Check the magic number and the version of a header.
+     * @param header The header
+     * @throws IOException If the file is not a supported snapshot
+     */
+    static void header(final ByteBuffer header) throws IOException {
+        if (header.getInt(0) != Image.MAGIC) {
+            throw new IOException("Not a dict snapshot");
+        }
+        if (header.getInt(Integer.BYTES) != Image.VERSION) {
+            throw new IOException(
+                String.format(
+                    "Unsupported snapshot version %d",
+                    header.getInt(Integer.BYTES)
+                )
+            );
+        }
+    }
+
+    /**
+     * Value of a record, without its length.
+     * @param binary Binary codec of the values
+     * @param record The record: key length, key and value
+     * @return The value
+     */
+    static Object value(final Binary binary, final ByteBuffer record) {
+        final ByteBuffer buffer = record.duplicate();
+        buffer.position(Integer.BYTES + buffer.getInt(0));
+        return binary.value(buffer);
+    }
+
+    /**
+     * Spread the bits of a hash, so the low ones used by the index vary.
+     * @param hash The hash
+     * @return The spread hash
+     */
+    static int spread(final int hash) {
+        return hash ^ hash >>> 16;
+    }
+
+    /**
+     * Check if a record holds a key.
+     * @param record Offset of the record
+     * @param name The key in UTF-8
+     * @return True if it holds
+     */
+    private boolean matches(final long record, final ByteBuffer name) {
+        final int length = this.region.getInt(record + Integer.BYTES);
+        return length == name.remaining()
+            && this.region.slice(record + 2 * Integer.BYTES, length)
+                .equals(name);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import com.github.fabriciofx.dict.base.EntriesOf;
+import com.github.fabriciofx.dict.jfr.WrittenText;
+import com.github.fabriciofx.dict.json.DictMapper;
+import com.github.fabriciofx.dict.json.DictToJson;
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * ImageDict.
+ *
+ * <p>Dict read from the {@link Image} of a snapshot, decoding each value
+ * when it is read. {@link #with(String, Object)} loads all the entries into
+ * a new {@link DictOf}.
+ *
+ * @since 0.0.42
+ */
+@JsonSerialize(using = DictToJson.class)
+final class ImageDict implements Dict {
+    /**
+     * Mapper shared by all image dicts to write them as JSON.
+     */
+    private static final ObjectMapper MAPPER = new DictMapper();
+
+    /**
+     * Image of the snapshot.
+     */
+    private final Unchecked<Image> image;
+
+    /**
+     * Ctor.
+     * @param image Mapped image of the snapshot
+     */
+    ImageDict(final MappedImage image) {
+        this(new Unchecked<>(new Synced<>(new Sticky<>(image))));
+    }
+
+    /**
+     * Ctor.
+     * @param image Image of the snapshot
+     */
+    private ImageDict(final Unchecked<Image> image) {
+        this.image = image;
+    }
+
+    @Override
+    public Set<String> keys() {
+        return new MappedKeys(this.image);
+    }
+
+    @Override
+    public Collection<Object> values() {
+        return new MappedValues(this.image);
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entries() {
+        return new EntriesOf(this, this::spliterator);
+    }
+
+    @Override
+    public void forEach(final BiConsumer<String, Object> action) {
+        final Image source = this.image.value();
+        long record = source.first();
+        while (record < source.end()) {
+            action.accept(source.key(record), source.value(record));
+            record = source.next(record);
+        }
+    }
+
+    @Override
+    public Spliterator<Map.Entry<String, Object>> spliterator() {
+        final Image source = this.image.value();
+        return IntStream.range(0, source.slots())
+            .mapToLong(source::record)
+            .filter(record -> record >= 0)
+            .<Map.Entry<String, Object>>mapToObj(
+                record -> new AbstractMap.SimpleImmutableEntry<>(
+                    source.key(record),
+                    source.value(record)
+                )
+            )
+            .spliterator();
+    }
+
+    @Override
+    public int count() {
+        return this.image.value().count();
+    }
+
+    @Override
+    public <T> T value(final String key, final Class<T> type) {
+        final Image source = this.image.value();
+        final long record = source.find(key);
+        Object value = null;
+        if (record >= 0) {
+            value = source.value(record);
+        }
+        return type.cast(value);
+    }
+
+    @Override
+    public Dict with(final String key, final Object value) {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        this.forEach(map::put);
+        map.put(key, value);
+        return new DictOf(map);
+    }
+
+    @Override
+    public String asString() throws Exception {
+        return new WrittenText(
+            () -> ImageDict.MAPPER.writeValueAsString(this),
+            "MappedDict",
+            this
+        ).asString();
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.snapshot;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import com.github.fabriciofx.dict.binary.Binary;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Journal.
+ *
+ * <p>Append-only log of the entries put in a dict. Each record holds its
+ * length, the key and the {@link Binary} encoded value, and the CRC32 of
+ * both, and is forced to disk before {@link #append(String, Object)}
+ * returns. A record torn by a crash fails its length or checksum and is
+ * dropped, along with anything after it, when the journal is replayed.
+ *
+ * @since 0.0.42
+ */
+public final class Journal {
+    /**
+     * Path of the journal file.
+     */
+    private final Path path;
+
+    /**
+     * Binary codec of the values.
+     */
+    private final Binary binary;
+
+    /**
+     * Ctor.
+     * @param path Path of the journal file
+     */
+    public Journal(final Path path) {
+        this(path, new Binary());
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the journal file
+     * @param binary Binary codec of the values
+     */
+    private Journal(final Path path, final Binary binary) {
+        this.path = path;
+        this.binary = binary;
+    }
+
+    /**
+     * Append an entry.
+     * @param key The key
+     * @param value The value
+     * @throws IOException If fails
+     */
+    public void append(final String key, final Object value)
+        throws IOException {
+        final ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        final DataOutputStream entry = new DataOutputStream(payload);
+        this.binary.text(key, entry);
+        this.binary.write(value, entry);
+        final CRC32 crc = new CRC32();
+        crc.update(payload.toByteArray());
+        final ByteArrayOutputStream record = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(record);
+        out.writeInt(payload.size());
+        payload.writeTo(out);
+        out.writeInt((int) crc.getValue());
+        try (FileChannel channel = FileChannel.open(
+            this.path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND
+        )) {
+            final ByteBuffer buffer = ByteBuffer.wrap(record.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Replay the journal over a dict. A torn tail is cut from the file, so
+     * the next appends follow the last valid record.
+     * @param dict The dict, usually loaded from a {@link Snapshot}
+     * @return A new dict with the entries of the journal put on it
+     * @throws IOException If fails
+     */
+    public Dict replay(final Dict dict) throws IOException {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        dict.forEach(map::put);
+        if (Files.exists(this.path)) {
+            final ByteBuffer buffer = ByteBuffer.wrap(
+                Files.readAllBytes(this.path)
+            );
+            final CRC32 crc = new CRC32();
+            int valid = 0;
+            while (buffer.remaining() >= Integer.BYTES) {
+                final int length = buffer.getInt();
+                if (length < 0
+                    || buffer.remaining() - Integer.BYTES < length) {
+                    break;
+                }
+                final ByteBuffer payload = buffer.slice(
+                    buffer.position(),
+                    length
+                );
+                crc.reset();
+                crc.update(payload.duplicate());
+                buffer.position(buffer.position() + length);
+                if ((int) crc.getValue() != buffer.getInt()) {
+                    break;
+                }
+                map.put(this.binary.text(payload), this.binary.value(payload));
+                valid = buffer.position();
+            }
+            if (valid < buffer.limit()) {
+                this.truncate(valid);
+            }
+        }
+        return new DictOf(map);
+    }
+
+    /**
+     * Size of the journal.
+     * @return The size, in bytes
+     * @throws IOException If fails
+     */
+    public long size() throws IOException {
+        long size = 0;
+        if (Files.exists(this.path)) {
+            size = Files.size(this.path);
+        }
+        return size;
+    }
+
+    /**
+     * Remove all the records, usually after saving a {@link Snapshot}.
+     * @throws IOException If fails
+     */
+    public void clear() throws IOException {
+        if (Files.exists(this.path)) {
+            this.truncate(0L);
+        }
+    }
+
+    /**
+     * Truncate the journal file.
+     * @param size New size, in bytes
+     * @throws IOException If fails
+     */
+    private void truncate(final long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(
+            this.path,
+            StandardOpenOption.WRITE
+        )) {
+            channel.truncate(size);
+            channel.force(false);
+        }
+    }
+}
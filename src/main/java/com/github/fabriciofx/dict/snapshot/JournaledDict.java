@@ -0,0 +1,137 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.snapshot;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictEnvelope;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * JournaledDict.
+ *
+ * <p>Dict persisted as a {@link Snapshot} plus a {@link Journal} of the
+ * entries put since it was saved. On first use, the snapshot is loaded and
+ * the journal replayed over it. Each {@link #with(String, Object)} is
+ * appended to the journal before the new dict is returned, so it survives a
+ * crash. When the journal grows past a limit, or when {@link #compact()} is
+ * called, the dict is saved as the new snapshot and the journal cleared.
+ * The journal holds a single line of changes, so keep using the latest dict.
+ *
+ * @since 0.0.42
+ */
+public final class JournaledDict extends DictEnvelope {
+    /**
+     * Default size of the journal that triggers a compaction, in bytes.
+     */
+    private static final long LIMIT = 64L * 1024 * 1024;
+
+    /**
+     * Dict.
+     */
+    private final Unchecked<Dict> origin;
+
+    /**
+     * Snapshot.
+     */
+    private final Snapshot snapshot;
+
+    /**
+     * Journal.
+     */
+    private final Journal journal;
+
+    /**
+     * Size of the journal that triggers a compaction, in bytes.
+     */
+    private final long limit;
+
+    /**
+     * Ctor.
+     * @param snapshot Snapshot
+     * @param journal Journal of the entries put since the snapshot
+     */
+    public JournaledDict(final Snapshot snapshot, final Journal journal) {
+        this(snapshot, journal, JournaledDict.LIMIT);
+    }
+
+    /**
+     * Ctor.
+     * @param snapshot Snapshot
+     * @param journal Journal of the entries put since the snapshot
+     * @param limit Size of the journal that triggers a compaction, in bytes
+     */
+    public JournaledDict(
+        final Snapshot snapshot,
+        final Journal journal,
+        final long limit
+    ) {
+        this(
+            new Unchecked<>(
+                new Synced<>(
+                    new Sticky<>(() -> journal.replay(snapshot.load()))
+                )
+            ),
+            snapshot,
+            journal,
+            limit
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param origin Dict
+     * @param snapshot Snapshot
+     * @param journal Journal of the entries put since the snapshot
+     * @param limit Size of the journal that triggers a compaction, in bytes
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private JournaledDict(
+        final Unchecked<Dict> origin,
+        final Snapshot snapshot,
+        final Journal journal,
+        final long limit
+    ) {
+        super(origin);
+        this.origin = origin;
+        this.snapshot = snapshot;
+        this.journal = journal;
+        this.limit = limit;
+    }
+
+    @Override
+    public Dict with(final String key, final Object value) {
+        final Dict dict = this.origin.value().with(key, value);
+        final JournaledDict next = new JournaledDict(
+            new Unchecked<>(() -> dict),
+            this.snapshot,
+            this.journal,
+            this.limit
+        );
+        try {
+            this.journal.append(key, value);
+            if (this.journal.size() > this.limit) {
+                next.compact();
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return next;
+    }
+
+    /**
+     * Save the dict as the new snapshot and clear the journal. If a crash
+     * happens in between, replaying the journal over the new snapshot puts
+     * the same entries again, so nothing is lost.
+     * @throws IOException If fails
+     */
+    public void compact() throws IOException {
+        this.snapshot.save(this.origin.value());
+        this.journal.clear();
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.snapshot;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.github.fabriciofx.dict.base.DictEnvelope;
+import com.github.fabriciofx.dict.base.DictOf;
+import com.github.fabriciofx.dict.json.DictToJson;
+import java.nio.file.Path;
+
+/**
+ * MappedDict.
+ *
+ * <p>Dict read straight from a memory mapped {@link Snapshot} file, so
+ * opening it costs only a checksum pass and each value is decoded when it
+ * is read. The file is mapped and verified on first use, in segments of at
+ * most 1 GiB, so its size is not limited by the 2 GiB of a single mapping.
+ * {@link #with(String, Object)} loads all the entries into a new
+ * {@link DictOf}.
+ *
+ * @since 0.0.42
+ */
+@JsonSerialize(using = DictToJson.class)
+public final class MappedDict extends DictEnvelope {
+    /**
+     * Ctor.
+     * @param path Path of the snapshot file
+     */
+    public MappedDict(final Path path) {
+        this(new MappedImage(path));
+    }
+
+    /**
+     * Ctor.
+     * @param image Mapped image of the snapshot
+     */
+    MappedDict(final MappedImage image) {
+        super(new ImageDict(image));
+    }
+}
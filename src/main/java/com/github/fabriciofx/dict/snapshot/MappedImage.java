@@ -0,0 +1,81 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.snapshot;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.cactoos.Scalar;
+
+/**
+ * MappedImage.
+ *
+ * <p>Map a snapshot file into memory, in segments of at most 1 GiB, and
+ * verify it.
+ *
+ * @since 0.0.42
+ */
+final class MappedImage implements Scalar<Image> {
+    /**
+     * Largest segment of the file mapped at once, in bytes.
+     */
+    private static final int SEGMENT = 1 << 30;
+
+    /**
+     * Path of the snapshot file.
+     */
+    private final Path path;
+
+    /**
+     * Largest segment of the file mapped at once, in bytes.
+     */
+    private final int segment;
+
+    /**
+     * Ctor.
+     * @param path Path of the snapshot file
+     */
+    MappedImage(final Path path) {
+        this(path, MappedImage.SEGMENT);
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the snapshot file
+     * @param segment Largest segment of the file mapped at once, in bytes
+     */
+    MappedImage(final Path path, final int segment) {
+        this.path = path;
+        this.segment = segment;
+    }
+
+    @Override
+    public Image value() throws Exception {
+        try (FileChannel channel = FileChannel.open(
+            this.path,
+            StandardOpenOption.READ
+        )) {
+            final long size = channel.size();
+            final List<ByteBuffer> segments = new ArrayList<>(
+                (int) (size / this.segment + 1)
+            );
+            long start = 0;
+            do {
+                segments.add(
+                    channel.map(
+                        FileChannel.MapMode.READ_ONLY,
+                        start,
+                        Math.min(this.segment, size - start)
+                    )
+                );
+                start += this.segment;
+            } while (start < size);
+            return new Image(new Region(segments, this.segment)).verified();
+        }
+    }
+}
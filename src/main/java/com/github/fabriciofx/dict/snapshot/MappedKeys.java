@@ -0,0 +1,49 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.snapshot;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * MappedKeys.
+ *
+ * <p>Keys of an {@link Image}, decoded one by one as they are iterated.
+ *
+ * @since 0.0.42
+ */
+final class MappedKeys extends AbstractSet<String> {
+    /**
+     * Image.
+     */
+    private final Unchecked<Image> image;
+
+    /**
+     * Ctor.
+     * @param image Image
+     */
+    MappedKeys(final Unchecked<Image> image) {
+        super();
+        this.image = image;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        final Image source = this.image.value();
+        return new Records<>(source, source::key);
+    }
+
+    @Override
+    public int size() {
+        return this.image.value().count();
+    }
+
+    @Override
+    public boolean contains(final Object key) {
+        return key instanceof String
+            && this.image.value().find((String) key) >= 0;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.snapshot;
+
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * MappedValues.
+ *
+ * <p>Values of an {@link Image}, decoded one by one as they are iterated.
+ *
+ * @since 0.0.42
+ */
+final class MappedValues extends AbstractCollection<Object> {
+    /**
+     * Image.
+     */
+    private final Unchecked<Image> image;
+
+    /**
+     * Ctor.
+     * @param image Image
+     */
+    MappedValues(final Unchecked<Image> image) {
+        super();
+        this.image = image;
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        final Image source = this.image.value();
+        return new Records<>(source, source::value);
+    }
+
+    @Override
+    public int size() {
+        return this.image.value().count();
+    }
+}
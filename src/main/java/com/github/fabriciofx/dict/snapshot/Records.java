@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.snapshot;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.LongFunction;
+
+/**
+ * Records.
+ *
+ * <p>Iterator over the records of an {@link Image}, in the order they were
+ * saved.
+ *
+ * @param <T> Type of the decoded records
+ * @since 0.0.42
+ */
+final class Records<T> implements Iterator<T> {
+    /**
+     * Image.
+     */
+    private final Image image;
+
+    /**
+     * Decoder of each record, given its offset.
+     */
+    private final LongFunction<T> decoder;
+
+    /**
+     * Offset of the next record.
+     */
+    private long record;
+
+    /**
+     * Ctor.
+     * @param image Image
+     * @param decoder Decoder of each record, given its offset
+     */
+    Records(final Image image, final LongFunction<T> decoder) {
+        this(image, decoder, image.first());
+    }
+
+    /**
+     * Ctor.
+     * @param image Image
+     * @param decoder Decoder of each record, given its offset
+     * @param record Offset of the next record
+     */
+    private Records(
+        final Image image,
+        final LongFunction<T> decoder,
+        final long record
+    ) {
+        this.image = image;
+        this.decoder = decoder;
+        this.record = record;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.record < this.image.end();
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException("No more records");
+        }
+        final T next = this.decoder.apply(this.record);
+        this.record = this.image.next(this.record);
+        return next;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.snapshot;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Region.
+ *
+ * <p>Bytes addressed by long offsets, held in a list of buffers all of the
+ * same size but the last one, so a region is not limited to the 2 GiB of a
+ * single buffer. Reading bytes that cross two buffers copies them into the
+ * heap; any other read is a view of the buffer that holds them.
+ *
+ * @since 0.0.42
+ */
+final class Region {
+    /**
+     * Buffers.
+     */
+    private final List<ByteBuffer> buffers;
+
+    /**
+     * Size of each buffer but the last one, in bytes.
+     */
+    private final int segment;
+
+    /**
+     * Ctor.
+     * @param buffers Buffers
+     * @param segment Size of each buffer but the last one, in bytes
+     */
+    Region(final List<ByteBuffer> buffers, final int segment) {
+        this.buffers = buffers;
+        this.segment = segment;
+    }
+
+    /**
+     * Size of the region.
+     * @return The size, in bytes
+     */
+    long size() {
+        return (long) (this.buffers.size() - 1) * this.segment
+            + this.buffers.get(this.buffers.size() - 1).limit();
+    }
+
+    /**
+     * Read an int.
+     * @param offset Where it starts
+     * @return The int
+     */
+    int getInt(final long offset) {
+        final int start = (int) (offset % this.segment);
+        final int value;
+        if (start + Integer.BYTES <= this.segment) {
+            value = this.buffers.get((int) (offset / this.segment))
+                .getInt(start);
+        } else {
+            value = this.slice(offset, Integer.BYTES).getInt(0);
+        }
+        return value;
+    }
+
+    /**
+     * Read a long.
+     * @param offset Where it starts
+     * @return The long
+     */
+    long getLong(final long offset) {
+        final int start = (int) (offset % this.segment);
+        final long value;
+        if (start + Long.BYTES <= this.segment) {
+            value = this.buffers.get((int) (offset / this.segment))
+                .getLong(start);
+        } else {
+            value = this.slice(offset, Long.BYTES).getLong(0);
+        }
+        return value;
+    }
+
+    /**
+     * Bytes of the region.
+     * @param offset Where they start
+     * @param length How many
+     * @return A buffer with just them, from zero to its limit
+     */
+    ByteBuffer slice(final long offset, final int length) {
+        final int index = (int) (offset / this.segment);
+        final int start = (int) (offset % this.segment);
+        final ByteBuffer slice;
+        if (start + length <= this.segment) {
+            slice = this.buffers.get(index).slice(start, length);
+        } else {
+            slice = ByteBuffer.allocate(length);
+            int buffer = index;
+            int from = start;
+            while (slice.hasRemaining()) {
+                final int count = Math.min(
+                    slice.remaining(),
+                    this.segment - from
+                );
+                slice.put(this.buffers.get(buffer).slice(from, count));
+                ++buffer;
+                from = 0;
+            }
+            slice.flip();
+        }
+        return slice;
+    }
+
+    /**
+     * Update a checksum with the bytes before an offset.
+     * @param crc The checksum
+     * @param end Offset where the bytes end
+     * @return The checksum
+     */
+    CRC32 checksum(final CRC32 crc, final long end) {
+        long left = end;
+        for (final ByteBuffer buffer : this.buffers) {
+            final int count = (int) Math.min(left, buffer.limit());
+            crc.update(buffer.slice(0, count));
+            left -= count;
+        }
+        return crc;
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.snapshot;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import com.github.fabriciofx.dict.binary.Binary;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Snapshot.
+ *
+ * <p>A dict saved to a binary, checksummed file with a hash index, so it can
+ * be loaded back much faster than parsed from JSON, either fully, with
+ * {@link #load()}, or memory mapped, with {@link #mapped()}, reading only
+ * the entries used. Loading streams the file, reading it once to verify
+ * it and once to decode it, and neither way limits the size of the file;
+ * a snapshot holds at most 805,306,368 entries. Saving writes a temporary
+ * file, forces it to disk and moves it over the snapshot atomically, so a
+ * crash never leaves a partial snapshot. A failed save deletes the
+ * temporary file and keeps the previous snapshot.
+ *
+ * @since 0.0.42
+ */
+public final class Snapshot {
+    /**
+     * Maximum amount of entries, three quarters of the largest index.
+     */
+    private static final int MAX_ENTRIES = (1 << 30) / 4 * 3;
+
+    /**
+     * Bytes read at once to verify a snapshot.
+     */
+    private static final int BUFFER = 64 * 1024;
+
+    /**
+     * Path of the snapshot file.
+     */
+    private final Path path;
+
+    /**
+     * Binary codec of the values.
+     */
+    private final Binary binary;
+
+    /**
+     * Ctor.
+     * @param path Path of the snapshot file
+     */
+    public Snapshot(final Path path) {
+        this(path, new Binary());
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the snapshot file
+     * @param binary Binary codec of the values
+     */
+    private Snapshot(final Path path, final Binary binary) {
+        this.path = path;
+        this.binary = binary;
+    }
+
+    /**
+     * Save a dict, replacing the snapshot.
+     * @param dict The dict
+     * @throws IOException If fails
+     */
+    public void save(final Dict dict) throws IOException {
+        final Path temp = this.path.resolveSibling(
+            String.format("%s.tmp", this.path.getFileName())
+        );
+        try {
+            try (FileChannel channel = FileChannel.open(
+                temp,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+            )) {
+                final CRC32 crc = new CRC32();
+                final DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(
+                        new CheckedOutputStream(
+                            Channels.newOutputStream(channel),
+                            crc
+                        )
+                    )
+                );
+                this.write(dict, out);
+                out.flush();
+                out.writeLong(crc.getValue());
+                out.flush();
+                channel.force(true);
+            }
+            Files.move(
+                temp,
+                this.path,
+                StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING
+            );
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Load the whole snapshot into the heap.
+     * @return The dict, empty if there is no snapshot
+     * @throws IOException If fails or the snapshot is corrupted
+     */
+    public Dict load() throws IOException {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        if (Files.exists(this.path)) {
+            try (FileChannel channel = FileChannel.open(
+                this.path,
+                StandardOpenOption.READ
+            )) {
+                final long end = Snapshot.verified(channel);
+                final DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(
+                        Channels.newInputStream(channel.position(Image.HEADER))
+                    )
+                );
+                long offset = Image.HEADER;
+                while (offset < end) {
+                    final int length = in.readInt();
+                    if (length < 0 || offset + Integer.BYTES + length > end) {
+                        throw new IOException("Snapshot is corrupted");
+                    }
+                    final byte[] record = new byte[length];
+                    in.readFully(record);
+                    final ByteBuffer buffer = ByteBuffer.wrap(record);
+                    map.put(
+                        this.binary.text(buffer.duplicate()),
+                        Image.value(this.binary, buffer)
+                    );
+                    offset += Integer.BYTES + length;
+                }
+            }
+        }
+        return new DictOf(map);
+    }
+
+    /**
+     * Map the snapshot into memory, decoding only the entries read.
+     * @return The dict
+     */
+    public Dict mapped() {
+        return new MappedDict(this.path);
+    }
+
+    /**
+     * Write the header, the records, the index and the footer.
+     * @param dict The dict
+     * @param out Where to write
+     * @throws IOException If fails
+     */
+    private void write(final Dict dict, final DataOutputStream out)
+        throws IOException {
+        final int count = dict.count();
+        if (count > Snapshot.MAX_ENTRIES) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Snapshot holds at most %d entries",
+                    Snapshot.MAX_ENTRIES
+                )
+            );
+        }
+        int slots = 2;
+        while (slots * 3L < count * 4L) {
+            slots *= 2;
+        }
+        final long[] offsets = new long[slots];
+        final int[] hashes = new int[slots];
+        final int[] lengths = new int[slots];
+        out.writeInt(Image.MAGIC);
+        out.writeInt(Image.VERSION);
+        long offset = Image.HEADER;
+        for (final Map.Entry<String, Object> entry : dict.entries()) {
+            final String key = entry.getKey();
+            final byte[] record = this.record(key, entry.getValue());
+            out.writeInt(record.length);
+            out.write(record);
+            int slot = Image.spread(key.hashCode()) & slots - 1;
+            while (offsets[slot] != 0) {
+                slot = slot + 1 & slots - 1;
+            }
+            offsets[slot] = offset + 1;
+            hashes[slot] = key.hashCode();
+            lengths[slot] = Integer.BYTES + record.length;
+            offset += Integer.BYTES + record.length;
+        }
+        for (int slot = 0; slot < slots; ++slot) {
+            out.writeLong(offsets[slot]);
+            out.writeInt(hashes[slot]);
+            out.writeInt(lengths[slot]);
+        }
+        out.writeLong(offset);
+        out.writeInt(count);
+        out.writeInt(slots);
+    }
+
+    /**
+     * Check the header and the checksum of a snapshot file, reading it once.
+     * @param channel Channel of the file
+     * @return Offset of the end of the records
+     * @throws IOException If the file is not a valid snapshot
+     */
+    private static long verified(final FileChannel channel)
+        throws IOException {
+        final long size = channel.size();
+        if (size < Image.HEADER + Image.TRAILER) {
+            throw new IOException("Not a dict snapshot");
+        }
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(Snapshot.BUFFER);
+        final CRC32 crc = new CRC32();
+        long position = 0;
+        while (position < size - Long.BYTES) {
+            buffer.clear().limit(
+                (int) Math.min(buffer.capacity(), size - Long.BYTES - position)
+            );
+            Snapshot.fill(channel, buffer, position);
+            if (position == 0) {
+                Image.header(buffer);
+            }
+            crc.update(buffer);
+            position += buffer.limit();
+        }
+        final ByteBuffer trailer = ByteBuffer.allocate(Image.TRAILER);
+        Snapshot.fill(channel, trailer, size - Image.TRAILER);
+        if (crc.getValue() != trailer.getLong(Image.TRAILER - Long.BYTES)) {
+            throw new IOException("Snapshot is corrupted, bad checksum");
+        }
+        return trailer.getLong(0);
+    }
+
+    /**
+     * Fill a buffer, up to its limit, with the bytes of a file.
+     * @param channel Channel of the file
+     * @param buffer The buffer, flipped once filled
+     * @param position Where the bytes start in the file
+     * @throws IOException If fails or the file ends before
+     */
+    private static void fill(
+        final FileChannel channel,
+        final ByteBuffer buffer,
+        final long position
+    ) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Snapshot ended unexpectedly");
+            }
+        }
+        buffer.flip();
+    }
+
+    /**
+     * Encode a record: key length, key and value.
+     * @param key The key
+     * @param value The value
+     * @return The record
+     * @throws IOException If fails
+     */
+    private byte[] record(final String key, final Object value)
+        throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        this.binary.text(key, out);
+        this.binary.write(value, out);
+        return bytes.toByteArray();
+    }
+}
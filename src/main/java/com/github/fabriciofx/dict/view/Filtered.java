@@ -0,0 +1,130 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.view;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.EntriesOf;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.stream.StreamSupport;
+import org.cactoos.BiFunc;
+import org.cactoos.func.UncheckedBiFunc;
+
+/**
+ * Filtered.
+ *
+ * <p>View of a dict with only the entries accepted by a predicate. Nothing
+ * is copied or cached: the predicate is checked each time an entry is read.
+ *
+ * @since 0.0.42
+ */
+public final class Filtered implements Dict {
+    /**
+     * Origin dict.
+     */
+    private final Dict origin;
+
+    /**
+     * Predicate of the accepted keys and values.
+     */
+    private final UncheckedBiFunc<String, Object, Boolean> predicate;
+
+    /**
+     * Ctor.
+     * @param dict Dict to filter
+     * @param predicate Predicate of the accepted keys and values
+     */
+    public Filtered(
+        final Dict dict,
+        final BiFunc<String, Object, Boolean> predicate
+    ) {
+        this.origin = dict;
+        this.predicate = new UncheckedBiFunc<>(predicate);
+    }
+
+    @Override
+    public Set<String> keys() {
+        return new FilteredKeys(
+            this.origin.keys(),
+            key -> this.predicate.apply(
+                key,
+                this.origin.value(key, Object.class)
+            )
+        );
+    }
+
+    @Override
+    public Collection<Object> values() {
+        return new ValuesOf(this);
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entries() {
+        return new EntriesOf(this, this::spliterator);
+    }
+
+    @Override
+    public void forEach(final BiConsumer<String, Object> action) {
+        this.origin.forEach(
+            (key, value) -> {
+                if (this.predicate.apply(key, value)) {
+                    action.accept(key, value);
+                }
+            }
+        );
+    }
+
+    @Override
+    public Spliterator<Map.Entry<String, Object>> spliterator() {
+        return StreamSupport.stream(this.origin.spliterator(), false)
+            .filter(
+                entry -> this.predicate.apply(entry.getKey(), entry.getValue())
+            )
+            .spliterator();
+    }
+
+    @Override
+    public int count() {
+        return (int) StreamSupport.stream(this.spliterator(), false).count();
+    }
+
+    @Override
+    public <T> T value(final String key, final Class<T> type) {
+        final Object value = this.origin.value(key, Object.class);
+        final T accepted;
+        if (this.origin.keys().contains(key)
+            && this.predicate.apply(key, value)) {
+            accepted = type.cast(value);
+        } else {
+            accepted = null;
+        }
+        return accepted;
+    }
+
+    @Override
+    public Dict with(final String key, final Object value) {
+        return new Materialized(this).with(key, value);
+    }
+
+    @Override
+    public String asString() throws Exception {
+        return new Materialized(this).asString();
+    }
+
+    @Override
+    public boolean equals(final Object dict) {
+        return this == dict
+            || dict instanceof Dict
+            && this.entries().equals(Dict.class.cast(dict).entries());
+    }
+
+    @Override
+    public int hashCode() {
+        return this.entries().hashCode();
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.view;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * FilteredKeys.
+ *
+ * <p>Keys of a set accepted by a predicate, checked when iterated.
+ *
+ * @since 0.0.42
+ */
+final class FilteredKeys extends AbstractSet<String> {
+    /**
+     * Keys.
+     */
+    private final Set<String> keys;
+
+    /**
+     * Predicate.
+     */
+    private final Predicate<String> predicate;
+
+    /**
+     * Ctor.
+     * @param keys Keys to filter
+     * @param predicate Predicate of the accepted keys
+     */
+    FilteredKeys(final Set<String> keys, final Predicate<String> predicate) {
+        this.keys = keys;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return this.keys.stream().filter(this.predicate).iterator();
+    }
+
+    @Override
+    public int size() {
+        return (int) this.keys.stream().filter(this.predicate).count();
+    }
+
+    @Override
+    public boolean contains(final Object key) {
+        return this.keys.contains(key)
+            && this.predicate.test(String.class.cast(key));
+    }
+}
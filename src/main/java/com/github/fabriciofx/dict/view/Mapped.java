@@ -0,0 +1,130 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.view;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.EntriesOf;
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.stream.StreamSupport;
+import org.cactoos.BiFunc;
+import org.cactoos.Func;
+import org.cactoos.func.UncheckedBiFunc;
+
+/**
+ * Mapped.
+ *
+ * <p>View of a dict with its values transformed by a function. Nothing is
+ * copied or cached: the function is applied each time a value is read.
+ *
+ * @since 0.0.42
+ */
+public final class Mapped implements Dict {
+    /**
+     * Origin dict.
+     */
+    private final Dict origin;
+
+    /**
+     * Function applied to each key and value.
+     */
+    private final UncheckedBiFunc<String, Object, Object> func;
+
+    /**
+     * Ctor.
+     * @param dict Dict to map the values
+     * @param func Function applied to each value
+     */
+    public Mapped(final Dict dict, final Func<Object, Object> func) {
+        this(dict, (key, value) -> func.apply(value));
+    }
+
+    /**
+     * Ctor.
+     * @param dict Dict to map the values
+     * @param func Function applied to each key and value
+     */
+    public Mapped(final Dict dict, final BiFunc<String, Object, Object> func) {
+        this.origin = dict;
+        this.func = new UncheckedBiFunc<>(func);
+    }
+
+    @Override
+    public Set<String> keys() {
+        return this.origin.keys();
+    }
+
+    @Override
+    public Collection<Object> values() {
+        return new ValuesOf(this);
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entries() {
+        return new EntriesOf(this, this::spliterator);
+    }
+
+    @Override
+    public void forEach(final BiConsumer<String, Object> action) {
+        this.origin.forEach(
+            (key, value) -> action.accept(key, this.func.apply(key, value))
+        );
+    }
+
+    @Override
+    public Spliterator<Map.Entry<String, Object>> spliterator() {
+        return StreamSupport.stream(this.origin.spliterator(), false)
+            .<Map.Entry<String, Object>>map(
+                entry -> new AbstractMap.SimpleImmutableEntry<>(
+                    entry.getKey(),
+                    this.func.apply(entry.getKey(), entry.getValue())
+                )
+            )
+            .spliterator();
+    }
+
+    @Override
+    public int count() {
+        return this.origin.count();
+    }
+
+    @Override
+    public <T> T value(final String key, final Class<T> type) {
+        final Object value = this.origin.value(key, Object.class);
+        final T mapped;
+        if (value == null && !this.origin.keys().contains(key)) {
+            mapped = null;
+        } else {
+            mapped = type.cast(this.func.apply(key, value));
+        }
+        return mapped;
+    }
+
+    @Override
+    public Dict with(final String key, final Object value) {
+        return new Materialized(this).with(key, value);
+    }
+
+    @Override
+    public String asString() throws Exception {
+        return new Materialized(this).asString();
+    }
+
+    @Override
+    public boolean equals(final Object dict) {
+        return this == dict
+            || dict instanceof Dict
+            && this.entries().equals(Dict.class.cast(dict).entries());
+    }
+
+    @Override
+    public int hashCode() {
+        return this.entries().hashCode();
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.view;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictEnvelope;
+import com.github.fabriciofx.dict.base.DictOf;
+import java.util.HashMap;
+import java.util.Map;
+import org.cactoos.scalar.Sticky;
+
+/**
+ * Materialized.
+ *
+ * <p>Copy a dict, usually a chain of views, into a plain {@link DictOf}.
+ * The copy is made once, when the dict is first used, reading each value
+ * of the views a single time.
+ *
+ * @since 0.0.42
+ */
+public final class Materialized extends DictEnvelope {
+    /**
+     * Ctor.
+     * @param dict Dict to copy
+     */
+    public Materialized(final Dict dict) {
+        super(
+            new DictOf(
+                new Sticky<>(
+                    () -> {
+                        final Map<String, Object> map = new HashMap<>();
+                        dict.forEach(map::put);
+                        return map;
+                    }
+                )
+            )
+        );
+    }
+}
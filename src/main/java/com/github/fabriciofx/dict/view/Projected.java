@@ -0,0 +1,129 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.view;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.EntriesOf;
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import org.cactoos.set.SetOf;
+
+/**
+ * Projected.
+ *
+ * <p>View of a dict with only some of its keys. Nothing is copied: the
+ * values are read from the original dict on access.
+ *
+ * @since 0.0.42
+ */
+public final class Projected implements Dict {
+    /**
+     * Origin dict.
+     */
+    private final Dict origin;
+
+    /**
+     * Keys of the projection.
+     */
+    private final Set<String> projection;
+
+    /**
+     * Ctor.
+     * @param dict Dict to project
+     * @param keys Keys of the projection
+     */
+    public Projected(final Dict dict, final String... keys) {
+        this(dict, new SetOf<>(keys));
+    }
+
+    /**
+     * Ctor.
+     * @param dict Dict to project
+     * @param keys Keys of the projection
+     */
+    public Projected(final Dict dict, final Set<String> keys) {
+        this.origin = dict;
+        this.projection = keys;
+    }
+
+    @Override
+    public Set<String> keys() {
+        return new FilteredKeys(
+            this.projection,
+            key -> this.origin.keys().contains(key)
+        );
+    }
+
+    @Override
+    public Collection<Object> values() {
+        return new ValuesOf(this);
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entries() {
+        return new EntriesOf(this, this::spliterator);
+    }
+
+    @Override
+    public void forEach(final BiConsumer<String, Object> action) {
+        for (final String key : this.keys()) {
+            action.accept(key, this.origin.value(key, Object.class));
+        }
+    }
+
+    @Override
+    public Spliterator<Map.Entry<String, Object>> spliterator() {
+        return this.keys().stream()
+            .<Map.Entry<String, Object>>map(
+                key -> new AbstractMap.SimpleImmutableEntry<>(
+                    key,
+                    this.origin.value(key, Object.class)
+                )
+            )
+            .spliterator();
+    }
+
+    @Override
+    public int count() {
+        return this.keys().size();
+    }
+
+    @Override
+    public <T> T value(final String key, final Class<T> type) {
+        final T value;
+        if (this.projection.contains(key)) {
+            value = this.origin.value(key, type);
+        } else {
+            value = null;
+        }
+        return value;
+    }
+
+    @Override
+    public Dict with(final String key, final Object value) {
+        return new Materialized(this).with(key, value);
+    }
+
+    @Override
+    public String asString() throws Exception {
+        return new Materialized(this).asString();
+    }
+
+    @Override
+    public boolean equals(final Object dict) {
+        return this == dict
+            || dict instanceof Dict
+            && this.entries().equals(Dict.class.cast(dict).entries());
+    }
+
+    @Override
+    public int hashCode() {
+        return this.entries().hashCode();
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.view;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.EntriesOf;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.stream.StreamSupport;
+
+/**
+ * Renamed.
+ *
+ * <p>View of a dict with some of its keys renamed. Keys without a new name
+ * are kept as they are, but a key of the original dict that is the new
+ * name of a renamed key is hidden by it. Two keys can't be renamed to the
+ * same name. Nothing is copied: the values are read from the original dict
+ * on access.
+ *
+ * @since 0.0.42
+ */
+public final class Renamed implements Dict {
+    /**
+     * Origin dict.
+     */
+    private final Dict origin;
+
+    /**
+     * New name of each renamed key.
+     */
+    private final Map<String, String> names;
+
+    /**
+     * Original name of each renamed key.
+     */
+    private final Map<String, String> originals;
+
+    /**
+     * Ctor.
+     * @param dict Dict to rename the keys
+     * @param key Original key name
+     * @param name New key name
+     */
+    public Renamed(final Dict dict, final String key, final String name) {
+        this(dict, Collections.singletonMap(key, name));
+    }
+
+    /**
+     * Ctor.
+     * @param dict Dict to rename the keys
+     * @param names New name of each renamed key
+     * @throws IllegalArgumentException If two keys have the same new name
+     */
+    public Renamed(final Dict dict, final Map<String, String> names) {
+        this(dict, names, Renamed.inverse(names));
+    }
+
+    /**
+     * Ctor.
+     * @param dict Dict to rename the keys
+     * @param names New name of each renamed key
+     * @param originals Original name of each renamed key
+     */
+    private Renamed(
+        final Dict dict,
+        final Map<String, String> names,
+        final Map<String, String> originals
+    ) {
+        this.origin = dict;
+        this.names = names;
+        this.originals = originals;
+    }
+
+    @Override
+    public Set<String> keys() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<String> iterator() {
+                return Renamed.this.origin.keys().stream()
+                    .filter(Renamed.this::visible)
+                    .map(key -> Renamed.this.names.getOrDefault(key, key))
+                    .iterator();
+            }
+
+            @Override
+            public int size() {
+                return Renamed.this.count();
+            }
+
+            @Override
+            public boolean contains(final Object key) {
+                final String original = Renamed.this.original(
+                    String.class.cast(key)
+                );
+                return original != null
+                    && Renamed.this.origin.keys().contains(original);
+            }
+        };
+    }
+
+    @Override
+    public Collection<Object> values() {
+        return new ValuesOf(this);
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entries() {
+        return new EntriesOf(this, this::spliterator);
+    }
+
+    @Override
+    public void forEach(final BiConsumer<String, Object> action) {
+        this.origin.forEach(
+            (key, value) -> {
+                if (this.visible(key)) {
+                    action.accept(this.names.getOrDefault(key, key), value);
+                }
+            }
+        );
+    }
+
+    @Override
+    public Spliterator<Map.Entry<String, Object>> spliterator() {
+        return StreamSupport.stream(this.origin.spliterator(), false)
+            .filter(entry -> this.visible(entry.getKey()))
+            .<Map.Entry<String, Object>>map(
+                entry -> new AbstractMap.SimpleImmutableEntry<>(
+                    this.names.getOrDefault(entry.getKey(), entry.getKey()),
+                    entry.getValue()
+                )
+            )
+            .spliterator();
+    }
+
+    @Override
+    public int count() {
+        int count = this.origin.count();
+        for (final String name : this.originals.keySet()) {
+            if (!this.visible(name) && this.origin.keys().contains(name)) {
+                --count;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public <T> T value(final String key, final Class<T> type) {
+        final String original = this.original(key);
+        final T value;
+        if (original == null) {
+            value = null;
+        } else {
+            value = this.origin.value(original, type);
+        }
+        return value;
+    }
+
+    @Override
+    public Dict with(final String key, final Object value) {
+        return new Materialized(this).with(key, value);
+    }
+
+    @Override
+    public String asString() throws Exception {
+        return new Materialized(this).asString();
+    }
+
+    @Override
+    public boolean equals(final Object dict) {
+        return this == dict
+            || dict instanceof Dict
+            && this.entries().equals(Dict.class.cast(dict).entries());
+    }
+
+    @Override
+    public int hashCode() {
+        return this.entries().hashCode();
+    }
+
+    /**
+     * Original name of a key.
+     * @param key Key name in this view
+     * @return Key name in the original dict, or null if it was renamed
+     */
+    private String original(final String key) {
+        final String original;
+        if (this.originals.containsKey(key)) {
+            original = this.originals.get(key);
+        } else if (this.names.containsKey(key)) {
+            original = null;
+        } else {
+            original = key;
+        }
+        return original;
+    }
+
+    /**
+     * Check if a key of the original dict is in this view.
+     * @param key Key name in the original dict
+     * @return False if it is hidden by a key renamed to its name
+     */
+    private boolean visible(final String key) {
+        return this.names.containsKey(key) || !this.originals.containsKey(key);
+    }
+
+    /**
+     * Invert the new names.
+     * @param names New name of each renamed key
+     * @return Original name of each renamed key
+     * @throws IllegalArgumentException If two keys have the same new name
+     */
+    private static Map<String, String> inverse(
+        final Map<String, String> names
+    ) {
+        final Map<String, String> originals = new HashMap<>(names.size() * 2);
+        for (final Map.Entry<String, String> entry : names.entrySet()) {
+            final String other = originals.put(
+                entry.getValue(),
+                entry.getKey()
+            );
+            if (other != null) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Keys '%s' and '%s' can't both be renamed to '%s'",
+                        other,
+                        entry.getKey(),
+                        entry.getValue()
+                    )
+                );
+            }
+        }
+        return originals;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.view;
+
+import com.github.fabriciofx.dict.Dict;
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * ValuesOf.
+ *
+ * <p>Values of a dict, read from its entries when iterated.
+ *
+ * @since 0.0.42
+ */
+final class ValuesOf extends AbstractCollection<Object> {
+    /**
+     * Dict.
+     */
+    private final Dict dict;
+
+    /**
+     * Ctor.
+     * @param dict Dict to read the values from
+     */
+    ValuesOf(final Dict dict) {
+        this.dict = dict;
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return this.dict.entries().stream()
+            .map(Map.Entry::getValue)
+            .iterator();
+    }
+
+    @Override
+    public int size() {
+        return this.dict.count();
+    }
+}
@@ -5,21 +5,37 @@
 package com.github.fabriciofx.dict.xml;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.dataformat.xml.XmlMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.jfr.WrittenText;
+import com.github.fabriciofx.dict.json.DictToJson;
+import java.util.regex.Pattern;
 import org.cactoos.Text;
 
 /**
  * DictAsXml.
  *
- * Convert a dict in XML.
+ * Convert a dict in XML. The dict is written straight to XML, as
+ * {@link XmlDictMapper} writes it, and its writing is recorded once.
  *
  * @since 0.0.1
  */
 @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
 public final class DictAsXml implements Text {
+    /**
+     * Writer shared by all dicts to write them as XML. The writing is
+     * recorded by {@link WrittenText}, not by {@link DictToJson}.
+     */
+    private static final ObjectWriter WRITER = new XmlDictMapper().writer()
+        .withRootName("dict")
+        .withAttribute(DictToJson.RECORDED, Boolean.TRUE);
+
+    /**
+     * Root element written by Jackson, to be removed.
+     */
+    private static final Pattern ROOT =
+        Pattern.compile("^<dict/>$|^<dict>|</dict>$");
+
     /**
      * Dict.
      */
@@ -35,14 +51,20 @@ public final class DictAsXml implements Text {
 
     @Override
     public String asString() throws Exception {
-        final ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        final XmlMapper xml = new XmlMapper();
-        xml.registerModule(new JavaTimeModule());
+        return new WrittenText(this::xml, "DictAsXml", this.origin)
+            .asString();
+    }
+
+    /**
+     * Write the dict as XML.
+     * @return The XML
+     * @throws Exception If fails
+     */
+    private String xml() throws Exception {
         try {
-            return xml.writeValueAsString(
-                mapper.readTree(this.origin.asString())
-            ).replaceAll("^<ObjectNode>|</ObjectNode>$", "");
+            return DictAsXml.ROOT.matcher(
+                DictAsXml.WRITER.writeValueAsString(this.origin)
+            ).replaceAll("");
         } catch (final JsonProcessingException ex) {
             throw new Exception(ex);
         }
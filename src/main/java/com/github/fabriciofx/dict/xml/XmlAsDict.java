@@ -0,0 +1,51 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.xml;
+
+import com.github.fabriciofx.dict.base.DictEnvelope;
+import com.github.fabriciofx.dict.base.DictOf;
+import com.github.fabriciofx.dict.json.Limits;
+import org.cactoos.Input;
+import org.cactoos.io.InputOf;
+import org.cactoos.scalar.Sticky;
+
+/**
+ * XmlAsDict.
+ *
+ * <p>Convert a XML document in dict: the children of its root element
+ * become the entries of the dict. It is the reverse of {@link DictAsXml}
+ * once its fragment is enclosed in a root element. The XML is read once,
+ * when the dict is first used, straight from its StAX events without any
+ * intermediary tree or JSON text, and checked against its {@link Limits}.
+ * As XML has no types, leaf values are always strings.
+ *
+ * @since 0.0.42
+ */
+public final class XmlAsDict extends DictEnvelope {
+    /**
+     * Ctor.
+     * @param xml XML document to convert in dict
+     */
+    public XmlAsDict(final String xml) {
+        this(new InputOf(xml));
+    }
+
+    /**
+     * Ctor.
+     * @param input XML document to convert in dict
+     */
+    public XmlAsDict(final Input input) {
+        this(input, new Limits());
+    }
+
+    /**
+     * Ctor.
+     * @param input XML document to convert in dict
+     * @param limits Limits of the document
+     */
+    public XmlAsDict(final Input input, final Limits limits) {
+        super(new DictOf(new Sticky<>(new XmlAsMap(input, limits))));
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.xml;
+
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
+import com.github.fabriciofx.dict.base.DictOf;
+import com.github.fabriciofx.dict.json.Limits;
+import com.github.fabriciofx.dict.json.Walk;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+import org.cactoos.Input;
+import org.cactoos.Scalar;
+
+/**
+ * XmlAsMap.
+ *
+ * <p>Read a XML document into a map in a single pass over its StAX events.
+ * The children of the root element become the entries of the map, whatever
+ * the root is named. Elements with children or attributes become nested
+ * dicts, elements with only text become strings and repeated elements
+ * become lists. Attributes become entries of the dict of their element and
+ * the text mixed with children or attributes becomes the entry with an
+ * empty key, as Jackson does; whitespace between elements is ignored. DTDs
+ * and external entities are not supported. The document is checked against
+ * its {@link Limits} while it is read: each element is a level of nesting,
+ * each element and attribute name is a key, and the length of the document
+ * is counted in chars.
+ *
+ * @since 0.0.42
+ */
+final class XmlAsMap implements Scalar<Map<String, Object>> {
+    /**
+     * Factory of the readers, shared by all documents.
+     */
+    private static final XMLInputFactory FACTORY = XmlAsMap.factory();
+
+    /**
+     * Input.
+     */
+    private final Input input;
+
+    /**
+     * Limits.
+     */
+    private final Limits limits;
+
+    /**
+     * Ctor.
+     * @param input XML document
+     * @param limits Limits of the document
+     */
+    XmlAsMap(final Input input, final Limits limits) {
+        this.input = input;
+        this.limits = limits;
+    }
+
+    @Override
+    public Map<String, Object> value() throws Exception {
+        final XMLStreamReader reader = XmlAsMap.FACTORY.createXMLStreamReader(
+            this.input.stream()
+        );
+        final Deque<Map<String, Object>> maps = new ArrayDeque<>();
+        final Deque<StringBuilder> texts = new ArrayDeque<>();
+        final Walk walk = this.limits.walk(
+            () -> reader.getLocation().getCharacterOffset()
+        );
+        Map<String, Object> root = Collections.emptyMap();
+        try {
+            while (reader.hasNext()) {
+                final int event = reader.next();
+                walk.value();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    walk.enter();
+                    walk.key(reader.getLocalName());
+                    maps.push(XmlAsMap.attributes(reader, walk));
+                    texts.push(new StringBuilder());
+                } else if (event == XMLStreamConstants.CHARACTERS
+                    || event == XMLStreamConstants.CDATA
+                    || event == XMLStreamConstants.SPACE) {
+                    if (!texts.isEmpty()) {
+                        texts.element().append(
+                            reader.getTextCharacters(),
+                            reader.getTextStart(),
+                            reader.getTextLength()
+                        );
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    walk.leave();
+                    final Map<String, Object> map = maps.pop();
+                    final String text = texts.pop().toString();
+                    walk.text(text);
+                    if (!text.isBlank()
+                        && (!map.isEmpty() || maps.isEmpty())) {
+                        map.put("", text);
+                    }
+                    if (maps.isEmpty()) {
+                        root = map;
+                    } else if (map.isEmpty()) {
+                        XmlAsMap.put(
+                            maps.element(),
+                            reader.getLocalName(),
+                            text
+                        );
+                    } else {
+                        XmlAsMap.put(
+                            maps.element(),
+                            reader.getLocalName(),
+                            new DictOf(map)
+                        );
+                    }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return root;
+    }
+
+    /**
+     * Read the attributes of the current element.
+     * @param reader Reader at the start of an element
+     * @param walk Walk over the document
+     * @return A map with the attributes
+     * @throws StreamConstraintsException If an attribute is over a limit
+     */
+    private static Map<String, Object> attributes(
+        final XMLStreamReader reader,
+        final Walk walk
+    ) throws StreamConstraintsException {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        for (int idx = 0; idx < reader.getAttributeCount(); ++idx) {
+            walk.key(reader.getAttributeLocalName(idx));
+            walk.text(reader.getAttributeValue(idx));
+            map.put(
+                reader.getAttributeLocalName(idx),
+                reader.getAttributeValue(idx)
+            );
+        }
+        return map;
+    }
+
+    /**
+     * Build the factory of the readers, with DTDs and external entities
+     * disabled.
+     * @return The factory
+     */
+    private static XMLInputFactory factory() {
+        final XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(
+            XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES,
+            false
+        );
+        return factory;
+    }
+
+    /**
+     * Put a value in a map, turning repeated keys into a list.
+     * @param map The map
+     * @param key The key
+     * @param value The value
+     */
+    @SuppressWarnings("unchecked")
+    private static void put(
+        final Map<String, Object> map,
+        final String key,
+        final Object value
+    ) {
+        final Object previous = map.get(key);
+        if (previous == null) {
+            map.put(key, value);
+        } else if (previous instanceof List) {
+            ((List<Object>) previous).add(value);
+        } else {
+            final List<Object> list = new ArrayList<>(2);
+            list.add(previous);
+            list.add(value);
+            map.put(key, list);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.xml;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.xml.XmlFactory;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.codec.Codecs;
+import com.github.fabriciofx.dict.json.DictMapper;
+import com.github.fabriciofx.dict.json.DictToJson;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+
+/**
+ * XmlDictMapper.
+ *
+ * <p>XML mapper that writes dicts straight to its generators, with their
+ * values written with the same codecs as {@link DictMapper}, with no JSON
+ * text or tree in the middle. Its generators accept many root elements,
+ * one after the other, so a single generator can write many dicts. It is
+ * thread safe and meant to be created once and shared, since building a
+ * mapper is much more expensive than using it.
+ *
+ * @since 0.0.42
+ */
+public final class XmlDictMapper extends XmlMapper {
+    /**
+     * Woodstox property that checks the output has a single root element.
+     */
+    private static final String STRUCTURE =
+        "com.ctc.wstx.outputValidateStructure";
+
+    /**
+     * Serial version UID.
+     */
+    private static final long serialVersionUID = 4817032749418655291L;
+
+    /**
+     * Ctor.
+     */
+    public XmlDictMapper() {
+        this(DictMapper.CODECS);
+    }
+
+    /**
+     * Ctor.
+     * @param codecs Codecs used to write the values
+     */
+    public XmlDictMapper(final Codecs codecs) {
+        super(
+            new XmlFactory(
+                XMLInputFactory.newFactory(),
+                XmlDictMapper.output()
+            )
+        );
+        this.registerModule(new JavaTimeModule());
+        this.registerModule(codecs.module());
+        this.registerModule(
+            new SimpleModule("dict").addSerializer(Dict.class, new DictToJson())
+        );
+    }
+
+    /**
+     * Factory of XML writers that accept many root elements.
+     * @return The factory
+     */
+    private static XMLOutputFactory output() {
+        final XMLOutputFactory output = XMLOutputFactory.newFactory();
+        if (output.isPropertySupported(XmlDictMapper.STRUCTURE)) {
+            output.setProperty(XmlDictMapper.STRUCTURE, Boolean.FALSE);
+        }
+        return output;
+    }
+}
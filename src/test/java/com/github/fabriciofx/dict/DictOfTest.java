@@ -5,10 +5,14 @@
 package com.github.fabriciofx.dict;
 
 import com.github.fabriciofx.dict.base.DictOf;
+import com.github.fabriciofx.dict.view.Projected;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.StreamSupport;
 import org.cactoos.list.ListOf;
 import org.cactoos.set.SetOf;
 import org.hamcrest.core.IsEqual;
@@ -285,6 +289,30 @@ final class DictOfTest {
         ).affirm();
     }
 
+    @Test
+    void checksEqualsAcrossImplementations() {
+        final Dict dict = new DictOf()
+            .with("1", "one")
+            .with("2", "two");
+        final Dict view = new Projected(
+            new DictOf()
+                .with("1", "one")
+                .with("2", "two")
+                .with("3", "three"),
+            "1",
+            "2"
+        );
+        new Assertion<>(
+            "must be equal both ways, with the same hash code",
+            List.of(
+                dict.equals(view),
+                view.equals(dict),
+                dict.hashCode() == view.hashCode()
+            ),
+            new IsEqual<>(List.of(true, true, true))
+        ).affirm();
+    }
+
     @Test
     void checksUnorderedAndComposed() {
         final Dict first = new DictOf()
@@ -494,4 +522,31 @@ final class DictOfTest {
             )
         ).affirm();
     }
+
+    @Test
+    void visitsEachEntry() {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        new DictOf("{\"name\":\"Samuel Rosa\",\"band\":\"Skank\"}")
+            .forEach(map::put);
+        new Assertion<>(
+            "must visit each key and value once",
+            map,
+            new IsEqual<>(Map.of("name", "Samuel Rosa", "band", "Skank"))
+        ).affirm();
+    }
+
+    @Test
+    void streamsEntriesInParallel() {
+        Dict dict = new DictOf();
+        for (int idx = 0; idx < 1000; ++idx) {
+            dict = dict.with(String.format("key-%d", idx), idx);
+        }
+        new Assertion<>(
+            "must stream all the entries in parallel",
+            StreamSupport.stream(dict.spliterator(), true)
+                .mapToInt(entry -> (Integer) entry.getValue())
+                .sum(),
+            new IsEqual<>(499_500)
+        ).affirm();
+    }
 }
@@ -0,0 +1,99 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict;
+
+import com.github.fabriciofx.dict.base.DictOf;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for the default methods of {@link Dict}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class DictTest {
+    @Test
+    void readsEntriesByKeys() {
+        final Dict origin = new DictOf().with("one", 1).with("two", "Two");
+        final Dict dict = new DictTest.Keyed(origin);
+        final Map<String, Object> visited = new HashMap<>();
+        dict.forEach(visited::put);
+        new Assertion<>(
+            "must visit each key and value",
+            visited,
+            new IsEqual<>(Map.of("one", 1, "two", "Two"))
+        ).affirm();
+        new Assertion<>(
+            "must have the entries of its keys and values",
+            dict.entries(),
+            new IsEqual<>(origin.entries())
+        ).affirm();
+        new Assertion<>(
+            "must stream the entries in parallel",
+            StreamSupport.stream(dict.spliterator(), true).collect(
+                Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)
+            ),
+            new IsEqual<>(visited)
+        ).affirm();
+    }
+
+    /**
+     * Dict that implements only the abstract methods.
+     *
+     * @since 0.0.42
+     */
+    private static final class Keyed implements Dict {
+        /**
+         * Origin.
+         */
+        private final Dict origin;
+
+        /**
+         * Ctor.
+         * @param origin Origin
+         */
+        Keyed(final Dict origin) {
+            this.origin = origin;
+        }
+
+        @Override
+        public Set<String> keys() {
+            return this.origin.keys();
+        }
+
+        @Override
+        public Collection<Object> values() {
+            return this.origin.values();
+        }
+
+        @Override
+        public int count() {
+            return this.origin.count();
+        }
+
+        @Override
+        public <T> T value(final String key, final Class<T> type) {
+            return this.origin.value(key, type);
+        }
+
+        @Override
+        public Dict with(final String key, final Object value) {
+            return new DictTest.Keyed(this.origin.with(key, value));
+        }
+
+        @Override
+        public String asString() throws Exception {
+            return this.origin.asString();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.aggregate;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import java.util.List;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Grouped}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class GroupedTest {
+    @Test
+    void groupsInParallel() {
+        new Assertion<>(
+            "must group an iterable in parallel",
+            new Grouped(
+                List.<Dict>of(
+                    new DictOf().with("k", "a").with("v", 1.5),
+                    new DictOf().with("k", "a").with("v", 2.5)
+                ),
+                new Grouping("k", new Average("v", "mean")),
+                true
+            ).iterator().next(),
+            new IsEqual<>(new DictOf().with("k", "a").with("mean", 2.0))
+        ).affirm();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.aggregate;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Matches;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Grouping}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class GroupingTest {
+    @Test
+    void groupsByOneKey() {
+        new Assertion<>(
+            "must sum, count and average each group",
+            new HashSet<>(
+                List.of(
+                    new DictOf().with("country", "br").with("total", 10),
+                    new DictOf().with("country", "pt").with("total", 5),
+                    new DictOf().with("country", "br").with("total", 20)
+                ).stream().collect(
+                    new Grouping(
+                        "country",
+                        new Sum("total"),
+                        new Count(),
+                        new Average("total")
+                    )
+                )
+            ),
+            new IsEqual<>(
+                Set.of(
+                    new DictOf()
+                        .with("country", "br")
+                        .with("sum(total)", 30L)
+                        .with("count", 2L)
+                        .with("average(total)", 15.0),
+                    new DictOf()
+                        .with("country", "pt")
+                        .with("sum(total)", 5L)
+                        .with("count", 1L)
+                        .with("average(total)", 5.0)
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void groupsByManyKeys() {
+        new Assertion<>(
+            "must group by the values of all the keys",
+            new HashSet<>(
+                List.of(
+                    new DictOf().with("a", 1).with("b", "x"),
+                    new DictOf().with("a", 1).with("b", "y"),
+                    new DictOf().with("a", 1).with("b", "x"),
+                    new DictOf().with("a", 2)
+                ).stream().collect(
+                    new Grouping(List.of("a", "b"), new Count("n"))
+                )
+            ),
+            new IsEqual<>(
+                Set.of(
+                    new DictOf().with("a", 1).with("b", "x").with("n", 2L),
+                    new DictOf().with("a", 1).with("b", "y").with("n", 1L),
+                    new DictOf().with("a", 2).with("b", null).with("n", 1L)
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void mergesParallelPartials() {
+        final List<Dict> dicts = IntStream.range(0, 100_000)
+            .mapToObj(idx -> new DictOf().with("mod", idx % 7).with("v", idx))
+            .collect(Collectors.toList());
+        final Grouping grouping = new Grouping(
+            "mod",
+            new Sum("v"),
+            new Count(),
+            new Average("v")
+        );
+        new Assertion<>(
+            "must give the same groups in parallel",
+            new HashSet<>(dicts.parallelStream().collect(grouping)),
+            new IsEqual<>(new HashSet<>(dicts.stream().collect(grouping)))
+        ).affirm();
+    }
+
+    @Test
+    void rejectsNonNumbers() {
+        new Assertion<>(
+            "must reject a value that is not a number",
+            new Throws<>(IllegalArgumentException.class),
+            new Matches<>(
+                () -> List.<Dict>of(new DictOf().with("k", 1).with("v", "x"))
+                    .stream()
+                    .collect(new Grouping("k", new Sum("v")))
+            )
+        ).affirm();
+    }
+}
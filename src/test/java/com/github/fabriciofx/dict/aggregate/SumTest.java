@@ -0,0 +1,102 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.aggregate;
+
+import com.github.fabriciofx.dict.base.DictOf;
+import java.math.BigInteger;
+import java.util.List;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Sum}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class SumTest {
+    @Test
+    void sumsIntegersAsLong() {
+        final Accumulator sum = new Sum("v").accumulator();
+        sum.add(new DictOf().with("v", 1));
+        sum.add(new DictOf().with("v", 2L));
+        sum.add(new DictOf());
+        new Assertion<>(
+            "must sum integers as a long",
+            sum.value(),
+            new IsEqual<>(3L)
+        ).affirm();
+    }
+
+    @Test
+    void sumsRealsAsDouble() {
+        final Accumulator left = new Sum("v").accumulator();
+        left.add(new DictOf().with("v", 1));
+        final Accumulator right = new Sum("v").accumulator();
+        right.add(new DictOf().with("v", 0.5));
+        left.merge(right);
+        new Assertion<>(
+            "must sum reals as a double",
+            left.value(),
+            new IsEqual<>(1.5)
+        ).affirm();
+    }
+
+    @Test
+    void sumsOverflowAsBigInteger() {
+        final Accumulator left = new Sum("v").accumulator();
+        left.add(new DictOf().with("v", Long.MAX_VALUE));
+        left.add(new DictOf().with("v", Long.MAX_VALUE));
+        final Accumulator right = new Sum("v").accumulator();
+        right.add(new DictOf().with("v", Long.MAX_VALUE));
+        left.merge(right);
+        new Assertion<>(
+            "must sum integers past a long exactly",
+            left.value(),
+            new IsEqual<>(
+                BigInteger.valueOf(Long.MAX_VALUE).multiply(
+                    BigInteger.valueOf(3L)
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void sumsBigIntegersExactly() {
+        final BigInteger big = BigInteger.TWO.pow(80).add(BigInteger.ONE);
+        final Accumulator sum = new Sum("v").accumulator();
+        sum.add(new DictOf().with("v", big));
+        sum.add(new DictOf().with("v", 1));
+        sum.add(new DictOf().with("v", BigInteger.TWO.pow(80).negate()));
+        new Assertion<>(
+            "must sum big integers without rounding them",
+            List.of(
+                new Sum("v").accumulator().value(),
+                sum.value()
+            ),
+            new IsEqual<>(List.of(0L, 2L))
+        ).affirm();
+        sum.add(new DictOf().with("v", big));
+        new Assertion<>(
+            "must give a big integer when the sum doesn't fit a long",
+            sum.value(),
+            new IsEqual<>(big.add(BigInteger.TWO))
+        ).affirm();
+    }
+
+    @Test
+    void sumsBackIntoLong() {
+        final Accumulator sum = new Sum("v").accumulator();
+        sum.add(new DictOf().with("v", Long.MAX_VALUE));
+        sum.add(new DictOf().with("v", 1));
+        sum.add(new DictOf().with("v", -2));
+        new Assertion<>(
+            "must give a long when the sum fits again",
+            sum.value(),
+            new IsEqual<>(Long.MAX_VALUE - 1L)
+        ).affirm();
+    }
+}
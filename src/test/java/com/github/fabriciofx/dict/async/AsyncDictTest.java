@@ -0,0 +1,125 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.async;
+
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import com.github.fabriciofx.dict.codec.Codecs;
+import com.github.fabriciofx.dict.json.Limits;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Matches;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link AsyncDict}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class AsyncDictTest {
+    @Test
+    void parsesChunks() throws Exception {
+        final String json = String.join(
+            "",
+            "{\"name\": \"Ação\", \"born\": \"2025-05-06\", ",
+            "\"address\": {\"number\": 349, \"tags\": [1, 2.5, null]}}"
+        );
+        new Assertion<>(
+            "must parse the JSON split in tiny chunks",
+            AsyncDictTest.parsed(json, 3, new Limits())
+                .get(5, TimeUnit.SECONDS),
+            new IsEqual<>(new DictOf(json))
+        ).affirm();
+    }
+
+    @Test
+    void parsesEmptyInput() throws Exception {
+        new Assertion<>(
+            "must parse no input as an empty dict",
+            AsyncDictTest.parsed("", 1, new Limits())
+                .get(5, TimeUnit.SECONDS)
+                .count(),
+            new IsEqual<>(0)
+        ).affirm();
+    }
+
+    @Test
+    void failsOnTruncatedJson() {
+        new Assertion<>(
+            "must fail on a JSON cut in the middle",
+            new Throws<>(ExecutionException.class),
+            new Matches<>(
+                () -> AsyncDictTest.parsed(
+                    "{\"one\": {\"two\": 2",
+                    4,
+                    new Limits()
+                ).get(5, TimeUnit.SECONDS)
+            )
+        ).affirm();
+    }
+
+    @Test
+    void rejectsObjectOverLimits() {
+        new Assertion<>(
+            "must fail on an object with more keys than the limit",
+            new Throws<>(StreamConstraintsException.class),
+            new Matches<>(
+                () -> {
+                    try {
+                        return AsyncDictTest.parsed(
+                            "{\"one\": 1, \"two\": {\"three\": 3}}",
+                            4,
+                            new Limits(Long.MAX_VALUE, 2, 10, 10)
+                        ).get(5, TimeUnit.SECONDS);
+                    } catch (final ExecutionException ex) {
+                        throw (Exception) ex.getCause();
+                    }
+                }
+            )
+        ).affirm();
+    }
+
+    /**
+     * Parse a JSON published in chunks.
+     * @param json The JSON
+     * @param size Size of each chunk, in bytes
+     * @param limits Limits of the JSON
+     * @return The dict
+     */
+    private static CompletableFuture<Dict> parsed(
+        final String json,
+        final int size,
+        final Limits limits
+    ) {
+        final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        try (SubmissionPublisher<ByteBuffer> publisher =
+            new SubmissionPublisher<>()) {
+            final CompletableFuture<Dict> dict = new AsyncDict(
+                publisher,
+                new Codecs(),
+                limits
+            ).value();
+            for (int start = 0; start < bytes.length; start += size) {
+                publisher.submit(
+                    ByteBuffer.wrap(
+                        bytes,
+                        start,
+                        Math.min(size, bytes.length - start)
+                    )
+                );
+            }
+            return dict;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.async;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link PublishedText}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class PublishedTextTest {
+    @Test
+    void publishesChunks() throws Exception {
+        final Dict dict = new DictOf()
+            .with("name", "Ação")
+            .with("address", new DictOf().with("number", 349));
+        final CompletableFuture<String> text = new CompletableFuture<>();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new PublishedText(new AsyncText(dict), 5).subscribe(
+            new Flow.Subscriber<ByteBuffer>() {
+                private Flow.Subscription subscription;
+
+                @Override
+                public void onSubscribe(final Flow.Subscription sub) {
+                    this.subscription = sub;
+                    sub.request(1L);
+                }
+
+                @Override
+                public void onNext(final ByteBuffer chunk) {
+                    bytes.write(
+                        chunk.array(),
+                        chunk.arrayOffset(),
+                        chunk.remaining()
+                    );
+                    this.subscription.request(1L);
+                }
+
+                @Override
+                public void onError(final Throwable error) {
+                    text.completeExceptionally(error);
+                }
+
+                @Override
+                public void onComplete() {
+                    text.complete(bytes.toString(StandardCharsets.UTF_8));
+                }
+            }
+        );
+        new Assertion<>(
+            "must publish the whole text in chunks",
+            text.get(5, TimeUnit.SECONDS),
+            new IsEqual<>(dict.asString())
+        ).affirm();
+    }
+
+    @Test
+    void roundTripsDict() throws Exception {
+        final Dict dict = new DictOf().with("one", 1).with("two", "Two");
+        new Assertion<>(
+            "must parse back the published dict",
+            new AsyncDict(new PublishedText(dict)).value()
+                .get(5, TimeUnit.SECONDS),
+            new IsEqual<>(dict)
+        ).affirm();
+    }
+}
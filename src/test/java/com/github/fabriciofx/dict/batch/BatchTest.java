@@ -0,0 +1,87 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.batch;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Batch}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class BatchTest {
+    @Test
+    void writesNdjsonInOrder() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new Batch(
+            IntStream.range(0, 5000)
+                .mapToObj(idx -> (Dict) new DictOf().with("id", idx)),
+            new Ndjson()
+        ).write(output);
+        new Assertion<>(
+            "must write one dict per line, in order",
+            output.toString(StandardCharsets.UTF_8),
+            new IsEqual<>(
+                IntStream.range(0, 5000)
+                    .mapToObj(idx -> String.format("{\"id\":%d}\n", idx))
+                    .collect(Collectors.joining())
+            )
+        ).affirm();
+    }
+
+    @Test
+    void writesJsonArray() throws Exception {
+        final List<Dict> dicts = List.of(
+            new DictOf().with("day", LocalDate.of(2025, 5, 6)),
+            new DictOf().with("one", new DictOf().with("two", 2))
+        );
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new Batch(dicts, new JsonArray(), 2).write(output);
+        new Assertion<>(
+            "must write a JSON array of the dicts",
+            output.toString(StandardCharsets.UTF_8),
+            new IsEqual<>(
+                String.format(
+                    "[%s,%s]",
+                    dicts.get(0).asString(),
+                    dicts.get(1).asString()
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void writesEmptyJsonArray() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new Batch(List.of(), new JsonArray(), 1).write(output);
+        new Assertion<>(
+            "must write an empty JSON array",
+            output.toString(StandardCharsets.UTF_8),
+            new IsEqual<>("[]")
+        ).affirm();
+    }
+
+    @Test
+    void writesEmptyNdjson() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new Batch(List.of(), new Ndjson(), 1).write(output);
+        new Assertion<>(
+            "must write nothing for no dicts in NDJSON",
+            output.size(),
+            new IsEqual<>(0)
+        ).affirm();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.batch;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import com.github.fabriciofx.dict.xml.DictAsXml;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link XmlDocument}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class XmlDocumentTest {
+    @Test
+    void writesRootElement() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new Batch(
+            List.of(
+                new DictOf().with("name", "Branco Mello"),
+                new DictOf().with("name", "Sérgio Britto")
+            ),
+            new XmlDocument("band", "member"),
+            2
+        ).write(output);
+        new Assertion<>(
+            "must write an XML document with a root element",
+            output.toString(StandardCharsets.UTF_8),
+            new IsEqual<>(
+                String.join(
+                    "",
+                    "<band><member><name>Branco Mello</name></member>",
+                    "<member><name>Sérgio Britto</name></member></band>"
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void writesAsDictAsXml() throws Exception {
+        final Dict dict = new DictOf()
+            .with("name", "Titãs")
+            .with("formed", LocalDate.of(1982, 1, 1))
+            .with(
+                "members",
+                List.of(
+                    new DictOf().with("name", "Branco Mello").with("age", 63),
+                    new DictOf().with("name", "Sérgio Britto")
+                )
+            )
+            .with("albums", List.of("Cabeça Dinossauro", "Õ Blésq Blom"))
+            .with(
+                "label",
+                new DictOf().with("name", "WEA").with(
+                    "address",
+                    new DictOf().with("city", "Rio de Janeiro")
+                )
+            );
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new Batch(List.of(dict), new XmlDocument("dicts", "dict"), 1)
+            .write(output);
+        new Assertion<>(
+            "must write nested dicts and lists as DictAsXml does",
+            output.toString(StandardCharsets.UTF_8),
+            new IsEqual<>(
+                String.format(
+                    "<dicts><dict>%s</dict></dicts>",
+                    new DictAsXml(dict).asString()
+                )
+            )
+        ).affirm();
+    }
+}
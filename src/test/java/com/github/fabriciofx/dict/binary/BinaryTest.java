@@ -0,0 +1,82 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.binary;
+
+import com.github.fabriciofx.dict.base.DictOf;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Matches;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Binary}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class BinaryTest {
+    @Test
+    void decodesWhatEncodes() {
+        final List<Object> values = Arrays.asList(
+            null,
+            "Ação",
+            true,
+            1,
+            2L,
+            3.14,
+            1.5f,
+            new BigDecimal("12.50"),
+            new BigInteger("123456789012345678901234567890"),
+            LocalDate.of(2025, 5, 6),
+            LocalDateTime.of(2025, 5, 6, 14, 23, 52, 123),
+            Instant.ofEpochSecond(1_746_541_432L, 999),
+            UUID.fromString("123e4567-e89b-12d3-a456-426614174000"),
+            List.of(1, "two")
+        );
+        final Binary binary = new Binary();
+        new Assertion<>(
+            "must decode the values it encodes",
+            binary.value(ByteBuffer.wrap(binary.bytes(values))),
+            new IsEqual<>(values)
+        ).affirm();
+    }
+
+    @Test
+    void decodesNestedDict() {
+        final Binary binary = new Binary();
+        new Assertion<>(
+            "must decode a nested dict",
+            binary.value(
+                ByteBuffer.wrap(
+                    binary.bytes(
+                        new DictOf().with("one", new DictOf().with("two", 2))
+                    )
+                )
+            ),
+            new IsEqual<>(
+                new DictOf().with("one", new DictOf().with("two", 2))
+            )
+        ).affirm();
+    }
+
+    @Test
+    void rejectsUnknownType() {
+        new Assertion<>(
+            "must reject a value it can't encode",
+            new Throws<>(IllegalArgumentException.class),
+            new Matches<>(() -> new Binary().bytes(new Object()))
+        ).affirm();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.codec;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Codecs}.
+ *
+ * @since 0.0.42
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class CodecsTest {
+    @Test
+    void restoresDatesFromJson() throws Exception {
+        final Dict dict = new DictOf()
+            .with("five", LocalDate.of(2025, 5, 6))
+            .with("six", LocalDateTime.of(2025, 5, 6, 14, 23, 52))
+            .with("seven", Instant.parse("2025-05-06T14:23:52.120Z"));
+        new Assertion<>(
+            "must restore dates written in JSON",
+            new DictOf(dict.asString()),
+            new IsEqual<>(dict)
+        ).affirm();
+    }
+
+    @Test
+    void restoresAllTypesFromJson() throws Exception {
+        final Codecs codecs = new Codecs(
+            new LocalDateCodec(),
+            new LocalDateTimeCodec(),
+            new InstantCodec(),
+            new UuidCodec(),
+            new BigDecimalCodec()
+        );
+        final Dict dict = new DictOf()
+            .with("id", UUID.fromString("07e2c7f2-6c61-4f20-a4bc-6022337950b4"))
+            .with("total", new BigDecimal("18331.320"))
+            .with("items", 3);
+        new Assertion<>(
+            "must restore UUID and BigDecimal written in JSON",
+            new DictOf(dict.asString(), codecs),
+            new IsEqual<>(dict)
+        ).affirm();
+    }
+
+    @Test
+    void keepsInvalidDateAsString() {
+        new Assertion<>(
+            "must keep a string with an invalid date as string",
+            new DictOf("{\"date\": \"2025-02-30\"}")
+                .value("date", String.class),
+            new IsEqual<>("2025-02-30")
+        ).affirm();
+    }
+
+    @Test
+    void restoresFractionsOfSecond() throws Exception {
+        final Dict dict = new DictOf()
+            .with("one", LocalDateTime.of(2025, 5, 6, 14, 23, 52, 123_456_789))
+            .with("two", LocalDateTime.of(2025, 5, 6, 14, 23, 52, 100_000_000))
+            .with("three", Instant.parse("2025-05-06T14:23:52.000000001Z"))
+            .with("four", Instant.parse("1970-01-01T00:00:00Z"));
+        new Assertion<>(
+            "must restore dates with fractions of second written in JSON",
+            new DictOf(dict.asString()),
+            new IsEqual<>(dict)
+        ).affirm();
+    }
+
+    @Test
+    void writesFractionsWithoutTrailingZeros() throws Exception {
+        new Assertion<>(
+            "must write a fraction of second without its trailing zeros",
+            new DictOf()
+                .with(
+                    "six",
+                    LocalDateTime.of(2025, 5, 6, 14, 23, 52, 120_000_000)
+                )
+                .asString(),
+            new IsEqual<>("{\"six\":\"2025-05-06 14:23:52.12\"}")
+        ).affirm();
+    }
+
+    @Test
+    void parsesInstantsByHand() {
+        new Assertion<>(
+            "must parse an instant with a fraction of second",
+            new InstantCodec().decode("2024-02-29T23:59:59.5Z"),
+            new IsEqual<>(Instant.parse("2024-02-29T23:59:59.500Z"))
+        ).affirm();
+    }
+}
@@ -0,0 +1,11 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+
+/**
+ * Codec tests.
+ *
+ * @since 0.0.42
+ */
+package com.github.fabriciofx.dict.codec;
@@ -0,0 +1,155 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.index;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Matches;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Indexed}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class IndexedTest {
+    @Test
+    void findsByEquality() {
+        final Dict ana = new DictOf().with("id", 1).with("status", "active");
+        final Dict bia = new DictOf().with("id", 2).with("status", "idle");
+        final Dict cid = new DictOf().with("id", 3).with("status", "active");
+        new Assertion<>(
+            "must find the dicts with the value",
+            new HashSet<>(
+                new Indexed("id", new HashIndex("status"))
+                    .add(ana)
+                    .add(bia)
+                    .add(cid)
+                    .equal("status", "active")
+            ),
+            new IsEqual<>(Set.of(ana, cid))
+        ).affirm();
+    }
+
+    @Test
+    void findsByNestedRange() {
+        final Indexed indexed = new Indexed("id", new SortedIndex("age.years"));
+        for (int idx = 0; idx < 10; ++idx) {
+            indexed.add(
+                new DictOf()
+                    .with("id", idx)
+                    .with("age", new DictOf().with("years", idx * 10))
+            );
+        }
+        new Assertion<>(
+            "must find the dicts in the range, in order",
+            indexed.range("age.years", 20, 50L),
+            new IsEqual<>(
+                List.of(indexed.dict(2), indexed.dict(3), indexed.dict(4))
+            )
+        ).affirm();
+    }
+
+    @Test
+    void updatesIndexesOnReplace() {
+        final Indexed indexed = new Indexed(
+            "id",
+            new HashIndex("status"),
+            new SortedIndex("status")
+        );
+        indexed.add(new DictOf().with("id", "x").with("status", "active"));
+        final Dict idle = new DictOf().with("id", "x").with("status", "idle");
+        indexed.add(idle);
+        new Assertion<>(
+            "must index the replacement only",
+            List.of(
+                indexed.equal("status", "active").size(),
+                indexed.equal("status", "idle").size(),
+                indexed.range("status", "a", "z").size(),
+                indexed.count()
+            ),
+            new IsEqual<>(List.of(0, 1, 1, 1))
+        ).affirm();
+    }
+
+    @Test
+    void updatesIndexesOnRemove() {
+        new Assertion<>(
+            "must unindex a removed dict",
+            new Indexed("id", new HashIndex("status"))
+                .add(new DictOf().with("id", 1).with("status", "active"))
+                .remove(1)
+                .equal("status", "active")
+                .isEmpty(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsRangeWithoutSortedIndex() {
+        new Assertion<>(
+            "must reject a range on a path without a sorted index",
+            new Throws<>(IllegalArgumentException.class),
+            new Matches<>(
+                () -> new Indexed("id", new HashIndex("age"))
+                    .range("age", 1, 2)
+            )
+        ).affirm();
+    }
+
+    @Test
+    void rollsBackRejectedAdd() {
+        final Indexed indexed = new Indexed(
+            "id",
+            new HashIndex("age"),
+            new SortedIndex("age")
+        );
+        indexed.add(new DictOf().with("id", 1).with("age", 5))
+            .add(new DictOf().with("id", 2).with("age", 6));
+        new Assertion<>(
+            "must reject a value the sorted index can not compare",
+            new Throws<>(ClassCastException.class),
+            new Matches<>(
+                () -> indexed.add(new DictOf().with("id", 1).with("age", "x"))
+            )
+        ).affirm();
+        new Assertion<>(
+            "must leave the collection as it was",
+            List.of(
+                indexed.count(),
+                indexed.dict(1).value("age", Integer.class),
+                indexed.equal("age", 5).size(),
+                indexed.equal("age", "x").size(),
+                indexed.range("age", 0, 10).size()
+            ),
+            new IsEqual<>(List.of(2, 5, 1, 0, 2))
+        ).affirm();
+    }
+
+    @Test
+    void findsNumbersOfAnyType() {
+        final Indexed indexed = new Indexed("id", new HashIndex("age"))
+            .add(new DictOf().with("id", 1).with("age", 5))
+            .add(new DictOf().with("id", 2).with("age", 5.0))
+            .add(new DictOf().with("id", 3).with("age", 5.5));
+        new Assertion<>(
+            "must find numbers by their numeric value",
+            List.of(
+                indexed.equal("age", 5L).size(),
+                indexed.equal("age", new BigDecimal("5.00")).size(),
+                indexed.equal("age", 5.5f).size()
+            ),
+            new IsEqual<>(List.of(2, 2, 1))
+        ).affirm();
+    }
+}
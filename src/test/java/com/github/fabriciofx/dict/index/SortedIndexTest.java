@@ -0,0 +1,43 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.index;
+
+import com.github.fabriciofx.dict.base.DictOf;
+import java.math.BigDecimal;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link SortedIndex}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class SortedIndexTest {
+    @Test
+    void comparesNumbersOfDifferentTypes() {
+        final SortedIndex index = new SortedIndex("v");
+        index.add(1, new DictOf().with("v", 5));
+        index.add(2, new DictOf().with("v", 5.5));
+        index.add(3, new DictOf().with("v", new BigDecimal("7")));
+        new Assertion<>(
+            "must order numbers by their value",
+            index.range(5L, 7.0).size(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void givesNothingForEmptyRange() {
+        final SortedIndex index = new SortedIndex("v");
+        index.add(1, new DictOf().with("v", 5));
+        new Assertion<>(
+            "must give nothing for an empty range",
+            index.range(6, 4).isEmpty(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.jfr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fabriciofx.dict.base.DictOf;
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link ParsedMap}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class ParsedMapTest {
+    @Test
+    void recordsParsing() throws Exception {
+        final String json = "{\"one\": 1, \"two\": {\"three\": [3]}}";
+        final List<RecordedEvent> events = new Recorded(
+            ParseEvent.class,
+            () -> new DictOf(json).count()
+        ).value();
+        new Assertion<>(
+            "must record size, keys and depth of the parsing",
+            List.of(
+                events.get(0).getString("source"),
+                events.get(0).getLong("size"),
+                events.get(0).getInt("keys"),
+                events.get(0).getInt("depth")
+            ),
+            new IsEqual<>(List.of("DictOf", (long) json.length(), 2, 3))
+        ).affirm();
+    }
+
+    @Test
+    void recordsDeserialization() throws Exception {
+        final List<RecordedEvent> events = new Recorded(
+            ParseEvent.class,
+            () -> new ObjectMapper().readValue(
+                "{\"one\": 1, \"two\": 2, \"three\": 3}",
+                DictOf.class
+            ).count()
+        ).value();
+        new Assertion<>(
+            "must record the keys of the deserialization",
+            List.of(
+                events.get(0).getString("source"),
+                events.get(0).getInt("keys")
+            ),
+            new IsEqual<>(List.of("JsonToDict", 3))
+        ).affirm();
+    }
+}
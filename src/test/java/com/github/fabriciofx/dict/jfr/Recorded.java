@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.jfr;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+import jdk.jfr.Event;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.cactoos.Scalar;
+
+/**
+ * Recorded.
+ *
+ * <p>Events of a type recorded, with no threshold, while running an action.
+ *
+ * @since 0.0.42
+ */
+final class Recorded implements Scalar<List<RecordedEvent>> {
+    /**
+     * Type of the events.
+     */
+    private final Class<? extends Event> type;
+
+    /**
+     * Action.
+     */
+    private final Callable<?> action;
+
+    /**
+     * Ctor.
+     * @param type Type of the events
+     * @param action Action
+     */
+    Recorded(final Class<? extends Event> type, final Callable<?> action) {
+        this.type = type;
+        this.action = action;
+    }
+
+    @Override
+    public List<RecordedEvent> value() throws Exception {
+        final Path file = Files.createTempFile("dict", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(this.type).withoutThreshold();
+            recording.start();
+            this.action.call();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                .filter(
+                    event -> event.getEventType().getName().equals(
+                        this.type.getAnnotation(Name.class).value()
+                    )
+                ).collect(Collectors.toList());
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
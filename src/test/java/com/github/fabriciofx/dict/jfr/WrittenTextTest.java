@@ -0,0 +1,76 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.jfr;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import com.github.fabriciofx.dict.xml.DictAsXml;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link WrittenText}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class WrittenTextTest {
+    @Test
+    void recordsWriting() throws Exception {
+        final Dict dict = new DictOf().with("one", 1).with("two", 2);
+        final List<RecordedEvent> events = new Recorded(
+            WriteEvent.class,
+            dict::asString
+        ).value();
+        new Assertion<>(
+            "must record size and keys of the writing",
+            List.of(
+                events.get(0).getString("source"),
+                events.get(0).getLong("size"),
+                events.get(0).getInt("keys")
+            ),
+            new IsEqual<>(List.of("DictOf", (long) dict.asString().length(), 2))
+        ).affirm();
+    }
+
+    @Test
+    void recordsNestedWritingOnce() throws Exception {
+        final List<RecordedEvent> events = new Recorded(
+            WriteEvent.class,
+            () -> new DictOf()
+                .with("one", new DictOf().with("two", 2))
+                .asString()
+        ).value();
+        new Assertion<>(
+            "must record the writing of the nested dict within its parent",
+            events.stream()
+                .map(event -> event.getString("source"))
+                .sorted()
+                .collect(Collectors.toList()),
+            new IsEqual<>(List.of("DictOf"))
+        ).affirm();
+    }
+
+    @Test
+    void recordsXmlWritingOnce() throws Exception {
+        final List<RecordedEvent> events = new Recorded(
+            WriteEvent.class,
+            () -> new DictAsXml(
+                new DictOf().with("one", new DictOf().with("two", 2))
+            ).asString()
+        ).value();
+        new Assertion<>(
+            "must record the writing of a XML once",
+            events.stream()
+                .map(event -> event.getString("source"))
+                .collect(Collectors.toList()),
+            new IsEqual<>(List.of("DictAsXml"))
+        ).affirm();
+    }
+}
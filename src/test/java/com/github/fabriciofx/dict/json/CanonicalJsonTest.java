@@ -0,0 +1,73 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.json;
+
+import com.github.fabriciofx.dict.base.DictOf;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Matches;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link CanonicalJson}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class CanonicalJsonTest {
+    @Test
+    void sortsKeysAndNormalizesNumbers() throws Exception {
+        new Assertion<>(
+            "must sort the keys and normalize the numbers",
+            new CanonicalJson(
+                new DictOf()
+                    .with("b", List.of(1.0, new BigDecimal("2.50"), 3L))
+                    .with("a", Map.of("z", 1e21, "y", -0.0))
+                    .with("c", LocalDate.of(2025, 5, 6))
+            ).asString(),
+            new IsEqual<>(
+                String.join(
+                    "",
+                    "{\"a\":{\"y\":0,\"z\":1000000000000000000000},",
+                    "\"b\":[1,2.5,3],\"c\":\"2025-05-06\"}"
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void writesSameTextForSameEntries() throws Exception {
+        new Assertion<>(
+            "must not depend on the order of the entries",
+            new CanonicalJson(
+                new DictOf("{\"x\":1,\"y\":{\"q\":2.0,\"p\":true}}")
+            ).asString(),
+            new IsEqual<>(
+                new CanonicalJson(
+                    new DictOf()
+                        .with("y", new DictOf().with("p", true).with("q", 2))
+                        .with("x", 1L)
+                ).asString()
+            )
+        ).affirm();
+    }
+
+    @Test
+    void rejectsNotANumber() {
+        new Assertion<>(
+            "must reject a number without JSON form",
+            new Throws<>(IllegalArgumentException.class),
+            new Matches<>(
+                () -> new CanonicalJson(new DictOf().with("n", Double.NaN))
+                    .asString()
+            )
+        ).affirm();
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fabriciofx.dict.base.DictOf;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link DictToJson}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class DictToJsonTest {
+    @Test
+    void writesAsJacksonWritesMaps() throws Exception {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("name", "Samuel \"Rosa\"");
+        map.put("age", 58);
+        map.put("fans", 12_000_000_000L);
+        map.put("rate", 9.5);
+        map.put("active", true);
+        map.put("nothing", null);
+        map.put("born", LocalDate.of(1966, 2, 2));
+        map.put("band", Map.of("name", "Skank"));
+        map.put("albums", List.of("Calango", new DictOf().with("year", 1996)));
+        final ObjectMapper mapper = new DictMapper();
+        new Assertion<>(
+            "must write the same JSON as the map serializer",
+            mapper.writeValueAsString(new DictOf(map)),
+            new IsEqual<>(mapper.writeValueAsString(map))
+        ).affirm();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.json;
+
+import com.github.fabriciofx.dict.base.DictOf;
+import com.github.fabriciofx.dict.codec.Codecs;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.cactoos.io.InputOf;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+/**
+ * Test case for {@link JsonDicts}.
+ *
+ * @since 0.0.42
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class JsonDictsTest {
+    @Test
+    void readsJsonLines() {
+        new Assertion<>(
+            "must read one dict per line",
+            new ListOf<>(
+                new JsonDicts(
+                    new InputOf(
+                        """
+                        {"id": 1, "name": "Samuel Rosa"}
+
+                        {"id": 2, "name": "Branco Mello"}
+                        """
+                    )
+                )
+            ),
+            new IsEqual<>(
+                new ListOf<>(
+                    new DictOf().with("id", 1).with("name", "Samuel Rosa"),
+                    new DictOf().with("id", 2).with("name", "Branco Mello")
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void readsJsonArray() {
+        new Assertion<>(
+            "must read one dict per array element",
+            new JsonDicts(
+                new InputOf("[{\"id\": 1}, {\"id\": 2}, {\"id\": 3}]")
+            ).stream().count(),
+            new IsEqual<>(3L)
+        ).affirm();
+    }
+
+    @Test
+    void limitsEachObject() {
+        new Assertion<>(
+            "must limit the length of each object, not of the whole input",
+            new JsonDicts(
+                new InputOf(
+                    IntStream.range(0, 1_000)
+                        .mapToObj(idx -> String.format("{\"id\": %d}", idx))
+                        .collect(Collectors.joining("\n"))
+                ),
+                new Codecs(),
+                new Limits(64, 10, 10, 10)
+            ).stream().count(),
+            new IsEqual<>(1_000L)
+        ).affirm();
+    }
+
+    @Test
+    void closesInputReadPartially() throws Exception {
+        final Closing input = new Closing("{\"id\": 1}\n{\"id\": 2}\n");
+        try (JsonDictsIterator dicts = new JsonDicts(input).iterator()) {
+            dicts.next();
+        }
+        new Assertion<>(
+            "must close the input of an iterator closed before its end",
+            input.closed,
+            new IsTrue()
+        ).affirm();
+    }
+
+    /**
+     * Input stream that knows whether it was closed.
+     *
+     * @since 0.0.42
+     */
+    private static final class Closing extends ByteArrayInputStream {
+        /**
+         * Whether it was closed.
+         */
+        private boolean closed;
+
+        /**
+         * Ctor.
+         * @param text Content
+         */
+        Closing(final String text) {
+            super(text.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() {
+            this.closed = true;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.json;
+
+import com.github.fabriciofx.dict.codec.Codecs;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Matches;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link JsonLines}.
+ *
+ * @since 0.0.42
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class JsonLinesTest {
+    @Test
+    void readsLinesInParallelAndInOrder() throws Exception {
+        final Path file = Files.createTempFile("dicts", ".ndjson");
+        file.toFile().deleteOnExit();
+        Files.writeString(
+            file,
+            IntStream.range(0, 20_000)
+                .mapToObj(idx -> String.format("{\"id\": %d}", idx))
+                .collect(Collectors.joining("\n")),
+            StandardCharsets.UTF_8
+        );
+        new Assertion<>(
+            "must read all lines in parallel keeping their order",
+            new JsonLines(file).stream()
+                .map(dict -> dict.value("id", Integer.class))
+                .collect(Collectors.toList()),
+            new IsEqual<>(
+                IntStream.range(0, 20_000).boxed().collect(Collectors.toList())
+            )
+        ).affirm();
+    }
+
+    @Test
+    void readsLinesAcrossSegments() throws Exception {
+        final Path file = Files.createTempFile("dicts", ".ndjson");
+        file.toFile().deleteOnExit();
+        Files.writeString(
+            file,
+            IntStream.range(0, 5_000)
+                .mapToObj(idx -> String.format("{\"id\": %d}", idx))
+                .collect(Collectors.joining("\n")),
+            StandardCharsets.UTF_8
+        );
+        new Assertion<>(
+            "must read all lines of a file mapped in many segments",
+            new JsonLines(file, new Codecs(), new Limits(), 100).stream()
+                .map(dict -> dict.value("id", Integer.class))
+                .collect(Collectors.toList()),
+            new IsEqual<>(
+                IntStream.range(0, 5_000).boxed().collect(Collectors.toList())
+            )
+        ).affirm();
+    }
+
+    @Test
+    void rejectsLineOverLimits() throws Exception {
+        final Path file = Files.createTempFile("dicts", ".ndjson");
+        file.toFile().deleteOnExit();
+        Files.writeString(
+            file,
+            "{\"a\": 1}\n{\"a\": 1, \"b\": 2, \"c\": 3}\n",
+            StandardCharsets.UTF_8
+        );
+        new Assertion<>(
+            "must reject a line over the limits",
+            new Throws<>(UncheckedIOException.class),
+            new Matches<>(
+                () -> new JsonLines(
+                    file,
+                    new Codecs(),
+                    new Limits(Long.MAX_VALUE, 2, 10, 10)
+                ).stream().count()
+            )
+        ).affirm();
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.json;
+
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import com.github.fabriciofx.dict.codec.Codecs;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+import org.llorllale.cactoos.matchers.Matches;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Limits}.
+ *
+ * @since 0.0.42
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class LimitsTest {
+    @Test
+    void readsDocumentWithinLimits() throws Exception {
+        new Assertion<>(
+            "must read a document within the limits",
+            new JsonAsMap(
+                "{\"a\":{\"b\":[1,2]},\"c\":\"xyz\"}",
+                new Codecs(),
+                new Limits(64, 3, 3, 3)
+            ).value().size(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsTooManyKeys() throws Exception {
+        new Assertion<>(
+            "must reject a document with too many keys",
+            new Throws<>(StreamConstraintsException.class),
+            new Matches<>(
+                () -> new JsonAsMap(
+                    "{\"a\":1,\"b\":{\"c\":2,\"d\":3}}",
+                    new Codecs(),
+                    new Limits(Long.MAX_VALUE, 3, 10, 10)
+                ).value()
+            )
+        ).affirm();
+    }
+
+    @Test
+    void rejectsTooDeepDocument() throws Exception {
+        new Assertion<>(
+            "must reject a document nested too deep",
+            new Throws<>(StreamConstraintsException.class),
+            new Matches<>(
+                () -> new JsonAsMap(
+                    "{\"a\":{\"b\":[[1]]}}",
+                    new Codecs(),
+                    new Limits(Long.MAX_VALUE, 10, 3, 10)
+                ).value()
+            )
+        ).affirm();
+    }
+
+    @Test
+    void rejectsTooLongString() throws Exception {
+        new Assertion<>(
+            "must reject a document with a too long string",
+            new Throws<>(StreamConstraintsException.class),
+            new Matches<>(
+                () -> new JsonAsMap(
+                    "{\"a\":\"abcdef\"}",
+                    new Codecs(),
+                    new Limits(Long.MAX_VALUE, 10, 10, 5)
+                ).value()
+            )
+        ).affirm();
+    }
+
+    @Test
+    void rejectsEndlessDocumentEarly() throws Exception {
+        final Limits limits = new Limits(1024, Integer.MAX_VALUE, 10, 10);
+        final Endless input = new Endless("{\"a\":[", "1,");
+        new Assertion<>(
+            "must reject a document too long",
+            new Throws<>(StreamConstraintsException.class),
+            new Matches<>(
+                () -> new JsonAsMap(
+                    limits.factory().createParser(input),
+                    new Codecs(),
+                    limits
+                ).value()
+            )
+        ).affirm();
+        new Assertion<>(
+            "must stop reading a document too long early",
+            input.read < 16_384L,
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void rejectsEndlessStringEarly() throws Exception {
+        final Limits limits = new Limits(Long.MAX_VALUE, 10, 10, 1024);
+        final Endless input = new Endless("{\"a\":\"", "x");
+        new Assertion<>(
+            "must reject a string too long",
+            new Throws<>(StreamConstraintsException.class),
+            new Matches<>(
+                () -> new JsonAsMap(
+                    limits.factory().createParser(input),
+                    new Codecs(),
+                    limits
+                ).value()
+            )
+        ).affirm();
+        new Assertion<>(
+            "must stop reading a string too long early",
+            input.read < 65_536L,
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void rejectsThroughDictOf() throws Exception {
+        new Assertion<>(
+            "must reject a document over the limits of a dict",
+            new Throws<>(UncheckedIOException.class),
+            new Matches<>(
+                () -> new DictOf(
+                    "{\"a\":1,\"b\":2}",
+                    new Codecs(),
+                    new Limits(Long.MAX_VALUE, 1, 10, 10)
+                ).keys()
+            )
+        ).affirm();
+    }
+
+    @Test
+    void rejectsThroughDeserializer() throws Exception {
+        new Assertion<>(
+            "must reject a document over the limits of the deserializer",
+            new Throws<>(StreamConstraintsException.class),
+            new Matches<>(
+                () -> new ObjectMapper()
+                    .registerModule(
+                        new SimpleModule().addDeserializer(
+                            Dict.class,
+                            new JsonToDict(
+                                new Limits(Long.MAX_VALUE, 10, 2, 10)
+                            )
+                        )
+                    )
+                    .readValue("{\"a\":{\"b\":{\"c\":1}}}", Dict.class)
+            )
+        ).affirm();
+    }
+
+    @Test
+    void parsesWithCodecsOfDeserializer() throws Exception {
+        new Assertion<>(
+            "must restore the values with the codecs of the deserializer",
+            new ObjectMapper()
+                .registerModule(
+                    new SimpleModule().addDeserializer(
+                        Dict.class,
+                        new JsonToDict(new Codecs(List.of()), new Limits())
+                    )
+                )
+                .readValue("{\"born\":\"2025-05-06\"}", Dict.class)
+                .value("born", Object.class),
+            new IsEqual<>("2025-05-06")
+        ).affirm();
+    }
+
+    /**
+     * Endless JSON document, counting the bytes read from it.
+     *
+     * @since 0.0.42
+     */
+    private static final class Endless extends InputStream {
+        /**
+         * Start of the document.
+         */
+        private final byte[] head;
+
+        /**
+         * Part repeated forever after the start.
+         */
+        private final byte[] tail;
+
+        /**
+         * Bytes read so far.
+         */
+        private long read;
+
+        /**
+         * Ctor.
+         * @param head Start of the document
+         * @param tail Part repeated forever after the start
+         */
+        Endless(final String head, final String tail) {
+            super();
+            this.head = head.getBytes(StandardCharsets.UTF_8);
+            this.tail = tail.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public int read() {
+            final int value;
+            if (this.read < this.head.length) {
+                value = this.head[(int) this.read];
+            } else {
+                value = this.tail[
+                    (int) ((this.read - this.head.length) % this.tail.length)
+                ];
+            }
+            ++this.read;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.merge;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import java.util.List;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Merged}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class MergedTest {
+    @Test
+    void mergesNestedDicts() {
+        new Assertion<>(
+            "must merge the layers key by key",
+            new Merged(
+                new DictOf().with(
+                    "server",
+                    new DictOf().with("host", "localhost").with("port", 80)
+                ),
+                new DictOf().with("server", new DictOf().with("port", 8080)),
+                new DictOf().with("debug", true)
+            ),
+            new IsEqual<>(
+                new DictOf()
+                    .with(
+                        "server",
+                        new DictOf()
+                            .with("host", "localhost")
+                            .with("port", 8080)
+                    )
+                    .with("debug", true)
+            )
+        ).affirm();
+    }
+
+    @Test
+    void mergesNestedMapsFromJson() throws Exception {
+        new Assertion<>(
+            "must merge the nested objects of parsed dicts",
+            new Merged(
+                new DictOf("{\"db\":{\"user\":\"sa\",\"pool\":{\"max\":5}}}"),
+                new DictOf("{\"db\":{\"pool\":{\"max\":10}}}")
+            ).asString(),
+            new IsEqual<>("{\"db\":{\"user\":\"sa\",\"pool\":{\"max\":10}}}")
+        ).affirm();
+    }
+
+    @Test
+    void sharesUnchangedDicts() {
+        final Dict logging = new DictOf().with("level", "info");
+        new Assertion<>(
+            "must not copy an unchanged nested dict",
+            new Merged(
+                new DictOf().with("logging", logging).with("port", 80),
+                new DictOf().with("port", 8080)
+            ).value("logging", Dict.class),
+            new IsSame<>(logging)
+        ).affirm();
+    }
+
+    @Test
+    void keepsCurrentValues() {
+        new Assertion<>(
+            "must keep the current value on conflict",
+            new Merged(
+                new Keeping(),
+                new DictOf().with("port", 80),
+                new DictOf().with("port", 8080).with("host", "localhost")
+            ),
+            new IsEqual<>(
+                new DictOf().with("port", 80).with("host", "localhost")
+            )
+        ).affirm();
+    }
+
+    @Test
+    void combinesLists() {
+        new Assertion<>(
+            "must append the incoming list",
+            new Merged(
+                new CombinedLists(),
+                new DictOf().with("tags", List.of("a")),
+                new DictOf().with("tags", List.of("b", "c"))
+            ).value("tags", List.class),
+            new IsEqual<>(List.of("a", "b", "c"))
+        ).affirm();
+    }
+
+    @Test
+    void resolvesWithCustomStrategy() {
+        new Assertion<>(
+            "must resolve with a lambda, given the path",
+            new Merged(
+                (path, current, incoming) -> String.format(
+                    "%s=%s+%s", path, current, incoming
+                ),
+                new DictOf().with("a", new DictOf().with("b", 1)),
+                new DictOf().with("a", new DictOf().with("b", 2))
+            ).value("a", Dict.class).value("b", String.class),
+            new IsEqual<>("a.b=1+2")
+        ).affirm();
+    }
+}
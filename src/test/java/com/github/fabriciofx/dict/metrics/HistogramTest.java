@@ -0,0 +1,39 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.metrics;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Histogram}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class HistogramTest {
+    @Test
+    void boundsPercentiles() {
+        final Histogram histogram = new Histogram();
+        for (long value = 1; value <= 100; ++value) {
+            histogram.add(value);
+        }
+        new Assertion<>(
+            "must bound the median by a power of two",
+            histogram.percentile(50.0),
+            new IsEqual<>(63L)
+        ).affirm();
+    }
+
+    @Test
+    void returnsZeroWhenEmpty() {
+        new Assertion<>(
+            "must return zero for an empty histogram",
+            new Histogram().percentile(99.0),
+            new IsEqual<>(0L)
+        ).affirm();
+    }
+}
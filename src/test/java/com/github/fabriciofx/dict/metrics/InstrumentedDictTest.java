@@ -0,0 +1,91 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.metrics;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Matches;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link InstrumentedDict}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class InstrumentedDictTest {
+    @Test
+    void countsOperations() {
+        final Metrics metrics = new Metrics();
+        final Dict dict = new InstrumentedDict(new DictOf(), metrics)
+            .with("1", "one")
+            .with("2", "two");
+        dict.value("1", String.class);
+        new Assertion<>(
+            "must count the operations",
+            metrics.count(Operation.WITH) + metrics.count(Operation.VALUE),
+            new IsEqual<>(3L)
+        ).affirm();
+    }
+
+    @Test
+    void recordsBytesWritten() throws Exception {
+        final Metrics metrics = new Metrics();
+        new InstrumentedDict(new DictOf().with("1", "one"), metrics)
+            .asString();
+        new Assertion<>(
+            "must record the bytes written",
+            metrics.bytes(Operation.WRITE),
+            new IsEqual<>((long) "{\"1\":\"one\"}".length())
+        ).affirm();
+    }
+
+    @Test
+    void recordsParsing() {
+        final Metrics metrics = new Metrics();
+        new InstrumentedDict("{\"1\": \"one\"}", metrics).count();
+        new Assertion<>(
+            "must record the parsing",
+            metrics.latency(Operation.PARSE).count(),
+            new IsEqual<>(1L)
+        ).affirm();
+    }
+
+    @Test
+    void parsesOnlyOnce() {
+        final Metrics metrics = new Metrics();
+        final Dict dict = new InstrumentedDict("{\"1\": \"one\"}", metrics);
+        dict.count();
+        dict.value("1", String.class);
+        dict.keys();
+        new Assertion<>(
+            "must parse the JSON only once",
+            metrics.latency(Operation.PARSE).count(),
+            new IsEqual<>(1L)
+        ).affirm();
+    }
+
+    @Test
+    void measuresFailedOperations() {
+        final Metrics metrics = new Metrics();
+        final Dict dict = new InstrumentedDict(
+            new DictOf().with("1", "one"),
+            metrics
+        );
+        new Assertion<>(
+            "must fail to read a value of another type",
+            new Throws<>(ClassCastException.class),
+            new Matches<>(() -> dict.value("1", Integer.class))
+        ).affirm();
+        new Assertion<>(
+            "must measure a failed operation",
+            metrics.latency(Operation.VALUE).count(),
+            new IsEqual<>(1L)
+        ).affirm();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.offheap;
+
+import com.github.fabriciofx.dict.base.DictOf;
+import java.util.List;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Matches;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link OffHeapBuilder}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class OffHeapBuilderTest {
+    @Test
+    void buildsDictFromManyPuts() {
+        final OffHeapBuilder builder = new OffHeapBuilder(new Memory(1024));
+        for (int idx = 0; idx < 1000; ++idx) {
+            builder.put(String.format("key-%d", idx), idx);
+        }
+        try (OffHeapDict dict = builder.put(new DictOf().with("one", 1))
+            .build()) {
+            new Assertion<>(
+                "must hold all the entries put",
+                List.of(
+                    dict.count(),
+                    dict.value("key-999", Integer.class),
+                    dict.value("one", Integer.class)
+                ),
+                new IsEqual<>(List.of(1001, 999, 1))
+            ).affirm();
+        }
+    }
+
+    @Test
+    void replacesValues() {
+        final Memory memory = new Memory(1024);
+        try (OffHeapDict dict = new OffHeapBuilder(memory)
+            .put("one", 1)
+            .put("one", "One")
+            .build()) {
+            new Assertion<>(
+                "must keep the last value put",
+                List.of(dict.count(), dict.value("one", String.class)),
+                new IsEqual<>(List.of(1, "One"))
+            ).affirm();
+            new Assertion<>(
+                "must release the memory holding replaced values",
+                memory.used(),
+                new IsEqual<>(0L)
+            ).affirm();
+        }
+    }
+
+    @Test
+    void failsWhenBuilt() {
+        final OffHeapBuilder builder = new OffHeapBuilder().put("one", 1);
+        builder.build().close();
+        new Assertion<>(
+            "must fail to put after built",
+            new Throws<>(IllegalStateException.class),
+            new Matches<>(() -> builder.put("two", 2))
+        ).affirm();
+    }
+}
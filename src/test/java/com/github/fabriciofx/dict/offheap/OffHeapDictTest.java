@@ -0,0 +1,134 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.offheap;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.StreamSupport;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsText;
+import org.llorllale.cactoos.matchers.Matches;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link OffHeapDict}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class OffHeapDictTest {
+    @Test
+    void readsValues() {
+        try (OffHeapDict dict = new OffHeapDict(
+            new DictOf()
+                .with("one", "One")
+                .with("two", 2)
+                .with("three", LocalDate.of(2025, 5, 6))
+        )) {
+            new Assertion<>(
+                "must read the values off the heap",
+                List.of(
+                    dict.value("one", String.class),
+                    dict.value("two", Integer.class),
+                    dict.value("three", LocalDate.class)
+                ),
+                new IsEqual<>(List.of("One", 2, LocalDate.of(2025, 5, 6)))
+            ).affirm();
+        }
+    }
+
+    @Test
+    void holdsManyEntries() {
+        final Map<String, Object> map = new HashMap<>();
+        for (int idx = 0; idx < 10_000; ++idx) {
+            map.put(String.format("key-%d", idx), idx);
+        }
+        try (OffHeapDict dict = new OffHeapDict(
+            new DictOf(map),
+            new Memory(1024)
+        )) {
+            new Assertion<>(
+                "must hold all the keys",
+                new HashSet<>(dict.keys()),
+                new IsEqual<>(map.keySet())
+            ).affirm();
+            new Assertion<>(
+                "must find each value",
+                dict.value("key-9999", Integer.class),
+                new IsEqual<>(9999)
+            ).affirm();
+        }
+    }
+
+    @Test
+    void keepsOriginWhenAdding() {
+        try (OffHeapDict dict = new OffHeapDict(new DictOf().with("one", 1))) {
+            final Dict bigger = dict.with("two", 2).with("one", 0);
+            new Assertion<>(
+                "must add to a copy only",
+                List.of(
+                    dict.count(),
+                    bigger.count(),
+                    bigger.value("one", Integer.class)
+                ),
+                new IsEqual<>(List.of(1, 2, 0))
+            ).affirm();
+        }
+    }
+
+    @Test
+    void writesJson() {
+        try (OffHeapDict dict = new OffHeapDict(new DictOf().with("one", 1))) {
+            new Assertion<>(
+                "must write the dict as JSON",
+                dict,
+                new IsText("{\"one\":1}")
+            ).affirm();
+        }
+    }
+
+    @Test
+    void failsWhenClosed() {
+        final OffHeapDict dict = new OffHeapDict(new DictOf().with("one", 1));
+        dict.count();
+        dict.close();
+        new Assertion<>(
+            "must fail after closed",
+            new Throws<>(IllegalStateException.class),
+            new Matches<>(() -> dict.value("one", Integer.class))
+        ).affirm();
+    }
+
+    @Test
+    void streamsEntriesInParallel() {
+        final Map<String, Object> map = new HashMap<>();
+        for (int idx = 0; idx < 10_000; ++idx) {
+            map.put(String.format("key-%d", idx), idx);
+        }
+        try (OffHeapDict dict = new OffHeapDict(new DictOf(map))) {
+            final Map<String, Object> visited = new HashMap<>();
+            dict.forEach(visited::put);
+            new Assertion<>(
+                "must visit all the entries",
+                visited,
+                new IsEqual<>(map)
+            ).affirm();
+            new Assertion<>(
+                "must stream all the entries in parallel",
+                StreamSupport.stream(dict.spliterator(), true)
+                    .mapToLong(entry -> (Integer) entry.getValue())
+                    .sum(),
+                new IsEqual<>(49_995_000L)
+            ).affirm();
+        }
+    }
+}
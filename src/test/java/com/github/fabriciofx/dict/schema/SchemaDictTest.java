@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.schema;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Matches;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link SchemaDict}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class SchemaDictTest {
+    @Test
+    void readsValueBySlot() {
+        final Schema schema = new Schema()
+            .with("client", String.class)
+            .with("total", BigDecimal.class);
+        final Slot<BigDecimal> total = schema.slot("total", BigDecimal.class);
+        new Assertion<>(
+            "must read the value by its slot",
+            new SchemaDict(
+                schema,
+                new DictOf()
+                    .with("client", "Samuel Rosa")
+                    .with("total", new BigDecimal("18331.32"))
+            ).value(total),
+            new IsEqual<>(new BigDecimal("18331.32"))
+        ).affirm();
+    }
+
+    @Test
+    void writesAsJson() throws Exception {
+        final Dict dict = new SchemaDict(
+            new Schema().with("one", String.class).with("two", Double.class),
+            "One",
+            2.0
+        );
+        new Assertion<>(
+            "must write the values as JSON, in schema order",
+            dict.asString(),
+            new IsEqual<>("{\"one\":\"One\",\"two\":2.0}")
+        ).affirm();
+    }
+
+    @Test
+    void rejectsValueOfWrongType() {
+        new Assertion<>(
+            "must reject a value of a type out of the schema",
+            new Throws<>(IllegalArgumentException.class),
+            new Matches<>(
+                () -> new SchemaDict(
+                    new Schema().with("total", BigDecimal.class),
+                    new DictOf().with("total", 18331.32)
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void visitsSlotsInOrder() {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        new SchemaDict(
+            new Schema().with("one", String.class).with("two", Integer.class),
+            "One",
+            2
+        ).forEach(map::put);
+        new Assertion<>(
+            "must visit the slots in schema order",
+            map.toString(),
+            new IsEqual<>("{one=One, two=2}")
+        ).affirm();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.snapshot;
+
+import com.github.fabriciofx.dict.base.DictOf;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Journal}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class JournalTest {
+    @Test
+    void replaysEntries() throws Exception {
+        final Path file = Files.createTempFile("dict", ".journal");
+        file.toFile().deleteOnExit();
+        final Journal journal = new Journal(file);
+        journal.append("one", 1);
+        journal.append("two", 2);
+        journal.append("one", "One");
+        new Assertion<>(
+            "must replay the entries over the dict",
+            journal.replay(new DictOf().with("zero", 0)),
+            new IsEqual<>(
+                new DictOf().with("zero", 0).with("one", "One").with("two", 2)
+            )
+        ).affirm();
+    }
+
+    @Test
+    void ignoresTornTail() throws Exception {
+        final Path file = Files.createTempFile("dict", ".journal");
+        file.toFile().deleteOnExit();
+        final Journal journal = new Journal(file);
+        journal.append("one", 1);
+        final long size = Files.size(file);
+        journal.append("two", 2);
+        Files.write(
+            file,
+            new byte[] {0, 0, 0, 42, 1, 2},
+            StandardOpenOption.APPEND
+        );
+        journal.replay(new DictOf());
+        journal.append("three", 3);
+        new Assertion<>(
+            "must drop the torn record and keep appending after it",
+            journal.replay(new DictOf()),
+            new IsEqual<>(
+                new DictOf().with("one", 1).with("two", 2).with("three", 3)
+            )
+        ).affirm();
+        new Assertion<>(
+            "must keep the valid records",
+            Files.size(file) > size,
+            new IsEqual<>(true)
+        ).affirm();
+    }
+}
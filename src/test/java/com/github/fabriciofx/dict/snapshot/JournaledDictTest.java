@@ -0,0 +1,62 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.snapshot;
+
+import com.github.fabriciofx.dict.base.DictOf;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link JournaledDict}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class JournaledDictTest {
+    @Test
+    void recoversAfterRestart() throws Exception {
+        final Path dir = Files.createTempDirectory("dict");
+        dir.toFile().deleteOnExit();
+        final Snapshot snapshot = new Snapshot(dir.resolve("dict.snapshot"));
+        final Journal journal = new Journal(dir.resolve("dict.journal"));
+        snapshot.save(new DictOf().with("one", 1));
+        new JournaledDict(snapshot, journal).with("two", 2).with("three", 3);
+        new Assertion<>(
+            "must recover the snapshot and the journal",
+            new JournaledDict(snapshot, journal).count(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void compactsJournal() throws Exception {
+        final Path dir = Files.createTempDirectory("dict");
+        dir.toFile().deleteOnExit();
+        final Snapshot snapshot = new Snapshot(dir.resolve("dict.snapshot"));
+        final Journal journal = new Journal(dir.resolve("dict.journal"));
+        new JournaledDict(snapshot, journal, 64L)
+            .with("one", "One")
+            .with("two", "Two")
+            .with("three", "Three");
+        new Assertion<>(
+            "must save the snapshot when the journal grows",
+            journal.replay(snapshot.load()),
+            new IsEqual<>(
+                new DictOf()
+                    .with("one", "One")
+                    .with("two", "Two")
+                    .with("three", "Three")
+            )
+        ).affirm();
+        new Assertion<>(
+            "must clear the journal after saving the snapshot",
+            journal.size() < 64L,
+            new IsEqual<>(true)
+        ).affirm();
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.snapshot;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Matches;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Snapshot}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class SnapshotTest {
+    @Test
+    void loadsWhatSaves() throws Exception {
+        final Path file = Files.createTempFile("dict", ".snapshot");
+        file.toFile().deleteOnExit();
+        final Dict dict = new DictOf()
+            .with("one", "One")
+            .with("two", 2)
+            .with("three", LocalDate.of(2025, 5, 6))
+            .with("four", new DictOf().with("five", 5.0));
+        final Snapshot snapshot = new Snapshot(file);
+        snapshot.save(dict);
+        new Assertion<>(
+            "must load the dict it saves",
+            snapshot.load(),
+            new IsEqual<>(dict)
+        ).affirm();
+    }
+
+    @Test
+    void readsMappedEntries() throws Exception {
+        final Path file = Files.createTempFile("dict", ".snapshot");
+        file.toFile().deleteOnExit();
+        final Map<String, Object> map = new HashMap<>();
+        for (int idx = 0; idx < 10_000; ++idx) {
+            map.put(String.format("key-%d", idx), idx);
+        }
+        new Snapshot(file).save(new DictOf(map));
+        final Dict mapped = new Snapshot(file).mapped();
+        new Assertion<>(
+            "must read the entries from the mapped file",
+            List.of(
+                mapped.count(),
+                mapped.value("key-1234", Integer.class),
+                mapped.keys().contains("key-9999"),
+                mapped.keys().contains("key-10000")
+            ),
+            new IsEqual<>(List.of(10_000, 1234, true, false))
+        ).affirm();
+    }
+
+    @Test
+    void readsEntriesMappedInSegments() throws Exception {
+        final Path file = Files.createTempFile("dict", ".snapshot");
+        file.toFile().deleteOnExit();
+        final Map<String, Object> map = new HashMap<>();
+        for (int idx = 0; idx < 1000; ++idx) {
+            map.put(
+                String.format("key-%d", idx),
+                String.format("value-%d", idx)
+            );
+        }
+        new Snapshot(file).save(new DictOf(map));
+        final Dict mapped = new MappedDict(new MappedImage(file, 100));
+        new Assertion<>(
+            "must read records and slots across the mapped segments",
+            List.of(
+                mapped.count(),
+                mapped.value("key-567", String.class),
+                mapped.keys().contains("key-1000"),
+                mapped.with("key-1000", "value-1000").count()
+            ),
+            new IsEqual<>(List.of(1000, "value-567", false, 1001))
+        ).affirm();
+        new Assertion<>(
+            "must read the same entries as loaded",
+            mapped,
+            new IsEqual<>(new Snapshot(file).load())
+        ).affirm();
+    }
+
+    @Test
+    void keepsSnapshotWhenSaveFails() throws Exception {
+        final Path file = Files.createTempFile("dict", ".snapshot");
+        file.toFile().deleteOnExit();
+        final Dict dict = new DictOf().with("one", "One");
+        final Snapshot snapshot = new Snapshot(file);
+        snapshot.save(dict);
+        new Assertion<>(
+            "must reject a value it can't encode",
+            new Throws<>(IllegalArgumentException.class),
+            new Matches<>(
+                () -> {
+                    snapshot.save(new DictOf().with("two", new Object()));
+                    return true;
+                }
+            )
+        ).affirm();
+        new Assertion<>(
+            "must delete the temporary file of a failed save",
+            Files.exists(
+                file.resolveSibling(String.format("%s.tmp", file.getFileName()))
+            ),
+            new IsEqual<>(false)
+        ).affirm();
+        new Assertion<>(
+            "must keep the previous snapshot after a failed save",
+            snapshot.load(),
+            new IsEqual<>(dict)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsCorruptedSnapshot() throws Exception {
+        final Path file = Files.createTempFile("dict", ".snapshot");
+        file.toFile().deleteOnExit();
+        new Snapshot(file).save(new DictOf().with("one", "One"));
+        final byte[] bytes = Files.readAllBytes(file);
+        bytes[12] = (byte) (bytes[12] + 1);
+        Files.write(file, bytes);
+        new Assertion<>(
+            "must reject a snapshot with a bad checksum",
+            new Throws<>(IOException.class),
+            new Matches<>(() -> new Snapshot(file).load())
+        ).affirm();
+    }
+
+    @Test
+    void streamsMappedEntriesInParallel() throws Exception {
+        final Path file = Files.createTempFile("dict", ".snapshot");
+        file.toFile().deleteOnExit();
+        final Map<String, Object> map = new HashMap<>();
+        for (int idx = 0; idx < 10_000; ++idx) {
+            map.put(String.format("key-%d", idx), idx);
+        }
+        new Snapshot(file).save(new DictOf(map));
+        new Assertion<>(
+            "must stream the mapped entries in parallel",
+            StreamSupport.stream(
+                new Snapshot(file).mapped().spliterator(),
+                true
+            ).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)),
+            new IsEqual<>(map)
+        ).affirm();
+    }
+}
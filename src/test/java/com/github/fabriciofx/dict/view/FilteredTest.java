@@ -0,0 +1,52 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.view;
+
+import com.github.fabriciofx.dict.base.DictOf;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Filtered}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class FilteredTest {
+    @Test
+    void filtersEntries() {
+        new Assertion<>(
+            "must keep only the accepted entries",
+            new Materialized(
+                new Filtered(
+                    new DictOf()
+                        .with("1", "one")
+                        .with("2", 2)
+                        .with("3", "three"),
+                    (key, value) -> value instanceof String
+                )
+            ),
+            new IsEqual<>(new DictOf().with("1", "one").with("3", "three"))
+        ).affirm();
+    }
+
+    @Test
+    void filtersEntriesInOnePass() {
+        new Assertion<>(
+            "must give only the accepted entries",
+            new HashSet<>(
+                new Filtered(
+                    new DictOf().with("a", 1).with("b", 2).with("c", 3),
+                    (key, value) -> (Integer) value % 2 == 1
+                ).entries()
+            ),
+            new IsEqual<>(Set.of(Map.entry("a", 1), Map.entry("c", 3)))
+        ).affirm();
+    }
+}
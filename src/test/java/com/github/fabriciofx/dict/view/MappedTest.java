@@ -0,0 +1,30 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.view;
+
+import com.github.fabriciofx.dict.base.DictOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Mapped}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class MappedTest {
+    @Test
+    void mapsValues() {
+        new Assertion<>(
+            "must map the value when it is read",
+            new Mapped(
+                new DictOf().with("price", 58.95),
+                value -> (Double) value * 2
+            ).value("price", Double.class),
+            new IsEqual<>(117.9)
+        ).affirm();
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.view;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import org.cactoos.set.SetOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Projected}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class ProjectedTest {
+    @Test
+    void projectsKeys() {
+        final Dict dict = new DictOf()
+            .with("1", "one")
+            .with("2", "two")
+            .with("3", "three");
+        new Assertion<>(
+            "must keep only the projected keys that exist",
+            new Projected(dict, "1", "3", "4").keys(),
+            new IsEqual<>(new SetOf<>("1", "3"))
+        ).affirm();
+    }
+}
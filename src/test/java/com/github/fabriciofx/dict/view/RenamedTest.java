@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.view;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Matches;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Renamed}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class RenamedTest {
+    @Test
+    void renamesKey() {
+        final Dict dict = new DictOf()
+            .with("client", "Samuel Rosa")
+            .with("cpf", "25066158065");
+        new Assertion<>(
+            "must read the value by the new key name",
+            new Materialized(new Renamed(dict, "client", "name")),
+            new IsEqual<>(
+                new DictOf()
+                    .with("name", "Samuel Rosa")
+                    .with("cpf", "25066158065")
+            )
+        ).affirm();
+    }
+
+    @Test
+    void hidesKeyRenamedOnto() {
+        final Dict renamed = new Renamed(
+            new DictOf().with("a", 1).with("b", 2).with("c", 3),
+            "a",
+            "b"
+        );
+        new Assertion<>(
+            "must hide the original key with the new name",
+            List.of(
+                new HashSet<>(renamed.keys()),
+                renamed.keys().size(),
+                renamed.count(),
+                renamed.value("b", Integer.class),
+                new HashSet<>(renamed.values()),
+                new Materialized(renamed)
+            ),
+            new IsEqual<>(
+                List.of(
+                    Set.of("b", "c"),
+                    2,
+                    2,
+                    1,
+                    Set.of(1, 3),
+                    new DictOf().with("b", 1).with("c", 3)
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void rejectsKeysRenamedToSameName() {
+        new Assertion<>(
+            "must reject two keys renamed to the same name",
+            new Throws<>(IllegalArgumentException.class),
+            new Matches<>(
+                () -> new Renamed(
+                    new DictOf().with("client", "Samuel").with("cpf", "250"),
+                    Map.of("client", "name", "cpf", "name")
+                )
+            )
+        ).affirm();
+    }
+}
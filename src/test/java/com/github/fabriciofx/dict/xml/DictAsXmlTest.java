@@ -82,4 +82,13 @@ final class DictAsXmlTest {
             )
         ).affirm();
     }
+
+    @Test
+    void convertsEmptyDictToEmptyXml() throws Exception {
+        new Assertion<>(
+            "must convert an empty Dict to an empty XML",
+            new DictAsXml(new DictOf()),
+            new IsText("")
+        ).affirm();
+    }
 }
@@ -0,0 +1,151 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (C) 2025-2026 Fabrício Barros Cabral
+ * SPDX-License-Identifier: MIT
+ */
+package com.github.fabriciofx.dict.xml;
+
+import com.github.fabriciofx.dict.Dict;
+import com.github.fabriciofx.dict.base.DictOf;
+import com.github.fabriciofx.dict.json.Limits;
+import java.util.List;
+import org.cactoos.io.InputOf;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Matches;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link XmlAsDict}.
+ *
+ * @since 0.0.42
+ */
+@SuppressWarnings({"PMD.UnnecessaryLocalRule", "PMD.UnitTestShouldIncludeAssert"})
+final class XmlAsDictTest {
+    @Test
+    void convertsXmlToDict() {
+        new Assertion<>(
+            "must convert XML with nested elements to Dict",
+            new XmlAsDict(
+                """
+                <client><name>Branco Mello</name><birth>1962-03-16</birth>\
+                <address><city>João Pessoa</city><state>PB</state>\
+                <complement></complement></address></client>\
+                """
+            ),
+            new IsEqual<>(
+                new DictOf()
+                    .with("name", "Branco Mello")
+                    .with("birth", "1962-03-16")
+                    .with(
+                        "address",
+                        new DictOf()
+                            .with("city", "João Pessoa")
+                            .with("state", "PB")
+                            .with("complement", "")
+                    )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void convertsRepeatedElementsToList() {
+        final Dict dict = new XmlAsDict(
+            """
+            <list><items><item>1</item><item>2</item><item>3</item>\
+            </items></list>\
+            """
+        );
+        new Assertion<>(
+            "must convert repeated XML elements to List",
+            dict.value("items", Dict.class).value("item", List.class),
+            new IsEqual<>(new ListOf<>("1", "2", "3"))
+        ).affirm();
+    }
+
+    @Test
+    void readsDocumentWithDeclaration() {
+        new Assertion<>(
+            "must read a document with a XML declaration and a DOCTYPE",
+            new XmlAsDict(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <!DOCTYPE band>
+                <band>
+                  <name>Titãs</name>
+                  <city>São Paulo</city>
+                </band>
+                """
+            ),
+            new IsEqual<>(
+                new DictOf().with("name", "Titãs").with("city", "São Paulo")
+            )
+        ).affirm();
+    }
+
+    @Test
+    void readsAttributesAndMixedText() {
+        new Assertion<>(
+            "must read attributes and text mixed with them",
+            new XmlAsDict(
+                """
+                <band formed="1982"><member role="vocals">Branco Mello\
+                </member></band>\
+                """
+            ),
+            new IsEqual<>(
+                new DictOf()
+                    .with("formed", "1982")
+                    .with(
+                        "member",
+                        new DictOf()
+                            .with("role", "vocals")
+                            .with("", "Branco Mello")
+                    )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void readsEmptyElements() {
+        new Assertion<>(
+            "must read empty elements as empty strings",
+            new XmlAsDict("<band><name/><city></city></band>"),
+            new IsEqual<>(new DictOf().with("name", "").with("city", ""))
+        ).affirm();
+    }
+
+    @Test
+    void rejectsMalformedXml() {
+        new Assertion<>(
+            "must reject a malformed XML",
+            new Throws<>(RuntimeException.class),
+            new Matches<>(
+                () -> new XmlAsDict("<band><name>Titãs</band>").keys()
+            )
+        ).affirm();
+    }
+
+    @Test
+    void rejectsXmlOverLimits() {
+        new Assertion<>(
+            "must reject a XML deeper than the limit",
+            new Throws<>(RuntimeException.class),
+            new Matches<>(
+                () -> new XmlAsDict(
+                    new InputOf("<a><b><c><d>1</d></c></b></a>"),
+                    new Limits(Long.MAX_VALUE, 10, 3, 10)
+                ).keys()
+            )
+        ).affirm();
+        new Assertion<>(
+            "must read a XML within the limits",
+            new XmlAsDict(
+                new InputOf("<a><b><c>1</c></b></a>"),
+                new Limits(Long.MAX_VALUE, 10, 3, 10)
+            ).value("b", Dict.class).value("c", String.class),
+            new IsEqual<>("1")
+        ).affirm();
+    }
+}